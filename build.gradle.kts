@@ -14,6 +14,7 @@
  * limitations under the License.
  */
 import com.github.benmanes.gradle.versions.updates.DependencyUpdatesTask
+import com.github.dkorotych.gradle.maven.exec.generator.MavenSourcesGeneratorPlugin
 import com.github.dkorotych.gradle.maven.exec.test.MavenTestHelperPlugin
 import java.util.*
 
@@ -29,9 +30,11 @@ plugins {
     alias(libs.plugins.info)
     alias(libs.plugins.rewrite)
     alias(libs.plugins.sonarqube)
+    alias(libs.plugins.jmh)
 }
 
 apply {
+    plugin(MavenSourcesGeneratorPlugin::class)
     plugin(MavenTestHelperPlugin::class)
 }
 
@@ -88,6 +91,17 @@ testing {
     suites {
         val test by getting(JvmTestSuite::class) {
             useJUnitJupiter()
+            targets {
+                all {
+                    testTask.configure {
+                        val mavenUserHome = layout.buildDirectory.dir("tmp/maven-user-home").get().asFile
+                        doFirst {
+                            mavenUserHome.mkdirs()
+                        }
+                        environment("MAVEN_USER_HOME", mavenUserHome.absolutePath)
+                    }
+                }
+            }
         }
         val functionalTest by registering(JvmTestSuite::class) {
             dependencies {
@@ -107,6 +121,10 @@ testing {
 
 gradlePlugin.testSourceSets.add(sourceSets["functionalTest"])
 
+jmh {
+    jmhVersion = libs.versions.jmh
+}
+
 tasks.named<Task>("check") {
     dependsOn(testing.suites.named("functionalTest"))
 }
@@ -134,6 +152,9 @@ license {
     skipExistingHeaders = true
     strictCheck = true
     exclude("**/fixtures/**")
+    exclude("**/options-catalog.properties")
+    exclude("**/MavenOptionsTable.java")
+    exclude("**/MavenOptionsSnapshot.java")
 }
 
 tasks.named<Javadoc>("javadoc").configure {
@@ -0,0 +1,274 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec.generator;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@SuppressWarnings("MissingJavadocType")
+public class GenerateMavenOptionsSourcesTask extends DefaultTask {
+    private static final Pattern PACKAGE = Pattern.compile("(?m)^package\\s+([\\w.]+);");
+    private static final Pattern GETTER = Pattern.compile(
+            "(?m)^ {4}(boolean|String|File|String\\[]|Map<String, String>) (is|get)([A-Z]\\w*)\\(\\);$");
+    private static final Pattern ANY_GETTER = Pattern.compile(
+            "(?m)^(?!\\s*return\\b)[^\\n(=]*\\b(?:is|get)[A-Z]\\w*\\(\\)\\s*;");
+    private static final Map<String, String> KINDS = Map.of(
+            "String", "STRING",
+            "File", "FILE",
+            "String[]", "STRING_ARRAY",
+            "Map<String, String>", "DEFINE");
+    private static final String INDENT = "    ";
+
+    private File optionsFile;
+    private File outputDirectory;
+
+    static void generate(final Path options, final Path output) throws IOException {
+        final String source = Files.readString(options, UTF_8);
+        final Matcher packageMatcher = PACKAGE.matcher(source);
+        if (!packageMatcher.find()) {
+            throw new IOException("Package declaration is not found in " + options);
+        }
+        final String packageName = packageMatcher.group(1);
+        final List<Option> list = new ArrayList<>();
+        final Matcher matcher = GETTER.matcher(source);
+        while (matcher.find()) {
+            final String name = decapitalize(matcher.group(3));
+            list.add(new Option(name, toOption(name), matcher.group(1), matcher.group(2) + matcher.group(3)));
+        }
+        if (list.isEmpty()) {
+            throw new IOException("Options are not found in " + options);
+        }
+        final long getters = ANY_GETTER.matcher(source).results().count();
+        if (getters != list.size()) {
+            throw new IOException("Found " + getters + " getters in " + options + ", but only " + list.size()
+                    + " of them have the supported format: four spaces, one of the types boolean, String, File,"
+                    + " String[] or Map<String, String>, and the declaration on a single line");
+        }
+        list.sort(Comparator.comparing(Option::name));
+        final Path directory = output.resolve(packageName.replace('.', '/'));
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("MavenOptionsTable.java"), createTable(packageName, list), UTF_8);
+        Files.writeString(directory.resolve("MavenOptionsSnapshot.java"), createSnapshot(packageName, list), UTF_8);
+    }
+
+    private static String createTable(final String packageName, final List<Option> options) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("package ").append(packageName).append(";\n\n")
+                .append("import com.github.dkorotych.gradle.maven.MavenOptionsCodec.Kind;\n")
+                .append("import com.github.dkorotych.gradle.maven.MavenOptionsCodec.Property;\n\n")
+                .append("import java.util.List;\n\n")
+                .append("/**\n")
+                .append(" * Options of {@link MavenOptions} with their command line flags, sorted by the property")
+                .append(" name.\n")
+                .append(" * Generated from MavenOptions.java by the generateMavenOptionsSources task, do not edit.\n")
+                .append(" */\n")
+                .append("final class MavenOptionsTable {\n")
+                .append(INDENT).append("static final List<Property> PROPERTIES = List.of(\n");
+        for (int i = 0; i < options.size(); i++) {
+            final Option option = options.get(i);
+            builder.append(INDENT).append(INDENT).append(INDENT);
+            if ("boolean".equals(option.type())) {
+                builder.append("Property.flag(\"").append(option.name()).append("\", \"")
+                        .append(option.option()).append("\",\n");
+            } else {
+                builder.append("Property.value(\"").append(option.name()).append("\", \"")
+                        .append(option.option()).append("\", Kind.")
+                        .append(KINDS.get(option.type())).append(",\n");
+            }
+            builder.append(INDENT).append(INDENT).append(INDENT).append(INDENT).append(INDENT)
+                    .append("MavenOptions::").append(option.getter()).append(')')
+                    .append(i < options.size() - 1 ? ",\n" : ");\n");
+        }
+        builder.append('\n')
+                .append(INDENT).append("private MavenOptionsTable() {\n")
+                .append(INDENT).append("}\n")
+                .append("}\n");
+        return builder.toString();
+    }
+
+    @SuppressWarnings("checkstyle:MethodLength")
+    private static String createSnapshot(final String packageName, final List<Option> options) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("package ").append(packageName).append(";\n\n")
+                .append("import java.io.File;\n")
+                .append("import java.util.Arrays;\n")
+                .append("import java.util.Collections;\n")
+                .append("import java.util.LinkedHashMap;\n")
+                .append("import java.util.Map;\n")
+                .append("import java.util.Objects;\n\n")
+                .append("/**\n")
+                .append(" * Immutable copy of {@link MavenOptions}, which can be compared and used as a cache key.\n")
+                .append(" * Generated from MavenOptions.java by the generateMavenOptionsSources task, do not edit.\n")
+                .append(" */\n")
+                .append("@SuppressWarnings({\"checkstyle:CyclomaticComplexity\", \"PMD.CognitiveComplexity\",")
+                .append(" \"PMD.NPathComplexity\"})\n")
+                .append("public final class MavenOptionsSnapshot {\n");
+        for (Option option : options) {
+            builder.append(INDENT).append("private final ").append(option.type()).append(' ')
+                    .append(option.name()).append(";\n");
+        }
+        builder.append('\n')
+                .append(INDENT).append("private MavenOptionsSnapshot(final MavenOptions options) {\n");
+        for (Option option : options) {
+            final String value = "options." + option.getter() + "()";
+            builder.append(INDENT).append(INDENT).append(option.name()).append(" = ");
+            switch (option.type()) {
+                case "String[]" -> builder.append(value).append(" == null ? null : ").append(value)
+                        .append(".clone();\n");
+                case "Map<String, String>" -> builder.append(value).append(" == null\n")
+                        .append(INDENT).append(INDENT).append(INDENT).append(INDENT).append("? null\n")
+                        .append(INDENT).append(INDENT).append(INDENT).append(INDENT)
+                        .append(": Collections.unmodifiableMap(new LinkedHashMap<>(").append(value).append("));\n");
+                default -> builder.append(value).append(";\n");
+            }
+        }
+        builder.append(INDENT).append("}\n\n")
+                .append(INDENT).append("/**\n")
+                .append(INDENT).append(" * Create a snapshot of the current option values.\n")
+                .append(INDENT).append(" *\n")
+                .append(INDENT).append(" * @param options Maven options\n")
+                .append(INDENT).append(" * @return Options snapshot\n")
+                .append(INDENT).append(" */\n")
+                .append(INDENT).append("public static MavenOptionsSnapshot of(final MavenOptions options) {\n")
+                .append(INDENT).append(INDENT)
+                .append("return new MavenOptionsSnapshot(Objects.requireNonNull(options, ")
+                .append("\"Maven options should be not null\"));\n")
+                .append(INDENT).append("}\n\n")
+                .append(INDENT).append("@Override\n")
+                .append(INDENT).append("public boolean equals(final Object object) {\n")
+                .append(INDENT).append(INDENT).append("if (this == object) {\n")
+                .append(INDENT).append(INDENT).append(INDENT).append("return true;\n")
+                .append(INDENT).append(INDENT).append("}\n")
+                .append(INDENT).append(INDENT).append("if (!(object instanceof MavenOptionsSnapshot other)) {\n")
+                .append(INDENT).append(INDENT).append(INDENT).append("return false;\n")
+                .append(INDENT).append(INDENT).append("}\n")
+                .append(INDENT).append(INDENT).append("return ");
+        for (int i = 0; i < options.size(); i++) {
+            final Option option = options.get(i);
+            if (i > 0) {
+                builder.append('\n').append(INDENT).append(INDENT).append(INDENT).append(INDENT).append("&& ");
+            }
+            switch (option.type()) {
+                case "boolean" -> builder.append(option.name()).append(" == other.").append(option.name());
+                case "String[]" -> builder.append("Arrays.equals(").append(option.name()).append(", other.")
+                        .append(option.name()).append(')');
+                default -> builder.append("Objects.equals(").append(option.name()).append(", other.")
+                        .append(option.name()).append(')');
+            }
+        }
+        builder.append(";\n")
+                .append(INDENT).append("}\n\n")
+                .append(INDENT).append("@Override\n")
+                .append(INDENT).append("public int hashCode() {\n")
+                .append(INDENT).append(INDENT).append("int result = 1;\n");
+        for (Option option : options) {
+            builder.append(INDENT).append(INDENT).append("result = 31 * result + ");
+            switch (option.type()) {
+                case "boolean" -> builder.append("Boolean.hashCode(").append(option.name()).append(')');
+                case "String[]" -> builder.append("Arrays.hashCode(").append(option.name()).append(')');
+                default -> builder.append("Objects.hashCode(").append(option.name()).append(')');
+            }
+            builder.append(";\n");
+        }
+        builder.append(INDENT).append(INDENT).append("return result;\n")
+                .append(INDENT).append("}\n\n")
+                .append(INDENT).append("@Override\n")
+                .append(INDENT).append("public String toString() {\n")
+                .append(INDENT).append(INDENT).append("return \"MavenOptionsSnapshot{\"");
+        for (int i = 0; i < options.size(); i++) {
+            final Option option = options.get(i);
+            builder.append('\n').append(INDENT).append(INDENT).append(INDENT).append(INDENT)
+                    .append("+ \"").append(i > 0 ? ", " : "").append(option.name()).append("=\" + ");
+            if ("String[]".equals(option.type())) {
+                builder.append("Arrays.toString(").append(option.name()).append(')');
+            } else {
+                builder.append(option.name());
+            }
+        }
+        builder.append("\n").append(INDENT).append(INDENT).append(INDENT).append(INDENT).append("+ '}';\n")
+                .append(INDENT).append("}\n")
+                .append("}\n");
+        return builder.toString();
+    }
+
+    private static String decapitalize(final String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String toOption(final String name) {
+        final StringBuilder option = new StringBuilder("--");
+        for (char character : name.toCharArray()) {
+            if (Character.isUpperCase(character)) {
+                option.append('-').append(Character.toLowerCase(character));
+            } else {
+                option.append(character);
+            }
+        }
+        return option.toString();
+    }
+
+    @InputFile
+    @PathSensitive(PathSensitivity.NONE)
+    public File getOptionsFile() {
+        return optionsFile;
+    }
+
+    public void setOptionsFile(final File optionsFile) {
+        this.optionsFile = optionsFile;
+    }
+
+    @OutputDirectory
+    public File getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    public void setOutputDirectory(final File outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+
+    @TaskAction
+    public void generate() {
+        try {
+            generate(optionsFile.toPath(), outputDirectory.toPath());
+        } catch (IOException e) {
+            throw new GradleException("Can't generate Maven options sources", e);
+        }
+    }
+
+    private record Option(String name, String option, String type, String getter) {
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec.generator;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.FileTree;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.util.internal.VersionNumber;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@SuppressWarnings("MissingJavadocType")
+public class GenerateOptionsCatalogTask extends DefaultTask {
+    private static final String CATALOG = "com/github/dkorotych/gradle/maven/options-catalog.properties";
+
+    private File fixturesDirectory;
+    private File outputDirectory;
+
+    static void generate(final Path fixtures, final Path output) throws IOException {
+        final Path catalog = output.resolve(CATALOG);
+        final Map<String, Set<String>> versions = new TreeMap<>(
+                Comparator.comparing(VersionNumber::parse).thenComparing(Comparator.naturalOrder()));
+        try (Stream<Path> directories = Files.list(fixtures)) {
+            for (Path directory : directories.filter(Files::isDirectory).toList()) {
+                final Path options = directory.resolve("options.txt");
+                if (Files.isRegularFile(options)) {
+                    try (Stream<String> lines = Files.lines(options, UTF_8)) {
+                        versions.put(directory.getFileName().toString(), lines.map(String::trim)
+                                .filter(((Predicate<String>) String::isEmpty).negate())
+                                .collect(Collectors.toCollection(TreeSet::new)));
+                    }
+                }
+            }
+        }
+        final List<Set<String>> optionSets = new ArrayList<>();
+        final Map<String, Integer> index = new LinkedHashMap<>();
+        versions.forEach((version, options) -> {
+            int position = optionSets.indexOf(options);
+            if (position < 0) {
+                optionSets.add(options);
+                position = optionSets.size() - 1;
+            }
+            index.put(version, position + 1);
+        });
+        Files.createDirectories(catalog.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(catalog, UTF_8)) {
+            writer.write("# Supported command line options of the Maven versions.");
+            writer.newLine();
+            writer.write("# Generated from src/test/resources/fixtures/descriptor by the generateOptionsCatalog task.");
+            writer.newLine();
+            writer.write("catalog.version=1");
+            writer.newLine();
+            for (int i = 0; i < optionSets.size(); i++) {
+                writer.write("options." + (i + 1) + '=' + String.join(",", optionSets.get(i)));
+                writer.newLine();
+            }
+            for (Map.Entry<String, Integer> entry : index.entrySet()) {
+                writer.write("version." + entry.getKey() + '=' + entry.getValue());
+                writer.newLine();
+            }
+        }
+    }
+
+    @Internal
+    public File getFixturesDirectory() {
+        return fixturesDirectory;
+    }
+
+    public void setFixturesDirectory(final File fixturesDirectory) {
+        this.fixturesDirectory = fixturesDirectory;
+    }
+
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public FileTree getOptionFiles() {
+        return getProject().fileTree(fixturesDirectory, tree -> tree.include("*/options.txt"));
+    }
+
+    @OutputDirectory
+    public File getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    public void setOutputDirectory(final File outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+
+    @TaskAction
+    public void generate() {
+        try {
+            generate(fixturesDirectory.toPath(), outputDirectory.toPath());
+        } catch (IOException e) {
+            throw new GradleException("Can't create options catalog", e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec.generator;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.file.ProjectLayout;
+import org.gradle.api.plugins.JavaPlugin;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.SourceSetContainer;
+import org.gradle.api.tasks.TaskContainer;
+import org.gradle.api.tasks.TaskProvider;
+
+@SuppressWarnings("MissingJavadocType")
+public class MavenSourcesGeneratorPlugin implements Plugin<Project> {
+    @Override
+    public void apply(final Project project) {
+        final TaskContainer tasks = project.getTasks();
+        final ProjectLayout layout = project.getLayout();
+        final TaskProvider<GenerateOptionsCatalogTask> generateOptionsCatalog = tasks.register(
+                "generateOptionsCatalog", GenerateOptionsCatalogTask.class, task -> {
+                    task.setFixturesDirectory(project.file("src/test/resources/fixtures/descriptor"));
+                    task.setOutputDirectory(layout.getBuildDirectory()
+                            .dir("generated/resources/optionsCatalog/main").get().getAsFile());
+                });
+        final TaskProvider<GenerateMavenOptionsSourcesTask> generateMavenOptionsSources = tasks.register(
+                "generateMavenOptionsSources", GenerateMavenOptionsSourcesTask.class, task -> {
+                    task.setOptionsFile(
+                            project.file("src/main/java/com/github/dkorotych/gradle/maven/MavenOptions.java"));
+                    task.setOutputDirectory(layout.getBuildDirectory()
+                            .dir("generated/sources/mavenOptions/java/main").get().getAsFile());
+                });
+        project.getPlugins().withType(JavaPlugin.class, plugin -> project.getExtensions()
+                .getByType(SourceSetContainer.class)
+                .named(SourceSet.MAIN_SOURCE_SET_NAME)
+                .configure(sourceSet -> {
+                    sourceSet.getJava().srcDir(generateMavenOptionsSources);
+                    sourceSet.getResources().srcDir(generateOptionsCatalog);
+                }));
+    }
+}
@@ -15,6 +15,7 @@
  */
 package com.github.dkorotych.gradle.maven.exec.test;
 
+import com.github.dkorotych.gradle.maven.exec.generator.GenerateOptionsCatalogTask;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
@@ -53,6 +54,8 @@ public class MavenTestHelperPlugin implements Plugin<Project> {
     public void apply(final Project project) {
         final TaskContainer tasks = project.getTasks();
         final TaskProvider<Task> prepareTestEnvironments = tasks.register("prepareTestEnvironments");
+        tasks.withType(GenerateOptionsCatalogTask.class)
+                .configureEach(task -> task.mustRunAfter(prepareTestEnvironments));
         final boolean windows = OperatingSystem.current().isWindows();
         final VersionNumber minSupportedVersionForWindows = VersionNumber.version(3, 5);
         for (String version : SUPPORTED_MAVEN_VERSIONS) {
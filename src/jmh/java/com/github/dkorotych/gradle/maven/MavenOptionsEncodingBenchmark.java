@@ -0,0 +1,172 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Compares {@link MavenOptionsToCommandLineAdapter}, which encodes the options with {@link MavenOptionsCodec}, with
+ * the reflective encoding which the adapter used before: bean introspection of {@link DefaultMavenOptions} for every
+ * adapter, {@link Method#invoke(Object, Object...)} for every property and a regular expression for every flag.
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MavenOptionsEncodingBenchmark {
+    private static final Pattern OPTION_PATTERN = Pattern.compile("(\\p{Upper})");
+
+    private MavenOptions options;
+    private Set<String> supportedOptions;
+
+    /**
+     * Create the options with seven supported options set.
+     */
+    @Setup
+    public void setUp() {
+        final DefaultMavenOptions mavenOptions = new DefaultMavenOptions();
+        mavenOptions.setBatchMode(true);
+        mavenOptions.setOffline(true);
+        mavenOptions.setThreads("2C");
+        mavenOptions.setFile(new File("pom.xml"));
+        mavenOptions.setProjects(new String[]{"core", "web"});
+        mavenOptions.setActivateProfiles(new String[]{"ci"});
+        mavenOptions.setDefine(Map.of("skipTests", "true", "message", "Hello world"));
+        options = mavenOptions;
+        supportedOptions = Set.of("--batch-mode", "--offline", "--threads", "--file", "--projects",
+                "--activate-profiles", "--define");
+        final List<String> codec = codec();
+        final List<String> reflective = reflective();
+        if (!codec.equals(reflective)) {
+            throw new IllegalStateException("Command lines differ: " + codec + " and " + reflective);
+        }
+    }
+
+    /**
+     * Encode the options with the codec.
+     *
+     * @return Command line
+     */
+    @Benchmark
+    public List<String> codec() {
+        return new MavenOptionsToCommandLineAdapter(options, supportedOptions).asCommandLine();
+    }
+
+    /**
+     * Encode the options with the reflective encoding.
+     *
+     * @return Command line
+     */
+    @Benchmark
+    public List<String> reflective() {
+        final List<PropertyDescriptor> descriptors;
+        try {
+            descriptors = Arrays.stream(Introspector.getBeanInfo(DefaultMavenOptions.class, Object.class)
+                            .getPropertyDescriptors())
+                    .filter(descriptor -> supportedOptions.contains(createOption(descriptor.getName())))
+                    .filter(descriptor -> descriptor.getReadMethod() != null)
+                    .sorted(Comparator.comparing(PropertyDescriptor::getName))
+                    .toList();
+        } catch (IntrospectionException e) {
+            throw new IllegalStateException(e);
+        }
+        final List<String> arguments = new ArrayList<>();
+        for (PropertyDescriptor descriptor : descriptors) {
+            final Object value = read(descriptor.getReadMethod());
+            final Class<?> type = descriptor.getPropertyType();
+            if (type == boolean.class) {
+                if (Boolean.TRUE.equals(value)) {
+                    arguments.add(createOption(descriptor.getName()));
+                }
+            } else if (type == Map.class) {
+                addDefine(options.getDefine(), arguments);
+            } else if (value != null) {
+                final String string;
+                if (value instanceof File file) {
+                    string = file.getAbsolutePath();
+                } else if (value instanceof String[] array) {
+                    string = Arrays.stream(array)
+                            .filter(StringUtils::isNotBlank)
+                            .collect(Collectors.joining(","));
+                } else {
+                    string = value.toString();
+                }
+                if (StringUtils.isNotBlank(string)) {
+                    arguments.add(createOption(descriptor.getName()));
+                    arguments.add(doubleQuoteIfNecessary(string));
+                }
+            }
+        }
+        return Collections.unmodifiableList(arguments);
+    }
+
+    private Object read(final Method method) {
+        try {
+            return method.invoke(options);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String createOption(final String property) {
+        return "--" + OPTION_PATTERN.matcher(property)
+                .replaceAll("-$1")
+                .toLowerCase(Locale.ENGLISH);
+    }
+
+    private static void addDefine(final Map<String, String> define, final List<String> arguments) {
+        if (define != null) {
+            define.entrySet().stream()
+                    .filter(entry -> StringUtils.isNotBlank(entry.getKey()) && StringUtils.isNotBlank(entry.getValue()))
+                    .map(entry -> "-D" + entry.getKey() + '=' + doubleQuoteIfNecessary(entry.getValue()))
+                    .forEach(arguments::add);
+        }
+    }
+
+    private static String doubleQuoteIfNecessary(final String value) {
+        if (StringUtils.containsWhitespace(value) && !value.startsWith("\"")) {
+            return '"' + value + '"';
+        }
+        return value;
+    }
+}
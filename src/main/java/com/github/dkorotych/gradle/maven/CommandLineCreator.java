@@ -15,15 +15,25 @@
  */
 package com.github.dkorotych.gradle.maven;
 
+import com.github.dkorotych.gradle.maven.exec.ExecOperationsInstanceHolder;
+import com.github.dkorotych.gradle.maven.exec.MavenExecLimiter;
+import com.github.dkorotych.gradle.maven.exec.MavenExecPlugin;
 import com.github.dkorotych.gradle.maven.exec.MavenExecSpec;
+import com.github.dkorotych.gradle.maven.exec.MavenExecutionMode;
+import com.github.dkorotych.gradle.maven.exec.MavenRegistryService;
+import com.github.dkorotych.gradle.maven.locator.MavenLocatorContext;
+import org.apache.commons.lang3.StringUtils;
 import org.gradle.api.GradleException;
 import org.gradle.api.Project;
 import org.gradle.api.logging.Logger;
+import org.gradle.process.ExecOperations;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -34,13 +44,18 @@ import java.util.Optional;
  * @author Dmitry Korotych (dkorotych at gmail dot com).
  */
 public final class CommandLineCreator {
+    private static final String THREADS = MavenOptionsCodec.toOption("threads");
+
     private final MavenExecSpec specification;
     private final Project project;
     private final Logger logger;
-    private final MavenHomeProvider mavenHomeProvider;
+    private final MavenRegistryService registry;
 
     private String executable;
     private List<String> arguments;
+    private MavenArgumentsSpill argumentsSpill;
+    private Path mavenHome;
+    private boolean directLaunch;
 
     /**
      * Create Maven command line builder.
@@ -52,11 +67,7 @@ public final class CommandLineCreator {
         this.specification = Objects.requireNonNull(specification, "Specification should be not null");
         this.project = Objects.requireNonNull(project, "Project should be not null");
         logger = project.getLogger();
-        mavenHomeProvider = new MavenHomeProvider();
-        final File mavenDir = specification.getMavenDir();
-        if (mavenDir != null) {
-            mavenHomeProvider.setMavenHome(mavenDir);
-        }
+        registry = MavenRegistryService.of(project);
         prepareCommandLine();
     }
 
@@ -80,59 +91,173 @@ public final class CommandLineCreator {
         return arguments;
     }
 
+    /**
+     * Options which were moved out of the command line. The environment and the configuration overlay of the result
+     * should be applied to the Maven process.
+     *
+     * @return Moved options
+     * @see MavenExecPlugin#SPILL_ARGUMENTS_PROPERTY
+     */
+    public MavenArgumentsSpill getArgumentsSpill() {
+        return argumentsSpill;
+    }
+
+    /**
+     * Located Maven installation directory, which can also be a project directory with the Maven wrapper.
+     *
+     * @return Maven installation directory
+     */
+    public Path getMavenHome() {
+        return mavenHome;
+    }
+
+    /**
+     * Check whether the executable is the Java launcher, which starts Maven without the script. The arguments start
+     * with the JVM options in this case.
+     *
+     * @return {@code true} if the JVM of Maven is launched directly
+     * @see MavenExecutionMode#DIRECT
+     */
+    public boolean isDirectLaunch() {
+        return directLaunch;
+    }
+
     private void prepareCommandLine() {
-        if (getMavenDir() == null) {
+        final File mavenDir = specification.getMavenDir();
+        if (mavenDir == null) {
             //CHECKSTYLE:OFF
             logger.info("""
                     The directory with the executable Maven file is not set. \
                     The plugin will try to find the installation by itself\
                     """);
             //CHECKSTYLE:ON
-            findMavenExecutable();
-            if (getMavenDir() == null) {
-                throw new GradleException("Maven installation not found");
-            } else {
-                if (logger.isInfoEnabled()) {
-                    logger.info("Use Maven from: {}", getMavenDir());
-                }
+        }
+        final MavenLocatorContext context = MavenLocatorContext.of(registry.getDiscovery(), specification, project);
+        final MavenArgumentsSpill.Mode mode = MavenArgumentsSpill.Mode.parse(
+                project.findProperty(MavenExecPlugin.SPILL_ARGUMENTS_PROPERTY));
+        final String threads = getThreads();
+        final MavenCommandLineCache.Key key = new MavenCommandLineCache.Key(
+                MavenOptionsSnapshot.of(specification.getOptions()), List.copyOf(specification.getGoals()),
+                mavenDir, context.getDirectories(), mode, specification.getExecutionMode(), getLaunchEnvironment(),
+                threads);
+        final MavenCommandLineCache.Entry entry = registry.getCommandLineCache()
+                .get(key, () -> createCommandLine(context, mode, threads));
+        if (mavenDir == null) {
+            if (logger.isInfoEnabled()) {
+                logger.info("Use Maven from: {}", entry.mavenHome());
+            }
+            if (entry.local()) {
+                specification.setMavenDir(entry.mavenHome().toFile());
             }
         }
-        final Path mavenHome = Optional.ofNullable(getMavenDir())
-                .map(File::toPath)
-                .orElse(null);
+        executable = entry.executable();
+        arguments = new ArrayList<>(entry.arguments());
+        argumentsSpill = entry.argumentsSpill();
+        mavenHome = entry.mavenHome();
+        directLaunch = entry.directLaunch();
+    }
+
+    private MavenCommandLineCache.Entry createCommandLine(final MavenLocatorContext context,
+                                                          final MavenArgumentsSpill.Mode mode, final String threads) {
+        final Path mavenHome = registry.getLocatorChain()
+                .locate(context)
+                .orElseThrow(() -> new GradleException("Maven installation not found"));
+        final boolean local = context.getDirectories().stream()
+                .map(directory -> directory.toPath().normalize().toAbsolutePath())
+                .anyMatch(mavenHome::equals);
+        final MavenDescriptor descriptor = registry.getDescriptor(mavenHome, project);
+        final ExecOperations execOperations = ExecOperationsInstanceHolder.getExecOperations(project);
         final File workingDir = specification.getWorkingDir();
-        final MavenDescriptor descriptor = new MavenDescriptor(mavenHome, workingDir, project);
-        executable = descriptor.getExecutable();
-        arguments = new ArrayList<>(new MavenOptionsToCommandLineAdapter(specification.getOptions(),
-                descriptor.getSupportedOptions()).asCommandLine());
-        arguments.addAll(specification.getGoals());
+        final boolean daemon = specification.getExecutionMode() == MavenExecutionMode.DAEMON;
+        final boolean direct = specification.getExecutionMode() == MavenExecutionMode.DIRECT;
+        if (daemon) {
+            if (!descriptor.isDaemon()) {
+                throw new GradleException("Maven Daemon (mvnd) installation not found, " + mavenHome
+                        + " is not a Maven Daemon installation");
+            }
+            registry.registerDaemon(descriptor.getExecutable(), Boolean.parseBoolean(
+                    String.valueOf(project.findProperty(MavenExecPlugin.DAEMON_STOP_PROPERTY))));
+        }
+        final String version = descriptor.getVersion(execOperations, workingDir);
+        final MavenOptionsToCommandLineAdapter adapter = new MavenOptionsToCommandLineAdapter(
+                specification.getOptions(), descriptor.getSupportedOptions(execOperations, workingDir));
+        // the mvnd client neither reads MAVEN_ARGS nor is guaranteed to see a temporary maven.config overlay,
+        // because the daemon may have cached the project configuration. Without the mvn script nobody expands
+        // MAVEN_ARGS and no shell parses the command line
+        final MavenArgumentsSpill spill = MavenArgumentsSpill.create(
+                replaceThreads(adapter.asArgumentGroups(), threads), version, getStartDirectory(),
+                daemon || direct ? MavenArgumentsSpill.Mode.NEVER : mode);
+        final List<String> commandLine = new ArrayList<>();
+        String executable = descriptor.getExecutable();
+        boolean directLaunch = false;
+        if (direct) {
+            final Optional<Path> installation = descriptor.isDaemon()
+                    ? Optional.empty()
+                    : new MavenExecutableProvider(mavenHome).getInstallation();
+            if (installation.isPresent()) {
+                final Map<String, String> environment = getLaunchEnvironment();
+                final MavenDirectLaunch launch = MavenDirectLaunch.create(installation.get(), getStartDirectory(),
+                        environment);
+                executable = launch.getExecutable();
+                directLaunch = true;
+                commandLine.addAll(launch.getArguments());
+                if (MavenArgumentsSpill.isMavenArgsSupported(version)) {
+                    commandLine.addAll(MavenDirectLaunch.split(environment.get(MavenArgumentsSpill.MAVEN_ARGS)));
+                }
+            } else {
+                logger.info("Maven distribution of {} is not downloaded yet, launch Maven with the script",
+                        mavenHome);
+            }
+        }
+        commandLine.addAll(spill.getArguments());
+        commandLine.addAll(specification.getGoals());
+        return new MavenCommandLineCache.Entry(mavenHome, local, executable, List.copyOf(commandLine), spill,
+                directLaunch);
     }
 
-    private void findMavenExecutable() {
-        findMavenInDirectory(specification.getWorkingDir());
-        if (getMavenDir() == null && !mavenHomeProvider.findMavenHome()) {
-            findMavenInDirectory(project.getLayout().getBuildDirectory().getAsFile().get());
-            findMavenInDirectory(project.getProjectDir());
-            findMavenInDirectory(project.getRootDir());
+    private String getThreads() {
+        final String threads = StringUtils.trim(specification.getOptions().getThreads());
+        if (!MavenExecLimiter.AUTO_THREADS.equalsIgnoreCase(threads)) {
+            return null;
+        }
+        final MavenExecLimiter limiter = MavenExecLimiter.of(project);
+        final int count = limiter.getAutoThreads();
+        if (logger.isInfoEnabled()) {
+            logger.info("Use {} Maven threads, {} Maven executions are running", count, limiter.getRunning());
         }
+        return String.valueOf(count);
     }
 
-    private void findMavenInDirectory(final File directory) {
-        if (getMavenDir() == null) {
-            logger.info("Find Maven executable in {}", directory);
-            try {
-                mavenHomeProvider.setMavenHome(directory);
-                specification.setMavenDir(directory);
-            } catch (IncorrectMavenInstallationDirectoryException ignored) {
-                logger.warn("Maven executable not found {}", directory);
-            }
+    private static List<List<String>> replaceThreads(final List<List<String>> groups, final String threads) {
+        if (threads == null) {
+            return groups;
         }
+        return groups.stream()
+                .map(group -> group.size() == 2 && THREADS.equals(group.get(0)) ? List.of(THREADS, threads) : group)
+                .toList();
     }
 
-    private File getMavenDir() {
-        return Optional.of(mavenHomeProvider)
-                .map(MavenHomeProvider::getMavenHome)
-                .map(Path::toFile)
-                .orElse(null);
+    private Map<String, String> getLaunchEnvironment() {
+        if (specification.getExecutionMode() != MavenExecutionMode.DIRECT) {
+            return Map.of();
+        }
+        final Map<String, Object> environment = specification.getEnvironment();
+        final Map<String, String> launchEnvironment = new HashMap<>();
+        for (final String name : MavenDirectLaunch.ENVIRONMENT) {
+            Optional.ofNullable(environment.get(name))
+                    .map(String::valueOf)
+                    .ifPresent(value -> launchEnvironment.put(name, value));
+        }
+        return Map.copyOf(launchEnvironment);
+    }
+
+    private Path getStartDirectory() {
+        final File file = specification.getOptions().getFile();
+        if (file != null) {
+            return file.isDirectory() ? file.toPath() : file.toPath().toAbsolutePath().getParent();
+        }
+        return Optional.ofNullable(specification.getWorkingDir())
+                .orElseGet(project::getProjectDir)
+                .toPath();
     }
 }
@@ -0,0 +1,322 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.apache.commons.lang3.StringUtils;
+import org.gradle.api.GradleException;
+import org.gradle.util.internal.VersionNumber;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Moves Maven options out of the process command line into a place which Maven reads natively. Maven 3.9 and later
+ * get them in the {@code MAVEN_ARGS} environment variable. Maven from 3.3.1 to 3.8 keeps them on the command line,
+ * unless the {@link Mode#ALWAYS} mode is chosen explicitly and the project already has the {@code .mvn} directory:
+ * then they are written to a temporary overlay of the {@code .mvn/maven.config} file, which is restored after the
+ * execution. Options with whitespace or quotes in values always stay on the command line, because both mechanisms
+ * split arguments by whitespace.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenArgumentsSpill {
+    /**
+     * Name of the environment variable with additional Maven arguments.
+     */
+    public static final String MAVEN_ARGS = "MAVEN_ARGS";
+    /**
+     * Total length of the options, after which they are moved out of the command line in the {@link Mode#AUTO} mode.
+     */
+    static final int AUTO_THRESHOLD = 4096;
+    private static final VersionNumber MAVEN_ARGS_VERSION = VersionNumber.version(3, 9);
+    private static final char[] UNSAFE_CHARACTERS = {'"', '\'', '*', '?', '['};
+    private static final VersionNumber MAVEN_CONFIG_VERSION = VersionNumber.parse("3.3.1");
+    private static final Map<Path, ReentrantLock> LOCKS = new ConcurrentHashMap<>();
+
+    private final List<String> arguments;
+    private final List<String> spilled;
+    private final Path configFile;
+
+    private MavenArgumentsSpill(final List<String> arguments, final List<String> spilled, final Path configFile) {
+        this.arguments = Collections.unmodifiableList(arguments);
+        this.spilled = Collections.unmodifiableList(spilled);
+        this.configFile = configFile;
+    }
+
+    /**
+     * Distribute options between the command line and the mechanism supported by the Maven version.
+     *
+     * @param groups     Options, every group is one option with its value
+     * @param version    Maven version
+     * @param startDir   Directory from which Maven searches the {@code .mvn} directory
+     * @param mode       Spill mode
+     * @return Distributed options
+     */
+    public static MavenArgumentsSpill create(final List<List<String>> groups, final String version,
+                                             final Path startDir, final Mode mode) {
+        final List<String> arguments = new ArrayList<>();
+        final List<String> spilled = new ArrayList<>();
+        final VersionNumber number = VersionNumber.parse(version);
+        final boolean mavenArgs = number.compareTo(MAVEN_ARGS_VERSION) >= 0;
+        final Path configFile = mavenArgs ? null : findConfigFile(number, startDir, mode);
+        if ((!mavenArgs && configFile == null) || !mode.isRequired(groups)) {
+            groups.forEach(arguments::addAll);
+            return new MavenArgumentsSpill(arguments, spilled, null);
+        }
+        for (List<String> group : groups) {
+            if (group.stream().allMatch(MavenArgumentsSpill::isSpillable)) {
+                spilled.addAll(group);
+            } else {
+                arguments.addAll(group);
+            }
+        }
+        return new MavenArgumentsSpill(arguments, spilled, spilled.isEmpty() ? null : configFile);
+    }
+
+    private static Path findConfigFile(final VersionNumber version, final Path startDir, final Mode mode) {
+        if (mode != Mode.ALWAYS || version.compareTo(MAVEN_CONFIG_VERSION) < 0) {
+            return null;
+        }
+        final Path directory = findBaseDirectory(startDir).resolve(".mvn");
+        return Files.isDirectory(directory) ? directory.resolve("maven.config") : null;
+    }
+
+    /**
+     * Check that the {@code mvn} script of the Maven version adds the {@value #MAVEN_ARGS} environment variable to
+     * the command line.
+     *
+     * @param version Maven version
+     * @return {@code true} for Maven 3.9 and later
+     */
+    static boolean isMavenArgsSupported(final String version) {
+        return VersionNumber.parse(version).compareTo(MAVEN_ARGS_VERSION) >= 0;
+    }
+
+    /**
+     * Options which should stay on the command line.
+     *
+     * @return Command line options
+     */
+    public List<String> getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Options which were moved out of the command line.
+     *
+     * @return Moved options
+     */
+    public List<String> getSpilled() {
+        return spilled;
+    }
+
+    /**
+     * Environment variables for the Maven process.
+     *
+     * @param current Current value of the {@code MAVEN_ARGS} variable, can be {@code null}
+     * @return Additional environment variables
+     */
+    public Map<String, String> getEnvironment(final Object current) {
+        if (spilled.isEmpty() || configFile != null) {
+            return Collections.emptyMap();
+        }
+        final String value = String.join(" ", spilled);
+        if (current == null || StringUtils.isBlank(current.toString())) {
+            return Map.of(MAVEN_ARGS, value);
+        }
+        return Map.of(MAVEN_ARGS, current + " " + value);
+    }
+
+    /**
+     * Write the {@code .mvn/maven.config} overlay, if it is required. The overlay is removed and the original file
+     * content is restored, when the result is closed. Executions with the same overlay file are serialized, also
+     * between Gradle processes, by a lock file in the temporary directory. The original content is saved next to the
+     * lock file first, so an overlay left by a killed process is undone before the next one is written.
+     *
+     * @return Overlay handle
+     */
+    public Overlay open() {
+        if (configFile == null) {
+            return () -> {
+            };
+        }
+        final ReentrantLock lock = LOCKS.computeIfAbsent(configFile, path -> new ReentrantLock());
+        lock.lock();
+        FileChannel channel = null;
+        try {
+            final String name = "gradle-maven-exec-" + UUID.nameUUIDFromBytes(configFile.toString().getBytes(UTF_8));
+            final Path temporary = Path.of(System.getProperty("java.io.tmpdir"));
+            final Path backup = temporary.resolve(name + ".backup");
+            channel = FileChannel.open(temporary.resolve(name + ".lock"), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE);
+            final FileLock fileLock = channel.lock();
+            if (Files.exists(backup)) {
+                restore(backup);
+            }
+            final byte[] original = Files.exists(configFile) ? Files.readAllBytes(configFile) : null;
+            writeBackup(backup, original);
+            final StringBuilder content = new StringBuilder();
+            if (original != null) {
+                content.append(new String(original, UTF_8).strip()).append(System.lineSeparator());
+            }
+            spilled.forEach(argument -> content.append(argument).append(System.lineSeparator()));
+            Files.writeString(configFile, content, UTF_8);
+            final FileChannel lockChannel = channel;
+            return () -> {
+                try (lockChannel) {
+                    restore(backup);
+                    fileLock.release();
+                } catch (IOException e) {
+                    throw new GradleException("Can't restore Maven configuration " + configFile, e);
+                } finally {
+                    lock.unlock();
+                }
+            };
+        } catch (IOException e) {
+            closeQuietly(channel);
+            lock.unlock();
+            throw new GradleException("Can't write Maven arguments to " + configFile, e);
+        }
+    }
+
+    private void writeBackup(final Path backup, final byte[] original) throws IOException {
+        final byte[] content = new byte[original == null ? 1 : original.length + 1];
+        content[0] = (byte) (original == null ? 0 : 1);
+        if (original != null) {
+            System.arraycopy(original, 0, content, 1, original.length);
+        }
+        final Path temporary = backup.resolveSibling(backup.getFileName() + ".tmp");
+        Files.write(temporary, content);
+        Files.move(temporary, backup, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void restore(final Path backup) throws IOException {
+        final byte[] content = Files.readAllBytes(backup);
+        if (content.length == 0 || content[0] == 0) {
+            Files.deleteIfExists(configFile);
+        } else {
+            Files.write(configFile, Arrays.copyOfRange(content, 1, content.length));
+        }
+        Files.delete(backup);
+    }
+
+    @SuppressWarnings({"checkstyle:EmptyCatchBlock", "PMD.EmptyCatchBlock", "java:S108"})
+    private static void closeQuietly(final FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static boolean isSpillable(final String argument) {
+        // the mvn script expands MAVEN_ARGS unquoted, so glob characters would be matched against the files
+        return !StringUtils.containsWhitespace(argument) && !StringUtils.containsAny(argument, UNSAFE_CHARACTERS);
+    }
+
+    /**
+     * Find the multi-module project directory the same way as the {@code mvn} script: the nearest directory with
+     * the {@code .mvn} subdirectory, or the start directory itself.
+     *
+     * @param startDir Start directory
+     * @return Multi-module project directory
+     */
+    static Path findBaseDirectory(final Path startDir) {
+        final Path start = startDir.toAbsolutePath().normalize();
+        for (Path directory = start; directory != null; directory = directory.getParent()) {
+            if (Files.isDirectory(directory.resolve(".mvn"))) {
+                return directory;
+            }
+        }
+        return start;
+    }
+
+    /**
+     * Handle of the {@code .mvn/maven.config} overlay.
+     */
+    @FunctionalInterface
+    public interface Overlay extends AutoCloseable {
+        /**
+         * Restore the original configuration.
+         */
+        @Override
+        void close();
+    }
+
+    /**
+     * When options should be moved out of the command line.
+     */
+    public enum Mode {
+        /**
+         * When the options are longer than {@value MavenArgumentsSpill#AUTO_THRESHOLD} characters.
+         */
+        AUTO,
+        /**
+         * Always, when the Maven version supports it. Only this mode writes the {@code .mvn/maven.config} overlay for
+         * Maven before 3.9.
+         */
+        ALWAYS,
+        /**
+         * Never.
+         */
+        NEVER;
+
+        /**
+         * Parse the mode from a Gradle property value.
+         *
+         * @param value Property value, {@code null} means {@link #AUTO}
+         * @return Spill mode
+         */
+        public static Mode parse(final Object value) {
+            if (value == null || StringUtils.isBlank(value.toString())) {
+                return AUTO;
+            }
+            try {
+                return valueOf(value.toString().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new GradleException("Unsupported arguments spill mode - " + value, e);
+            }
+        }
+
+        boolean isRequired(final List<List<String>> groups) {
+            return switch (this) {
+                case ALWAYS -> true;
+                case NEVER -> false;
+                case AUTO -> groups.stream()
+                        .flatMap(List::stream)
+                        .mapToInt(argument -> argument.length() + 1)
+                        .sum() > AUTO_THRESHOLD;
+            };
+        }
+    }
+}
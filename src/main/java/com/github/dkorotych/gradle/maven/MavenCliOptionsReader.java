@@ -0,0 +1,227 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A reader that extracts the supported command line options directly from the {@code CLIManager} class of the
+ * {@code maven-embedder} library, without launching Maven and without loading any Maven classes.
+ * The long option names are the string constants, which the class passes to {@code Option.Builder.longOpt} or
+ * {@code OptionBuilder.withLongOpt}.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenCliOptionsReader {
+    private static final Pattern EMBEDDER_LIBRARY = Pattern.compile("^maven-embedder-\\d\\S*\\.jar$");
+    private static final Pattern OPTION = Pattern.compile("^[a-z][a-z0-9]*(?:-[a-z0-9]+)*$");
+    private static final String CLI_MANAGER = "org/apache/maven/cli/CLIManager.class";
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String CODE = "Code";
+    private static final int LDC = 0x12;
+    private static final int LDC_W = 0x13;
+    // invokevirtual, invokespecial, invokestatic, invokeinterface
+    private static final Set<Integer> INVOKES = Set.of(0xB6, 0xB7, 0xB8, 0xB9);
+    private static final Set<String> LONG_OPTION_METHODS = Set.of("longOpt", "withLongOpt");
+
+    private MavenCliOptionsReader() {
+    }
+
+    /**
+     * Read the supported command line options of a Maven installation.
+     *
+     * @param mavenHome Maven installation directory
+     * @return Supported options, or empty if the installation layout is unknown
+     */
+    public static Optional<Set<String>> read(final Path mavenHome) {
+        return findEmbedderLibrary(mavenHome)
+                .flatMap(MavenCliOptionsReader::readLibrary)
+                .filter(options -> !options.isEmpty());
+    }
+
+    private static Optional<Path> findEmbedderLibrary(final Path mavenHome) {
+        final Path lib = Optional.ofNullable(mavenHome)
+                .map(path -> path.resolve("lib"))
+                .filter(Files::isDirectory)
+                .orElse(null);
+        if (lib == null) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(lib)) {
+            return files.filter(path -> EMBEDDER_LIBRARY.matcher(path.getFileName().toString()).matches())
+                    .filter(Files::isRegularFile)
+                    .findFirst();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Set<String>> readLibrary(final Path library) {
+        try (ZipFile zip = new ZipFile(library.toFile())) {
+            final ZipEntry entry = zip.getEntry(CLI_MANAGER);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            try (DataInputStream stream = new DataInputStream(new BufferedInputStream(zip.getInputStream(entry)))) {
+                return Optional.of(readOptions(stream));
+            }
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    @SuppressWarnings({"checkstyle:MagicNumber", "checkstyle:CyclomaticComplexity", "java:S3776"})
+    static Set<String> readOptions(final DataInputStream stream) throws IOException {
+        if (stream.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        // minor and major versions
+        stream.readInt();
+        final int count = stream.readUnsignedShort();
+        final String[] texts = new String[count];
+        final int[] strings = new int[count];
+        final int[] references = new int[count];
+        final int[] names = new int[count];
+        for (int index = 1; index < count; index++) {
+            final int tag = stream.readUnsignedByte();
+            switch (tag) {
+                // Utf8
+                case 1 -> texts[index] = stream.readUTF();
+                // String
+                case 8 -> strings[index] = stream.readUnsignedShort();
+                // Methodref, InterfaceMethodref: class and name with type
+                case 10, 11 -> {
+                    stream.skipNBytes(2);
+                    references[index] = stream.readUnsignedShort();
+                }
+                // NameAndType: name and descriptor
+                case 12 -> {
+                    names[index] = stream.readUnsignedShort();
+                    stream.skipNBytes(2);
+                }
+                // Class, MethodType, Module, Package
+                case 7, 16, 19, 20 -> stream.skipNBytes(2);
+                // MethodHandle
+                case 15 -> stream.skipNBytes(3);
+                // Integer, Float, Fieldref, Dynamic, InvokeDynamic
+                case 3, 4, 9, 17, 18 -> stream.skipNBytes(4);
+                // Long, Double: take two entries of the constant pool
+                case 5, 6 -> {
+                    stream.skipNBytes(8);
+                    index++;
+                }
+                default -> throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+        final ConstantPool pool = new ConstantPool(texts, strings, references, names);
+        // access flags, this and super classes
+        stream.skipNBytes(6);
+        stream.skipNBytes(2L * stream.readUnsignedShort());
+        final int fields = stream.readUnsignedShort();
+        for (int field = 0; field < fields; field++) {
+            stream.skipNBytes(6);
+            skipAttributes(stream);
+        }
+        final Set<String> options = new HashSet<>();
+        final int methods = stream.readUnsignedShort();
+        for (int method = 0; method < methods; method++) {
+            stream.skipNBytes(6);
+            final int attributes = stream.readUnsignedShort();
+            for (int attribute = 0; attribute < attributes; attribute++) {
+                final String name = pool.text(stream.readUnsignedShort());
+                final int length = stream.readInt();
+                if (CODE.equals(name)) {
+                    // max stack and max locals
+                    stream.skipNBytes(4);
+                    final byte[] code = stream.readNBytes(stream.readInt());
+                    stream.skipNBytes(length - 8L - code.length);
+                    readLongOptions(code, pool, options);
+                } else {
+                    stream.skipNBytes(length);
+                }
+            }
+        }
+        return Collections.unmodifiableSet(options);
+    }
+
+    /**
+     * Find string constants which are loaded right before a call of {@code longOpt} of {@code Option.Builder} or
+     * {@code withLongOpt} of {@code OptionBuilder}, so the short option names are not taken.
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    private static void readLongOptions(final byte[] code, final ConstantPool pool, final Set<String> options) {
+        for (int position = 0; position < code.length - 2; position++) {
+            final int opcode = code[position] & 0xFF;
+            final int constant;
+            final int next;
+            if (opcode == LDC) {
+                constant = code[position + 1] & 0xFF;
+                next = position + 2;
+            } else if (opcode == LDC_W && position + 3 < code.length) {
+                constant = readShort(code, position + 1);
+                next = position + 3;
+            } else {
+                continue;
+            }
+            if (next + 2 < code.length && INVOKES.contains(code[next] & 0xFF)
+                    && LONG_OPTION_METHODS.contains(pool.method(readShort(code, next + 1)))) {
+                Optional.ofNullable(pool.string(constant))
+                        .filter(text -> OPTION.matcher(text).matches())
+                        .ifPresent(text -> options.add("--" + text));
+            }
+        }
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    private static int readShort(final byte[] code, final int position) {
+        return (code[position] & 0xFF) << 8 | code[position + 1] & 0xFF;
+    }
+
+    private static void skipAttributes(final DataInputStream stream) throws IOException {
+        final int attributes = stream.readUnsignedShort();
+        for (int attribute = 0; attribute < attributes; attribute++) {
+            stream.skipNBytes(2);
+            stream.skipNBytes(stream.readInt());
+        }
+    }
+
+    private record ConstantPool(String[] texts, int[] strings, int[] references, int[] names) {
+        String text(final int index) {
+            return index > 0 && index < texts.length ? texts[index] : null;
+        }
+
+        String string(final int index) {
+            return index > 0 && index < strings.length ? text(strings[index]) : null;
+        }
+
+        String method(final int index) {
+            if (index <= 0 || index >= references.length) {
+                return null;
+            }
+            final int nameAndType = references[index];
+            return nameAndType > 0 && nameAndType < names.length ? text(names[nameAndType]) : null;
+        }
+    }
+}
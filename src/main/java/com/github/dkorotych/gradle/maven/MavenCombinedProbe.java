@@ -0,0 +1,222 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.internal.os.OperatingSystem;
+import org.gradle.process.ExecOperations;
+import org.gradle.process.ExecResult;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A probe which asks Maven for several options in one JVM launch. Instead of Maven itself, plexus-classworlds of the
+ * Maven installation launches {@link MavenDescriptorProbe}, which calls Maven for each option in the same process.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+final class MavenCombinedProbe {
+    private static final Logger LOGGER = Logging.getLogger(MavenCombinedProbe.class);
+    static final String LAUNCHER = "org.codehaus.plexus.classworlds.launcher.Launcher";
+    private static final Pattern CLASSWORLDS = Pattern.compile("^plexus-classworlds-.+\\.jar$");
+    private static final Pattern MAIN = Pattern.compile("(?m)^main is \\S+ from (\\S+)\\s*$");
+    private static final Pattern ANSI = Pattern.compile("\u001B\\[[;\\d]*m");
+
+    private final Path mavenHome;
+    private final Supplier<ExecOperations> execOperations;
+
+    /**
+     * Create a probe.
+     *
+     * @param mavenHome      Maven installation directory
+     * @param execOperations Supplier of the process launcher
+     */
+    MavenCombinedProbe(final Path mavenHome, final Supplier<ExecOperations> execOperations) {
+        this.mavenHome = mavenHome;
+        this.execOperations = execOperations;
+    }
+
+    /**
+     * Launch Maven once and get the output for each option.
+     *
+     * @param options Maven options, each of them is passed to a separate Maven call
+     * @return Output for each option, or empty if the installation layout is unknown or Maven failed
+     */
+    Optional<Map<String, String>> run(final String... options) {
+        final Path classworlds = findClassworlds(mavenHome).orElse(null);
+        final String configuration = readConfiguration(mavenHome).orElse(null);
+        if (classworlds == null || configuration == null) {
+            return Optional.empty();
+        }
+        Path directory = null;
+        try {
+            directory = Files.createTempDirectory("gradle-maven-exec-probe");
+            final Path workingDir = directory;
+            final Path configurationFile = writeConfiguration(directory, configuration,
+                    MavenDescriptorProbe.class);
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            final ExecResult result = execOperations.get().exec(spec -> {
+                spec.workingDir(workingDir);
+                spec.executable(getJavaExecutable());
+                spec.setStandardOutput(output);
+                spec.setErrorOutput(new ByteArrayOutputStream());
+                spec.setIgnoreExitValue(true);
+                final List<String> arguments = new ArrayList<>(List.of(
+                        "-classpath", classworlds.toString(),
+                        "-Dclassworlds.conf=" + configurationFile,
+                        "-Dmaven.home=" + mavenHome,
+                        "-Dlibrary.jansi.path=" + mavenHome.resolve("lib").resolve("jansi-native"),
+                        "-Dmaven.multiModuleProjectDirectory=" + workingDir,
+                        LAUNCHER));
+                arguments.addAll(Arrays.asList(options));
+                spec.setArgs(arguments);
+            });
+            if (result.getExitValue() != 0) {
+                LOGGER.debug("Combined Maven probe finished with exit value {}", result.getExitValue());
+                return Optional.empty();
+            }
+            return Optional.of(parse(output.toString(UTF_8)))
+                    .filter(outputs -> outputs.keySet().containsAll(Arrays.asList(options)));
+        } catch (Exception e) {
+            LOGGER.debug("Can't run combined Maven probe", e);
+            return Optional.empty();
+        } finally {
+            delete(directory);
+        }
+    }
+
+    static Map<String, String> parse(final String output) {
+        final Map<String, String> outputs = new HashMap<>();
+        String option = null;
+        StringBuilder text = new StringBuilder();
+        for (final String line : ANSI.matcher(output).replaceAll("").split("\\R", -1)) {
+            if (line.startsWith(MavenDescriptorProbe.MARKER)) {
+                if (option != null) {
+                    outputs.put(option, text.toString());
+                }
+                option = line.substring(MavenDescriptorProbe.MARKER.length()).trim();
+                text = new StringBuilder();
+            } else {
+                text.append(line).append(System.lineSeparator());
+            }
+        }
+        if (option != null) {
+            outputs.put(option, text.toString());
+        }
+        return outputs;
+    }
+
+    /**
+     * Find the plexus-classworlds launcher of the Maven installation.
+     *
+     * @param mavenHome Maven installation directory
+     * @return Launcher jar, or empty if the installation layout is unknown
+     */
+    static Optional<Path> findClassworlds(final Path mavenHome) {
+        final Path boot = mavenHome.resolve("boot");
+        if (!Files.isDirectory(boot)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(boot)) {
+            return files.filter(path -> CLASSWORLDS.matcher(path.getFileName().toString()).matches())
+                    .findFirst();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Read the plexus-classworlds configuration of the Maven installation.
+     *
+     * @param mavenHome Maven installation directory
+     * @return Configuration, or empty if the installation layout is unknown
+     */
+    static Optional<String> readConfiguration(final Path mavenHome) {
+        final Path file = mavenHome.resolve("bin").resolve("m2.conf");
+        try {
+            return Files.isRegularFile(file)
+                    ? Optional.of(Files.readString(file)).filter(text -> MAIN.matcher(text).find())
+                    : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Write the plexus-classworlds configuration which launches the specified class instead of Maven. The class is
+     * copied to the directory and added to the Maven realm, so it must not have nested classes.
+     *
+     * @param directory     Directory for the configuration and the class
+     * @param configuration Original configuration of the Maven installation
+     * @param main          Class to launch
+     * @return Configuration file
+     * @throws IOException Can't write the configuration
+     */
+    static Path writeConfiguration(final Path directory, final String configuration, final Class<?> main)
+            throws IOException {
+        final String name = main.getName();
+        final Path classFile = directory.resolve("classes")
+                .resolve(name.replace('.', '/') + ".class");
+        Files.createDirectories(classFile.getParent());
+        try (InputStream stream = main.getResourceAsStream(main.getSimpleName() + ".class")) {
+            Files.copy(Objects.requireNonNull(stream, "Launched class is not found"), classFile);
+        }
+        final String realm = MAIN.matcher(configuration).results()
+                .map(result -> result.group(1))
+                .findFirst()
+                .orElseThrow();
+        final String probe = MAIN.matcher(configuration)
+                .replaceFirst("main is " + name + " from " + realm)
+                .replace("[" + realm + "]", "[" + realm + "]" + System.lineSeparator()
+                        + "load " + directory.resolve("classes").toAbsolutePath());
+        final Path file = directory.resolve("m2.conf");
+        Files.writeString(file, probe);
+        return file;
+    }
+
+    /**
+     * Get the Java launcher of the current JVM.
+     *
+     * @return Java executable
+     */
+    static String getJavaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", OperatingSystem.current().getExecutableName("java"))
+                .toString();
+    }
+
+    @SuppressWarnings({"checkstyle:EmptyCatchBlock", "PMD.EmptyCatchBlock", "java:S108"})
+    private static void delete(final Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder())
+                    .forEach(path -> path.toFile().delete());
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import com.github.dkorotych.gradle.maven.exec.MavenExecutionMode;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Build-wide cache of prepared Maven command lines. Identical Maven invocations, for example ones made in a loop or
+ * from several subprojects with the same working directory, reuse the located installation, the executable and the
+ * arguments instead of computing them again.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ * @see CommandLineCreator
+ */
+public final class MavenCommandLineCache {
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Number of cached command lines.
+     *
+     * @return Cache size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    Entry get(final Key key, final Supplier<Entry> loader) {
+        return entries.computeIfAbsent(key, ignored -> loader.get());
+    }
+
+    /**
+     * Everything the command line depends on.
+     *
+     * @param options     Snapshot of the options
+     * @param goals       Goals
+     * @param mavenDir    Maven directory, set by the user
+     * @param directories Working, build, project and root directories, where the installation is searched
+     * @param mode        Arguments spill mode
+     * @param execution   How Maven is launched
+     * @param environment Environment variables which change the direct launch
+     * @param threads     Thread count, which replaces the {@code auto} value of the options
+     */
+    record Key(MavenOptionsSnapshot options, List<String> goals, File mavenDir, List<File> directories,
+               MavenArgumentsSpill.Mode mode, MavenExecutionMode execution, Map<String, String> environment,
+               String threads) {
+    }
+
+    /**
+     * Prepared command line.
+     *
+     * @param mavenHome      Maven installation directory
+     * @param local          Maven installation is one of the searched directories
+     * @param executable     Maven executable
+     * @param arguments      Command line arguments with goals
+     * @param argumentsSpill Options which were moved out of the command line
+     * @param directLaunch   Executable is the Java launcher and the arguments start with the JVM options
+     */
+    record Entry(Path mavenHome, boolean local, String executable, List<String> arguments,
+                 MavenArgumentsSpill argumentsSpill, boolean directLaunch) {
+    }
+}
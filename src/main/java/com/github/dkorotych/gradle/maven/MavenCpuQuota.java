@@ -0,0 +1,143 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+/**
+ * Finds how many processors the build may use: the available processors of the JVM limited by the CPU quota of the
+ * control group, which the process belongs to. Both control group versions are supported, quotas of the parent
+ * groups are taken into account as well, because the JVM reads only the quota of the container.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenCpuQuota {
+    private static final Path PROC_CGROUP = Path.of("/proc/self/cgroup");
+    private static final Path CGROUP = Path.of("/sys/fs/cgroup");
+    private static final String UNLIMITED = "max";
+
+    private MavenCpuQuota() {
+    }
+
+    /**
+     * Get the number of processors which the build may use.
+     *
+     * @return Number of processors, at least one
+     */
+    public static int availableProcessors() {
+        return availableProcessors(Runtime.getRuntime().availableProcessors(), CGROUP, readLines(PROC_CGROUP));
+    }
+
+    /**
+     * Get the number of processors limited by the CPU quota.
+     *
+     * @param processors Available processors
+     * @param root       Mount point of the control groups
+     * @param groups     Content of {@code /proc/self/cgroup}
+     * @return Number of processors, at least one
+     */
+    static int availableProcessors(final int processors, final Path root, final List<String> groups) {
+        final OptionalDouble quota = readQuota(root, groups);
+        final int limit = quota.isPresent() ? (int) Math.ceil(quota.getAsDouble()) : processors;
+        return Math.max(1, Math.min(processors, limit));
+    }
+
+    /**
+     * Read the smallest CPU quota of the control group and its parents.
+     *
+     * @param root   Mount point of the control groups
+     * @param groups Content of {@code /proc/self/cgroup}
+     * @return Quota in processors, or empty, if the CPU is not limited
+     */
+    static OptionalDouble readQuota(final Path root, final List<String> groups) {
+        double quota = Double.MAX_VALUE;
+        for (final String group : groups) {
+            final String[] parts = group.split(":", 3);
+            if (parts.length < 3) {
+                continue;
+            }
+            if (parts[1].isEmpty()) {
+                quota = Math.min(quota, readQuota(root, parts[2], "", MavenCpuQuota::readVersion2));
+            } else if (List.of(parts[1].split(",")).contains("cpu")) {
+                quota = Math.min(quota, readQuota(root, parts[2], parts[1], MavenCpuQuota::readVersion1));
+            }
+        }
+        return quota == Double.MAX_VALUE ? OptionalDouble.empty() : OptionalDouble.of(quota);
+    }
+
+    private static double readQuota(final Path root, final String group, final String controllers,
+                                    final QuotaReader reader) {
+        final Path mount = controllers.isEmpty() ? root : root.resolve(controllers);
+        double quota = Double.MAX_VALUE;
+        String path = StringUtils.strip(group, "/");
+        while (true) {
+            quota = Math.min(quota, reader.read(mount.resolve(path)).orElse(Double.MAX_VALUE));
+            if (path.isEmpty()) {
+                return quota;
+            }
+            path = path.contains("/") ? StringUtils.substringBeforeLast(path, "/") : "";
+        }
+    }
+
+    private static OptionalDouble readVersion2(final Path directory) {
+        return readLines(directory.resolve("cpu.max"))
+                .stream()
+                .findFirst()
+                .map(line -> line.trim().split("\\s+"))
+                .filter(values -> values.length == 2 && !UNLIMITED.equals(values[0]))
+                .map(values -> divide(values[0], values[1]))
+                .orElse(OptionalDouble.empty());
+    }
+
+    private static OptionalDouble readVersion1(final Path directory) {
+        final Optional<String> quota = readLines(directory.resolve("cpu.cfs_quota_us")).stream().findFirst();
+        final Optional<String> period = readLines(directory.resolve("cpu.cfs_period_us")).stream().findFirst();
+        if (quota.isEmpty() || period.isEmpty()) {
+            return OptionalDouble.empty();
+        }
+        return divide(quota.get(), period.get());
+    }
+
+    private static OptionalDouble divide(final String quota, final String period) {
+        try {
+            final double value = Double.parseDouble(quota.trim());
+            final double length = Double.parseDouble(period.trim());
+            return value > 0 && length > 0 ? OptionalDouble.of(value / length) : OptionalDouble.empty();
+        } catch (NumberFormatException e) {
+            return OptionalDouble.empty();
+        }
+    }
+
+    private static List<String> readLines(final Path file) {
+        try {
+            return Files.isReadable(file) ? Files.readAllLines(file) : List.of();
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    @FunctionalInterface
+    private interface QuotaReader {
+        OptionalDouble read(Path directory);
+    }
+}
@@ -26,6 +26,8 @@ import java.io.*;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -42,12 +44,17 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  */
 public final class MavenDescriptor {
     private static final String CHARSET = Charset.forName(SystemUtils.FILE_ENCODING).name();
+    private static final String VERSION_OPTION = "--version";
+    private static final String HELP_OPTION = "--help";
+    private static final String DAEMON_MAVEN_HOME = "mvn";
 
-    private final File workingDir;
-    private final Project project;
+    private final Path mavenHome;
+    private final MavenDescriptorCache cache;
+    private final Probe defaultProbe;
     private final MavenExecutableProvider executableProvider;
-    private final Supplier<String> versionSupplier;
-    private final Supplier<Set<String>> supportedOptionsSupplier;
+    private Map<String, String> probeResult;
+    private String version;
+    private Set<String> supportedOptions;
 
     /**
      * Create a new descriptor.
@@ -68,11 +75,27 @@ public final class MavenDescriptor {
      * @param project    Current Gradle project
      */
     public MavenDescriptor(final Path mavenHome, final File workingDir, final Project project) {
-        this.workingDir = workingDir;
-        this.project = project;
+        this(mavenHome, MavenDescriptorCache.of(project),
+                new Probe(() -> ExecOperationsInstanceHolder.getExecOperations(project), workingDir));
+    }
+
+    /**
+     * Create a new descriptor, which is not bound to a project and can be shared by the whole build. The process
+     * launcher and the working directory are passed to {@link #getVersion(ExecOperations, File)} and
+     * {@link #getSupportedOptions(ExecOperations, File)}.
+     *
+     * @param mavenHome Maven installation directory
+     * @param cache     Persistent cache of the descriptions
+     */
+    public MavenDescriptor(final Path mavenHome, final MavenDescriptorCache cache) {
+        this(mavenHome, Objects.requireNonNull(cache, "Cache should be not null"), null);
+    }
+
+    private MavenDescriptor(final Path mavenHome, final MavenDescriptorCache cache, final Probe defaultProbe) {
+        this.mavenHome = mavenHome;
+        this.cache = cache;
+        this.defaultProbe = defaultProbe;
         executableProvider = new MavenExecutableProvider(mavenHome);
-        versionSupplier = MemoizedSupplier.of(() -> parseVersion(execute("--version")));
-        supportedOptionsSupplier = MemoizedSupplier.of(() -> parseSupportedOptions(execute("--help")));
     }
 
     /**
@@ -103,13 +126,49 @@ public final class MavenDescriptor {
                 .isPresent();
     }
 
+    /**
+     * Input file is a Maven Daemon (mvnd) client file?
+     *
+     * @param file Input file
+     * @return true, if input filename is look like a Maven Daemon client file, false - otherwise
+     */
+    public static boolean isMavenDaemonExecutionFile(final File file) {
+        return Optional.ofNullable(file)
+                .filter(File::isFile)
+                .map(File::getName)
+                .filter(name -> "mvnd".equals(name) || "mvnd.sh".equals(name) || "mvnd.cmd".equals(name)
+                        || "mvnd.exe".equals(name))
+                .isPresent();
+    }
+
+    /**
+     * Is this a Maven Daemon (mvnd) installation?
+     *
+     * @return true, if Maven is launched with the mvnd client, false - otherwise
+     */
+    public boolean isDaemon() {
+        return executableProvider.isDaemon();
+    }
+
     /**
      * Get Maven application version.
      *
      * @return Maven version
      */
     public String getVersion() {
-        return versionSupplier.get();
+        return version(getDefaultProbe());
+    }
+
+    /**
+     * Get Maven application version. The process launcher and the working directory are used only if Maven has to
+     * be launched to find out the version.
+     *
+     * @param execOperations Process launcher
+     * @param workingDir     Working directory
+     * @return Maven version
+     */
+    public String getVersion(final ExecOperations execOperations, final File workingDir) {
+        return version(new Probe(() -> execOperations, workingDir));
     }
 
     /**
@@ -118,7 +177,19 @@ public final class MavenDescriptor {
      * @return Options
      */
     public Set<String> getSupportedOptions() {
-        return supportedOptionsSupplier.get();
+        return supportedOptions(getDefaultProbe());
+    }
+
+    /**
+     * Get supported options of current Maven installation. The process launcher and the working directory are used
+     * only if Maven has to be launched to find out the options.
+     *
+     * @param execOperations Process launcher
+     * @param workingDir     Working directory
+     * @return Options
+     */
+    public Set<String> getSupportedOptions(final ExecOperations execOperations, final File workingDir) {
+        return supportedOptions(new Probe(() -> execOperations, workingDir));
     }
 
     /**
@@ -131,8 +202,60 @@ public final class MavenDescriptor {
         return executableProvider.getExecutable();
     }
 
+    private synchronized String version(final Probe probe) {
+        if (version == null) {
+            final boolean daemon = executableProvider.isDaemon();
+            version = executableProvider.getInstallation()
+                    .map(installation -> daemon ? installation.resolve(DAEMON_MAVEN_HOME) : installation)
+                    .flatMap(MavenVersionResolver::resolve)
+                    .orElseGet(() -> cache.getVersion(mavenHome, executableProvider::getExecutable,
+                            () -> Optional.ofNullable(probe(probe).get(VERSION_OPTION))
+                                    .map(text -> parseVersion(asStream(text)))
+                                    .orElseGet(() -> parseVersion(execute(VERSION_OPTION, probe)))));
+        }
+        return version;
+    }
+
+    private synchronized Set<String> supportedOptions(final Probe probe) {
+        if (supportedOptions == null) {
+            final boolean daemon = executableProvider.isDaemon();
+            supportedOptions = executableProvider.getInstallation()
+                    .filter(installation -> !daemon)
+                    .flatMap(MavenVersionResolver::resolve)
+                    .flatMap(MavenOptionsCatalog::getSupportedOptions)
+                    .or(() -> executableProvider.getInstallation()
+                            .filter(installation -> !daemon)
+                            .flatMap(MavenCliOptionsReader::read))
+                    .orElseGet(() -> cache.getSupportedOptions(mavenHome, executableProvider::getExecutable,
+                            () -> Optional.ofNullable(probe(probe).get(HELP_OPTION))
+                                    .map(text -> parseSupportedOptions(asStream(text)))
+                                    .filter(options -> !options.isEmpty())
+                                    .orElseGet(() -> parseSupportedOptions(execute(HELP_OPTION, probe)))));
+        }
+        return supportedOptions;
+    }
+
+    private synchronized Map<String, String> probe(final Probe probe) {
+        if (probeResult == null) {
+            probeResult = executableProvider.getInstallation()
+                    .filter(installation -> !executableProvider.isDaemon())
+                    .flatMap(installation -> new MavenCombinedProbe(installation, probe.execOperations())
+                            .run(VERSION_OPTION, HELP_OPTION))
+                    .orElseGet(Collections::emptyMap);
+        }
+        return probeResult;
+    }
+
+    private Probe getDefaultProbe() {
+        if (defaultProbe == null) {
+            throw new GradleException("Maven descriptor of " + mavenHome
+                    + " is shared, the process launcher and the working directory should be passed");
+        }
+        return defaultProbe;
+    }
+
     private String parseVersion(final InputStream stream) {
-        final Pattern pattern = Pattern.compile("^\\QApache Maven \\E(\\S+)(?:.+)?$");
+        final Pattern pattern = Pattern.compile("^\\QApache Maven \\E(?!Daemon\\b)(\\S+)(?:.+)?$");
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, UTF_8))) {
             return reader.lines()
                     .map(pattern::matcher)
@@ -158,12 +281,12 @@ public final class MavenDescriptor {
         }
     }
 
-    InputStream execute(final String option) {
+    InputStream execute(final String option, final Probe probe) {
         final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         final ByteArrayOutputStream errorStream = new ByteArrayOutputStream();
         try {
-            getExecOperations().exec(execSpec -> {
-                execSpec.workingDir(workingDir);
+            probe.execOperations().get().exec(execSpec -> {
+                execSpec.workingDir(probe.workingDir());
                 execSpec.executable(getExecutable());
                 execSpec.setStandardOutput(outputStream);
                 execSpec.setErrorOutput(errorStream);
@@ -179,8 +302,8 @@ public final class MavenDescriptor {
         return new ByteArrayInputStream(outputStream.toByteArray());
     }
 
-    private ExecOperations getExecOperations() {
-        return ExecOperationsInstanceHolder.getExecOperations(project);
+    private static InputStream asStream(final String text) {
+        return new ByteArrayInputStream(text.getBytes(UTF_8));
     }
 
     private String readMessage(final ByteArrayOutputStream stream) {
@@ -190,4 +313,13 @@ public final class MavenDescriptor {
             throw new GradleException("Can't read response from error stream", e);
         }
     }
+
+    /**
+     * How Maven is launched, when the description can't be found without launching it.
+     *
+     * @param execOperations Supplier of the process launcher
+     * @param workingDir     Working directory
+     */
+    record Probe(Supplier<ExecOperations> execOperations, File workingDir) {
+    }
 }
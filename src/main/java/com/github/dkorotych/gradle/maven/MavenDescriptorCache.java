@@ -0,0 +1,228 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.apache.commons.lang3.StringUtils;
+import org.gradle.api.GradleException;
+import org.gradle.api.Project;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Persistent cache of the Maven installation descriptions, which allows to avoid launching Maven to find out its
+ * version and supported options in every build. Cache entries are stored in the Gradle user home directory and are
+ * keyed by the Maven executable path and a fingerprint of the installation, so any change of the installation
+ * invalidates them.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenDescriptorCache {
+    private static final Logger LOGGER = Logging.getLogger(MavenDescriptorCache.class);
+    private static final String FORMAT_VERSION = "1";
+    private static final String VERSION = "version";
+    private static final String OPTIONS = "options";
+    private static final String SEPARATOR = ",";
+
+    private final Path directory;
+
+    /**
+     * Create a cache which stores entries in a directory.
+     *
+     * @param directory Cache directory. If {@code null}, nothing will be cached.
+     */
+    public MavenDescriptorCache(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Create a cache placed in the Gradle user home directory of the current build.
+     *
+     * @param project Current Gradle project. If {@code null}, nothing will be cached.
+     * @return Maven descriptions cache
+     */
+    public static MavenDescriptorCache of(final Project project) {
+        final Path directory = Optional.ofNullable(project)
+                .map(value -> value.getGradle().getGradleUserHomeDir())
+                .map(home -> home.toPath()
+                        .resolve("caches")
+                        .resolve("gradle-maven-exec")
+                        .resolve("descriptors"))
+                .orElse(null);
+        return new MavenDescriptorCache(directory);
+    }
+
+    /**
+     * Get the cached Maven version or load and cache it.
+     *
+     * @param mavenHome  Maven installation directory
+     * @param executable Maven executable command
+     * @param loader     Real version supplier
+     * @return Maven version
+     */
+    public String getVersion(final Path mavenHome, final Supplier<String> executable, final Supplier<String> loader) {
+        return get(mavenHome, executable, VERSION, loader, value -> value, value -> value);
+    }
+
+    /**
+     * Get the cached supported options or load and cache them.
+     *
+     * @param mavenHome  Maven installation directory
+     * @param executable Maven executable command
+     * @param loader     Real supported options supplier
+     * @return Supported options
+     */
+    public Set<String> getSupportedOptions(final Path mavenHome, final Supplier<String> executable,
+                                           final Supplier<Set<String>> loader) {
+        return get(mavenHome, executable, OPTIONS, loader,
+                value -> Set.of(StringUtils.split(value, SEPARATOR)),
+                value -> value.stream()
+                        .sorted()
+                        .collect(Collectors.joining(SEPARATOR)));
+    }
+
+    private <T> T get(final Path mavenHome, final Supplier<String> executable, final String property,
+                      final Supplier<T> loader, final Function<String, T> reader,
+                      final Function<T, String> writer) {
+        final Path file = Optional.ofNullable(directory)
+                .flatMap(value -> createKey(mavenHome, executable))
+                .map(key -> directory.resolve(key + ".properties"))
+                .orElse(null);
+        if (file == null) {
+            return loader.get();
+        }
+        final Properties properties = read(file);
+        final String cached = properties.getProperty(property);
+        if (StringUtils.isNotBlank(cached)) {
+            return reader.apply(cached);
+        }
+        final T value = loader.get();
+        if (value != null) {
+            merge(file, property, writer.apply(value));
+        }
+        return value;
+    }
+
+    private Optional<String> createKey(final Path mavenHome, final Supplier<String> executable) {
+        if (mavenHome == null || !Files.isDirectory(mavenHome)) {
+            return Optional.empty();
+        }
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, FORMAT_VERSION);
+            update(digest, executable.get());
+            final Path lib = mavenHome.resolve("lib");
+            if (Files.isDirectory(lib)) {
+                try (Stream<Path> files = Files.list(lib)) {
+                    final List<Path> jars = files.filter(path -> path.getFileName().toString().endsWith(".jar"))
+                            .sorted()
+                            .toList();
+                    for (Path jar : jars) {
+                        final BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+                        update(digest, jar.getFileName().toString());
+                        update(digest, Long.toString(attributes.size()));
+                        update(digest, Long.toString(attributes.lastModifiedTime().toMillis()));
+                    }
+                }
+            }
+            final Path wrapperProperties = mavenHome.resolve(".mvn")
+                    .resolve("wrapper")
+                    .resolve("maven-wrapper.properties");
+            if (Files.isRegularFile(wrapperProperties)) {
+                digest.update(Files.readAllBytes(wrapperProperties));
+            }
+            return Optional.of(HexFormat.of().formatHex(digest.digest()));
+        } catch (NoSuchAlgorithmException e) {
+            throw new GradleException("Can't create Maven installation fingerprint", e);
+        } catch (IOException e) {
+            LOGGER.debug("Can't create fingerprint of Maven installation {}", mavenHome, e);
+            return Optional.empty();
+        }
+    }
+
+    private void update(final MessageDigest digest, final String value) {
+        digest.update(Objects.toString(value, "").getBytes(UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private Properties read(final Path file) {
+        final Properties properties = new Properties();
+        if (Files.isRegularFile(file)) {
+            try (InputStream stream = Files.newInputStream(file)) {
+                properties.load(stream);
+            } catch (IOException e) {
+                LOGGER.debug("Can't read Maven descriptor cache entry {}", file, e);
+                properties.clear();
+            }
+        }
+        return properties;
+    }
+
+    // the entry is read again under a file lock, so builds probing the same installation keep the properties of
+    // each other. File locks are held by the whole JVM, so the threads of one JVM are serialized before taking it
+    private void merge(final Path file, final String property, final String value) {
+        Path temporary = null;
+        synchronized (MavenDescriptorCache.class) {
+            try {
+                Files.createDirectories(file.getParent());
+                final Path lock = file.resolveSibling(file.getFileName() + ".lock");
+                try (FileChannel channel = FileChannel.open(lock, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                     FileLock ignored = channel.lock()) {
+                    final Properties properties = read(file);
+                    properties.setProperty(property, value);
+                    temporary = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+                    try (OutputStream stream = Files.newOutputStream(temporary)) {
+                        properties.store(stream, null);
+                    }
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                }
+            } catch (IOException e) {
+                LOGGER.debug("Can't write Maven descriptor cache entry {}", file, e);
+                deleteQuietly(temporary);
+            }
+        }
+    }
+
+    @SuppressWarnings({"checkstyle:EmptyCatchBlock", "PMD.EmptyCatchBlock", "java:S108"})
+    private void deleteQuietly(final Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
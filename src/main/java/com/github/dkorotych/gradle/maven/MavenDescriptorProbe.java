@@ -0,0 +1,62 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+
+/**
+ * Entry point which is launched by plexus-classworlds inside the Maven installation instead of Maven itself. It asks
+ * Maven for the version and for the help in one process, and separates both outputs with the marker lines. The class
+ * must use only the JDK, because it is loaded without the plugin dependencies.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ * @see MavenCombinedProbe
+ */
+public final class MavenDescriptorProbe {
+    /**
+     * Prefix of the line which is printed before the output of each Maven option.
+     */
+    public static final String MARKER = "@@gradle-maven-exec-probe ";
+    private static final String MAVEN_CLI = "org.apache.maven.cli.MavenCli";
+
+    private MavenDescriptorProbe() {
+    }
+
+    /**
+     * Ask Maven for each option which is passed as an argument.
+     *
+     * @param args Maven options
+     * @throws Exception Maven can't be launched
+     */
+    public static void main(final String[] args) throws Exception {
+        final Class<?> cliClass = Class.forName(MAVEN_CLI, true, MavenDescriptorProbe.class.getClassLoader());
+        final Method doMain = cliClass.getMethod("doMain", String[].class, String.class, PrintStream.class,
+                PrintStream.class);
+        final PrintStream out = System.out;
+        final String workingDirectory = System.getProperty("user.dir");
+        for (final String option : args) {
+            out.println(MARKER + option);
+            out.flush();
+            final Object exitCode = doMain.invoke(cliClass.getConstructor().newInstance(),
+                    new String[]{option}, workingDirectory, out, System.err);
+            out.flush();
+            if (exitCode instanceof Integer code && code != 0) {
+                System.exit(code);
+            }
+        }
+    }
+}
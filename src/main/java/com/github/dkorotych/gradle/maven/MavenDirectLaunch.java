@@ -0,0 +1,194 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.apache.commons.lang3.StringUtils;
+import org.gradle.api.GradleException;
+import org.gradle.internal.os.OperatingSystem;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * The JVM launch which the {@code mvn} script computes for the Maven installation: the Java executable, the JVM
+ * options from {@code .mvn/jvm.config}, {@code MAVEN_OPTS} and {@code MAVEN_DEBUG_OPTS}, the plexus-classworlds
+ * launcher with {@code bin/m2.conf}, and the {@code maven.home} and {@code maven.multiModuleProjectDirectory}
+ * properties. Launching this command line directly skips the shell and the script on every execution.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+final class MavenDirectLaunch {
+    /**
+     * Environment variables which change the launch.
+     */
+    static final List<String> ENVIRONMENT = List.of("JAVA_HOME", "PATH", "MAVEN_OPTS", "MAVEN_DEBUG_OPTS",
+            "MAVEN_BASEDIR", "MAVEN_ARGS");
+    private static final String NATIVE_ACCESS = "--enable-native-access=ALL-UNNAMED";
+    private static final int NATIVE_ACCESS_VERSION = 17;
+    private static final Pattern JAVA_VERSION = Pattern.compile("(?m)^JAVA_VERSION=\"(?:1\\.)?(\\d+)");
+
+    private final String executable;
+    private final List<String> arguments;
+
+    private MavenDirectLaunch(final String executable, final List<String> arguments) {
+        this.executable = executable;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Compute the launch.
+     *
+     * @param installation   Maven installation directory
+     * @param startDirectory Directory where the search of the multi-module project directory starts
+     * @param environment    Environment variables of the Maven process
+     * @return Launch
+     */
+    static MavenDirectLaunch create(final Path installation, final Path startDirectory,
+                                    final Map<String, String> environment) {
+        final Path mavenHome = installation.toAbsolutePath().normalize();
+        final Path classworlds = MavenCombinedProbe.findClassworlds(mavenHome)
+                .orElseThrow(() -> new GradleException("Directory " + mavenHome + " is not a Maven installation"));
+        final Path configuration = mavenHome.resolve("bin").resolve("m2.conf");
+        if (!Files.isRegularFile(configuration)) {
+            throw new GradleException("Directory " + mavenHome + " has no launcher configuration");
+        }
+        final Path baseDirectory = Optional.ofNullable(environment.get("MAVEN_BASEDIR"))
+                .filter(StringUtils::isNotBlank)
+                .map(Path::of)
+                .orElseGet(() -> MavenArgumentsSpill.findBaseDirectory(startDirectory));
+        final Path java = findJava(environment);
+        final List<String> arguments = new ArrayList<>();
+        if (getFeatureVersion(java) >= NATIVE_ACCESS_VERSION) {
+            arguments.add(NATIVE_ACCESS);
+        }
+        arguments.addAll(split(readJvmConfig(baseDirectory)));
+        arguments.addAll(split(environment.get("MAVEN_OPTS")));
+        arguments.addAll(split(environment.get("MAVEN_DEBUG_OPTS")));
+        arguments.addAll(List.of(
+                "-classpath", classworlds.toString(),
+                "-Dclassworlds.conf=" + configuration,
+                "-Dmaven.home=" + mavenHome,
+                "-Dlibrary.jansi.path=" + mavenHome.resolve("lib").resolve("jansi-native"),
+                "-Dmaven.multiModuleProjectDirectory=" + baseDirectory,
+                MavenCombinedProbe.LAUNCHER));
+        return new MavenDirectLaunch(java.toString(), List.copyOf(arguments));
+    }
+
+    /**
+     * Split the value of a variable into arguments the same way as the unquoted expansion in the script.
+     *
+     * @param value Variable value
+     * @return Arguments
+     */
+    static List<String> split(final String value) {
+        return StringUtils.isBlank(value)
+                ? List.of()
+                : Arrays.asList(value.trim().split("\\s+"));
+    }
+
+    /**
+     * Java executable.
+     *
+     * @return Java executable
+     */
+    String getExecutable() {
+        return executable;
+    }
+
+    /**
+     * JVM options, the launcher class and its options, which are followed by the Maven arguments.
+     *
+     * @return Arguments
+     */
+    List<String> getArguments() {
+        return arguments;
+    }
+
+    private static Path findJava(final Map<String, String> environment) {
+        final String name = OperatingSystem.current().getExecutableName("java");
+        final String javaHome = environment.get("JAVA_HOME");
+        if (StringUtils.isNotBlank(javaHome)) {
+            final Path java = Path.of(javaHome.trim(), "bin", name);
+            if (!Files.isRegularFile(java)) {
+                throw new GradleException("The JAVA_HOME environment variable is not defined correctly, " + java
+                        + " is not found");
+            }
+            return java;
+        }
+        return Optional.ofNullable(environment.get("PATH"))
+                .stream()
+                .flatMap(path -> Stream.of(path.split(File.pathSeparator)))
+                .filter(StringUtils::isNotBlank)
+                .map(directory -> resolve(directory, name))
+                .flatMap(Optional::stream)
+                .findFirst()
+                .orElseGet(() -> Path.of(MavenCombinedProbe.getJavaExecutable()));
+    }
+
+    @SuppressWarnings({"checkstyle:EmptyCatchBlock", "PMD.EmptyCatchBlock", "java:S108"})
+    private static Optional<Path> resolve(final String directory, final String name) {
+        try {
+            final Path executable = Path.of(directory.trim(), name);
+            if (Files.isRegularFile(executable)) {
+                return Optional.of(executable);
+            }
+        } catch (InvalidPathException ignored) {
+        }
+        return Optional.empty();
+    }
+
+    private static int getFeatureVersion(final Path java) {
+        try {
+            final Path javaHome = java.toRealPath().getParent().getParent();
+            if (javaHome.equals(Path.of(System.getProperty("java.home")).toRealPath())) {
+                return Runtime.version().feature();
+            }
+            final Path release = javaHome.resolve("release");
+            if (Files.isRegularFile(release)) {
+                final Matcher matcher = JAVA_VERSION.matcher(Files.readString(release));
+                if (matcher.find()) {
+                    return Integer.parseInt(matcher.group(1));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+        return 0;
+    }
+
+    private static String readJvmConfig(final Path baseDirectory) {
+        final Path file = baseDirectory.resolve(".mvn").resolve("jvm.config");
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return Files.readString(file);
+        } catch (IOException e) {
+            throw new GradleException("Can't read " + file, e);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.apache.commons.lang3.StringUtils;
+import org.gradle.api.GradleException;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Runs Maven inside the current JVM. Every Maven installation gets its own class loader with the same class path as
+ * {@code bin/m2.conf} describes, isolated from the Gradle classes, which is created once and reused by all
+ * executions of the build. Maven reads global system properties and {@code MavenCli} sets every {@code -D} option
+ * as a system property, so the executions are serialized and the system properties which Maven sets are restored to
+ * their state before the execution. These are the {@code -D} options of the command line and of
+ * {@code .mvn/maven.config}, and the properties of the Maven launcher, the logger and Guice. Other properties, which
+ * other threads of the Gradle JVM may change meanwhile, are left untouched.
+ * <p>
+ * {@code MavenCli} also replaces {@link System#out} and {@link System#err} with the streams of the execution until it
+ * finishes, so the output which other tasks running in parallel write to the standard streams at that time goes to the
+ * Maven output.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenEmbeddedRuntime implements AutoCloseable {
+    private static final Logger LOGGER = Logging.getLogger(MavenEmbeddedRuntime.class);
+    private static final String MAVEN_CLI = "org.apache.maven.cli.MavenCli";
+    private static final String MAVEN_HOME = "maven.home";
+    private static final String MULTI_MODULE_PROJECT_DIRECTORY = "maven.multiModuleProjectDirectory";
+    private static final String JANSI_PATH = "library.jansi.path";
+    private static final List<String> MAVEN_PROPERTY_PREFIXES = List.of("maven.", "library.jansi.", "jansi.",
+            "org.slf4j.simpleLogger.", "guice.");
+    private static final List<String> DEFINE_OPTIONS = List.of("-D", "--define");
+
+    private final Map<Path, URLClassLoader> classLoaders = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Execute Maven.
+     *
+     * @param mavenHome  Maven installation directory
+     * @param arguments  Command line arguments
+     * @param workingDir Working directory
+     * @param output     Standard output
+     * @param error      Error output
+     * @return Exit value
+     */
+    public int execute(final Path mavenHome, final List<String> arguments, final File workingDir,
+                       final PrintStream output, final PrintStream error) {
+        final ClassLoader classLoader = classLoaders.computeIfAbsent(mavenHome.toAbsolutePath().normalize(),
+                MavenEmbeddedRuntime::createClassLoader);
+        final Path workingDirectory = workingDir.toPath().toAbsolutePath().normalize();
+        lock.lock();
+        final Thread thread = Thread.currentThread();
+        final ClassLoader contextClassLoader = thread.getContextClassLoader();
+        final Properties properties = (Properties) System.getProperties().clone();
+        final Path baseDirectory = MavenArgumentsSpill.findBaseDirectory(workingDirectory);
+        final Set<String> defined = getDefinedProperties(arguments, baseDirectory);
+        try {
+            System.setProperty(MAVEN_HOME, mavenHome.toString());
+            System.setProperty(MULTI_MODULE_PROJECT_DIRECTORY, baseDirectory.toString());
+            System.setProperty(JANSI_PATH, mavenHome.resolve("lib").resolve("jansi-native").toString());
+            thread.setContextClassLoader(classLoader);
+            final Class<?> type = classLoader.loadClass(MAVEN_CLI);
+            final Method doMain = type.getMethod("doMain", String[].class, String.class, PrintStream.class,
+                    PrintStream.class);
+            final long start = System.nanoTime();
+            final int result = (int) doMain.invoke(type.getConstructor().newInstance(),
+                    arguments.toArray(String[]::new), workingDirectory.toString(), output, error);
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Embedded Maven finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+            }
+            return result;
+        } catch (InvocationTargetException e) {
+            throw new GradleException("Embedded Maven failed", e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new GradleException("Can't launch embedded Maven from " + mavenHome, e);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+            restoreProperties(properties, defined);
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        final Iterator<URLClassLoader> iterator = classLoaders.values().iterator();
+        while (iterator.hasNext()) {
+            final URLClassLoader classLoader = iterator.next();
+            iterator.remove();
+            try {
+                classLoader.close();
+            } catch (IOException e) {
+                LOGGER.debug("Can't close class loader of embedded Maven", e);
+            }
+        }
+    }
+
+    /**
+     * Names of the system properties which {@code MavenCli} sets from the {@code -D} options of the command line and
+     * of {@code .mvn/maven.config}.
+     *
+     * @param arguments     Command line arguments
+     * @param baseDirectory Multi-module project directory
+     * @return Names of the properties
+     */
+    static Set<String> getDefinedProperties(final List<String> arguments, final Path baseDirectory) {
+        final List<String> options = new ArrayList<>();
+        final Path config = baseDirectory.resolve(".mvn").resolve("maven.config");
+        if (Files.isRegularFile(config)) {
+            try {
+                options.addAll(MavenDirectLaunch.split(Files.readString(config)));
+            } catch (IOException e) {
+                LOGGER.debug("Can't read {}", config, e);
+            }
+        }
+        options.addAll(arguments);
+        final Set<String> names = new HashSet<>();
+        for (int i = 0; i < options.size(); i++) {
+            final String option = options.get(i);
+            String definition = null;
+            if (DEFINE_OPTIONS.contains(option)) {
+                definition = i + 1 < options.size() ? options.get(++i) : null;
+            } else if (option.startsWith("--define=")) {
+                definition = option.substring("--define=".length());
+            } else if (option.startsWith("-D")) {
+                definition = option.substring(2);
+            }
+            if (definition != null) {
+                names.add(StringUtils.substringBefore(definition, '='));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Restore the properties which Maven has set and leave the properties which were changed by other threads.
+     *
+     * @param snapshot Properties before the execution
+     * @param defined  Names of the properties which are defined by the options of the execution
+     */
+    static void restoreProperties(final Properties snapshot, final Set<String> defined) {
+        final Properties properties = System.getProperties();
+        final Set<Object> names = new HashSet<>(properties.keySet());
+        names.addAll(snapshot.keySet());
+        for (Object name : names) {
+            final Object value = snapshot.get(name);
+            if (Objects.equals(value, properties.get(name)) || !isMavenProperty(name, defined)) {
+                continue;
+            }
+            if (value == null) {
+                properties.remove(name);
+            } else {
+                properties.put(name, value);
+            }
+        }
+    }
+
+    private static boolean isMavenProperty(final Object name, final Set<String> defined) {
+        final String property = String.valueOf(name);
+        return defined.contains(property) || MAVEN_PROPERTY_PREFIXES.stream().anyMatch(property::startsWith);
+    }
+
+    private static URLClassLoader createClassLoader(final Path mavenHome) {
+        final Path lib = mavenHome.resolve("lib");
+        final Path ext = lib.resolve("ext");
+        final List<Path> classPath = new ArrayList<>();
+        classPath.add(mavenHome.resolve("conf").resolve("logging"));
+        listDirectories(ext).forEach(directory -> classPath.addAll(listJars(directory)));
+        classPath.addAll(listJars(ext));
+        classPath.addAll(listJars(lib));
+        classPath.addAll(listJars(mavenHome.resolve("boot")));
+        if (classPath.stream().noneMatch(path -> path.getFileName().toString().startsWith("maven-embedder"))) {
+            throw new GradleException("Directory " + mavenHome + " is not a Maven installation");
+        }
+        final URL[] urls = classPath.stream()
+                .map(MavenEmbeddedRuntime::toUrl)
+                .toArray(URL[]::new);
+        return new URLClassLoader("maven-embedded", urls, ClassLoader.getPlatformClassLoader());
+    }
+
+    private static List<Path> listJars(final Path directory) {
+        return list(directory, path -> Files.isRegularFile(path) && path.getFileName().toString().endsWith(".jar"));
+    }
+
+    private static List<Path> listDirectories(final Path directory) {
+        return list(directory, Files::isDirectory);
+    }
+
+    private static List<Path> list(final Path directory, final Predicate<Path> filter) {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(filter)
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new GradleException("Can't read directory " + directory, e);
+        }
+    }
+
+    private static URL toUrl(final Path path) {
+        try {
+            return path.toUri().toURL();
+        } catch (MalformedURLException e) {
+            throw new GradleException("Incorrect path " + path, e);
+        }
+    }
+}
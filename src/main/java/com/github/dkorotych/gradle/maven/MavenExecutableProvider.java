@@ -20,6 +20,7 @@ import org.gradle.internal.os.OperatingSystem;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -31,6 +32,8 @@ import java.util.stream.Stream;
  */
 public class MavenExecutableProvider {
     private final Path mavenHome;
+    private final MavenWrapperDistributionResolver distributionResolver;
+    private final MemoizedSupplier<Optional<Path>> installationSupplier = MemoizedSupplier.of(this::findInstallation);
     private final MemoizedSupplier<String> executableSupplier = MemoizedSupplier.of(this::build);
 
     /**
@@ -39,7 +42,18 @@ public class MavenExecutableProvider {
      * @param mavenHome Maven installation directory
      */
     public MavenExecutableProvider(final Path mavenHome) {
+        this(mavenHome, new MavenWrapperDistributionResolver());
+    }
+
+    /**
+     * Created a cached Maven executable command.
+     *
+     * @param mavenHome            Maven installation directory
+     * @param distributionResolver Resolver of the Maven Wrapper distributions
+     */
+    public MavenExecutableProvider(final Path mavenHome, final MavenWrapperDistributionResolver distributionResolver) {
         this.mavenHome = mavenHome;
+        this.distributionResolver = distributionResolver;
     }
 
     /**
@@ -51,9 +65,48 @@ public class MavenExecutableProvider {
         return executableSupplier.get();
     }
 
+    /**
+     * Get the real Maven installation directory. For the Maven Wrapper this is the already downloaded distribution.
+     *
+     * @return Maven installation directory, or empty if it is unknown without launching Maven
+     */
+    public Optional<Path> getInstallation() {
+        return installationSupplier.get();
+    }
+
+    /**
+     * Is the installation a Maven Daemon (mvnd) distribution?
+     *
+     * @return true, if the installation contains the mvnd client, false - otherwise
+     */
+    public boolean isDaemon() {
+        return getInstallation()
+                .map(MavenExecutableProvider::findDaemonExecutable)
+                .isPresent();
+    }
+
+    /**
+     * Find the Maven Daemon (mvnd) client in the installation directory. The native client is preferred to the
+     * script one.
+     *
+     * @param installation Installation directory
+     * @return Path to the mvnd client, or {@code null} if it is not a Maven Daemon installation
+     */
+    static Path findDaemonExecutable(final Path installation) {
+        final Path bin = installation.resolve("bin");
+        final List<String> names = OperatingSystem.current().isWindows()
+                ? List.of("mvnd.exe", "mvnd.cmd")
+                : List.of("mvnd", "mvnd.sh");
+        return names.stream()
+                .map(bin::resolve)
+                .filter(Files::isRegularFile)
+                .findFirst()
+                .orElse(null);
+    }
+
     @SuppressWarnings("java:S108")
-    private String build() {
-        final boolean hasWrapper = Optional.ofNullable(mavenHome)
+    private boolean hasWrapper() {
+        return Optional.ofNullable(mavenHome)
                 .flatMap(path -> {
                     try (@SuppressWarnings("checkstyle:EmptyCatchBlock")
                          Stream<Path> files = Files.list(path)) {
@@ -65,14 +118,30 @@ public class MavenExecutableProvider {
                     return Optional.empty();
                 })
                 .isPresent();
+    }
+
+    private Optional<Path> findInstallation() {
+        if (hasWrapper()) {
+            return distributionResolver.resolve(mavenHome);
+        }
+        return Optional.ofNullable(mavenHome);
+    }
+
+    private String build() {
+        final Optional<Path> installation = getInstallation();
+        final Optional<Path> daemon = installation.map(MavenExecutableProvider::findDaemonExecutable);
+        if (daemon.isPresent()) {
+            return daemon.get().toAbsolutePath().toString();
+        }
+        final boolean useWrapper = installation.isEmpty() && hasWrapper();
         final boolean windows = OperatingSystem.current().isWindows();
         final StringBuilder command = new StringBuilder("mvn");
-        if (hasWrapper) {
+        if (useWrapper) {
             command.append('w');
         }
         if (windows) {
             final String extension = ".cmd";
-            if (hasWrapper) {
+            if (useWrapper) {
                 command.append(extension);
             } else {
                 final boolean oldVersion = Path.of(command + ".bat").toFile().exists();
@@ -83,15 +152,13 @@ public class MavenExecutableProvider {
                 }
             }
         }
-        if (mavenHome != null) {
-            final Path pathToRunner;
-            if (hasWrapper) {
-                pathToRunner = mavenHome.resolve(command.toString());
-            } else {
-                pathToRunner = mavenHome.resolve("bin").resolve(command.toString());
-            }
-            return pathToRunner.toAbsolutePath().toString();
+        if (useWrapper) {
+            return mavenHome.resolve(command.toString()).toAbsolutePath().toString();
         }
-        return command.toString();
+        return installation.map(path -> path.resolve("bin")
+                        .resolve(command.toString())
+                        .toAbsolutePath()
+                        .toString())
+                .orElseGet(command::toString);
     }
 }
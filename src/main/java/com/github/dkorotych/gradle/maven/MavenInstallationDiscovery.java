@@ -0,0 +1,135 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static com.github.dkorotych.gradle.maven.MavenDescriptor.isMavenDaemonExecutionFile;
+import static com.github.dkorotych.gradle.maven.MavenDescriptor.isMavenExecutionFile;
+import static com.github.dkorotych.gradle.maven.MavenDescriptor.isMavenExecutionWrapperFile;
+
+/**
+ * A cache of Maven installation lookups. A candidate is checked first with a few file status calls: it can be a Maven
+ * Wrapper script, a Maven or Maven Daemon executable file in the {@code bin} directory, or a directory which contains
+ * one of them. Only when they fail, the directory is searched two levels deep by {@link MavenHomeProvider}, so nested
+ * installations are still found. Both found installations and directories without Maven are remembered, so
+ * a candidate is checked again only after its modification time has changed.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenInstallationDiscovery {
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+    private final UnaryOperator<Path> search;
+
+    /**
+     * Create an empty discovery cache.
+     */
+    public MavenInstallationDiscovery() {
+        this(MavenInstallationDiscovery::search);
+    }
+
+    MavenInstallationDiscovery(final UnaryOperator<Path> search) {
+        this.search = search;
+    }
+
+    /**
+     * Find the Maven installation in the directory or by the Maven executable file.
+     *
+     * @param directory Directory or Maven executable file
+     * @return Maven installation directory, or empty if Maven is not found
+     */
+    public Optional<Path> find(final File directory) {
+        if (directory == null) {
+            return Optional.empty();
+        }
+        final Path path = directory.toPath()
+                .normalize()
+                .toAbsolutePath();
+        final long modified = lastModified(path);
+        return Optional.ofNullable(entries.compute(path, (key, entry) -> {
+                    if (entry != null && entry.modified() == modified && entry.isValid()) {
+                        return entry;
+                    }
+                    return new Entry(modified, search.apply(key));
+                }).mavenHome());
+    }
+
+    private static Path search(final Path path) {
+        final File file = path.toFile();
+        if (isMavenExecutionWrapperFile(file)) {
+            return path.getParent();
+        }
+        if (isMavenExecutionFile(file) || isMavenDaemonExecutionFile(file)) {
+            return Optional.ofNullable(path.getParent())
+                    .filter(parent -> isBinDirectory(parent.toFile()))
+                    .map(Path::getParent)
+                    .orElse(null);
+        }
+        if (!file.isDirectory()) {
+            return null;
+        }
+        if (containsAny(file, "mvnw", "mvnw.cmd") || isBinDirectory(new File(file, "bin"))) {
+            return path;
+        }
+        if (isBinDirectory(file)) {
+            return path.getParent();
+        }
+        return searchNested(file);
+    }
+
+    private static Path searchNested(final File directory) {
+        final MavenHomeProvider provider = new MavenHomeProvider();
+        try {
+            provider.setMavenHome(directory);
+            return provider.getMavenHome();
+        } catch (IncorrectMavenInstallationDirectoryException ignored) {
+            return null;
+        }
+    }
+
+    private static boolean isBinDirectory(final File directory) {
+        return "bin".equals(directory.getName())
+                && containsAny(directory, "mvn", "mvn.cmd", "mvn.bat", "mvnd", "mvnd.sh", "mvnd.cmd", "mvnd.exe");
+    }
+
+    private static boolean containsAny(final File directory, final String... names) {
+        return Stream.of(names)
+                .map(name -> new File(directory, name))
+                .anyMatch(File::isFile);
+    }
+
+    private static long lastModified(final Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private record Entry(long modified, Path mavenHome) {
+        boolean isValid() {
+            return mavenHome == null || Files.isDirectory(mavenHome);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.apache.commons.lang3.StringUtils;
+import org.gradle.api.GradleException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the local repository which Maven uses for the options: the {@code maven.repo.local} property of the
+ * options or {@code MAVEN_OPTS}, the {@code localRepository} element of the user or the global settings file, which
+ * is set in the options, or the default {@code ~/.m2/repository}. The global settings file of the installation is
+ * not read. Relative paths are resolved against the working directory of Maven, like Maven itself does.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenLocalRepository {
+    private static final String PROPERTY = "maven.repo.local";
+    private static final Pattern MAVEN_OPTS = Pattern.compile("(?:^|\\s)-D" + Pattern.quote(PROPERTY)
+            + "=(\"[^\"]*\"|\\S+)");
+    private static final Pattern EXPRESSION = Pattern.compile("\\$\\{(env\\.)?([^}]+)}");
+    private static final XMLInputFactory FACTORY = MavenPomReader.createFactory();
+
+    private MavenLocalRepository() {
+    }
+
+    /**
+     * Find the local repository.
+     *
+     * @param options     Maven options
+     * @param environment Environment variables of the Maven process
+     * @param workingDir  Working directory of the Maven process, {@code null} for the current directory
+     * @return Local repository directory
+     */
+    public static Path find(final MavenOptions options, final Map<String, ?> environment, final File workingDir) {
+        Objects.requireNonNull(options, "Maven options should be not null");
+        final Function<Path, Path> resolve = path -> workingDir == null ? path : workingDir.toPath().resolve(path);
+        final Function<String, String> variables = name -> Optional.ofNullable(environment.get(name))
+                .map(String::valueOf)
+                .orElse(null);
+        final Path userHome = Path.of(System.getProperty("user.home"));
+        return Optional.ofNullable(options.getDefine())
+                .map(define -> define.get(PROPERTY))
+                .filter(StringUtils::isNotBlank)
+                .or(() -> Optional.ofNullable(variables.apply("MAVEN_OPTS"))
+                        .map(MAVEN_OPTS::matcher)
+                        .filter(Matcher::find)
+                        .map(matcher -> StringUtils.unwrap(matcher.group(1), '"')))
+                .or(() -> readSettings(Optional.ofNullable(options.getSettings())
+                        .map(File::toPath)
+                        .map(resolve)
+                        .orElseGet(() -> userHome.resolve(".m2").resolve("settings.xml"))))
+                .or(() -> Optional.ofNullable(options.getGlobalSettings())
+                        .map(File::toPath)
+                        .map(resolve)
+                        .flatMap(MavenLocalRepository::readSettings))
+                .map(value -> interpolate(value, userHome, variables))
+                .map(Path::of)
+                .map(resolve)
+                .orElseGet(() -> userHome.resolve(".m2").resolve("repository"))
+                .toAbsolutePath()
+                .normalize();
+    }
+
+    /**
+     * Read the {@code localRepository} element of the settings file.
+     *
+     * @param file Settings file
+     * @return Local repository or empty, if the file or the element does not exist
+     */
+    static Optional<String> readSettings(final Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (InputStream stream = Files.newInputStream(file)) {
+            final XMLStreamReader reader = FACTORY.createXMLStreamReader(stream);
+            try {
+                int depth = 0;
+                while (reader.hasNext()) {
+                    final int event = reader.next();
+                    if (event == XMLStreamReader.START_ELEMENT) {
+                        depth++;
+                        if (depth == 2 && "localRepository".equals(reader.getLocalName())) {
+                            return Optional.of(reader.getElementText().trim())
+                                    .filter(StringUtils::isNotEmpty);
+                        }
+                    } else if (event == XMLStreamReader.END_ELEMENT) {
+                        depth--;
+                    }
+                }
+                return Optional.empty();
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException e) {
+            throw new GradleException("Can't read Maven settings " + file, e);
+        }
+    }
+
+    private static String interpolate(final String value, final Path userHome,
+                                      final Function<String, String> variables) {
+        final Matcher matcher = EXPRESSION.matcher(value);
+        final StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            final String name = matcher.group(2);
+            final String replacement;
+            if (matcher.group(1) != null) {
+                replacement = variables.apply(name);
+            } else if ("user.home".equals(name)) {
+                replacement = userHome.toString();
+            } else {
+                replacement = System.getProperty(name);
+            }
+            matcher.appendReplacement(result, Matcher.quoteReplacement(
+                    Optional.ofNullable(replacement).orElse(matcher.group())));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+}
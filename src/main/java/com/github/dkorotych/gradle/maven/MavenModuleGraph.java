@@ -0,0 +1,354 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.apache.commons.lang3.StringUtils;
+import org.gradle.api.GradleException;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Immutable graph of the modules of a Maven reactor, which is read from the root {@code pom.xml} file and the
+ * {@code <modules>} of every project and of its active profiles, without Maven itself. The edges of the graph are the
+ * parents and the dependencies between the modules of the reactor.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenModuleGraph {
+    private static final String POM = "pom.xml";
+    private static final String GROUP_ID = "project.groupId";
+    private static final String ARTIFACT_ID = "project.artifactId";
+    private final Path directory;
+    private final List<Module> modules;
+
+    private final Map<String, Module> identifiers;
+
+    private MavenModuleGraph(final Path directory, final List<Module> modules) {
+        this.directory = directory;
+        this.modules = List.copyOf(modules);
+        final Map<String, Module> byId = new HashMap<>();
+        modules.forEach(module -> byId.put(module.id(), module));
+        identifiers = Map.copyOf(byId);
+    }
+
+    /**
+     * Read the reactor of the Maven project with the default profiles.
+     *
+     * @param directory Directory of the root project
+     * @return Module graph
+     */
+    public static MavenModuleGraph read(final Path directory) {
+        return read(directory, List.of());
+    }
+
+    /**
+     * Read the reactor of the Maven project.
+     *
+     * @param directory Directory of the root project
+     * @param profiles  Values of the {@code activateProfiles} option: comma-separated identifiers of the profiles,
+     *                  which are deactivated with the {@code !} or {@code -} prefix
+     * @return Module graph
+     */
+    public static MavenModuleGraph read(final Path directory, final Collection<String> profiles) {
+        return read(directory, profiles, new MavenPomCache());
+    }
+
+    /**
+     * Read the reactor of the Maven project, unchanged {@code pom.xml} files are taken from the cache.
+     *
+     * @param directory Directory of the root project
+     * @param profiles  Values of the {@code activateProfiles} option: comma-separated identifiers of the profiles,
+     *                  which are deactivated with the {@code !} or {@code -} prefix
+     * @param cache     Cache of the parsed {@code pom.xml} files
+     * @return Module graph
+     */
+    public static MavenModuleGraph read(final Path directory, final Collection<String> profiles,
+                                        final MavenPomCache cache) {
+        final Set<String> active = new HashSet<>();
+        final Set<String> inactive = new HashSet<>();
+        for (final String value : profiles) {
+            for (final String profile : StringUtils.split(StringUtils.defaultString(value), ',')) {
+                final String id = StringUtils.removeStart(profile.trim(), '?');
+                if (id.startsWith("!") || id.startsWith("-")) {
+                    inactive.add(id.substring(1));
+                } else if (!id.isEmpty()) {
+                    active.add(StringUtils.removeStart(id, '+'));
+                }
+            }
+        }
+        final Path root = directory.toAbsolutePath().normalize();
+        final Map<Path, MavenPom> poms = new LinkedHashMap<>();
+        final Deque<Path> queue = new ArrayDeque<>();
+        queue.add(root.resolve(POM));
+        while (!queue.isEmpty()) {
+            final Path file = queue.poll();
+            if (poms.containsKey(file)) {
+                continue;
+            }
+            if (!Files.isRegularFile(file)) {
+                throw new GradleException("Maven project " + file + " does not exist");
+            }
+            final MavenPom pom = cache.read(file).activate(active, inactive);
+            poms.put(file, pom);
+            for (final String module : pom.modules()) {
+                queue.add(toPomFile(file.getParent().resolve(module)));
+            }
+        }
+        return new MavenModuleGraph(root, sort(resolve(root, poms)));
+    }
+
+    /**
+     * Get the directory of the root project.
+     *
+     * @return Root directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Get the modules of the reactor. Every module follows the modules it depends on, otherwise the modules keep the
+     * order of the declaration.
+     *
+     * @return Modules in the build order
+     */
+    public List<Module> getModules() {
+        return modules;
+    }
+
+    /**
+     * Find the module by its identifier.
+     *
+     * @param id Module identifier in the form {@code groupId:artifactId}
+     * @return Module
+     */
+    public Optional<Module> findModule(final String id) {
+        return Optional.ofNullable(identifiers.get(id));
+    }
+
+    private static Path toPomFile(final Path path) {
+        final Path normalized = path.normalize();
+        return Files.isDirectory(normalized) ? normalized.resolve(POM) : normalized;
+    }
+
+    private static List<Module> resolve(final Path root, final Map<Path, MavenPom> poms) {
+        final Map<Path, Scope> scopes = new HashMap<>();
+        final Map<String, Path> ids = new HashMap<>();
+        for (final MavenPom pom : poms.values()) {
+            final Scope scope = getScope(pom, poms, scopes);
+            final String id = scope.resolve(GROUP_ID) + ':' + scope.resolve(ARTIFACT_ID);
+            final Path previous = ids.putIfAbsent(id, pom.file());
+            if (previous != null) {
+                throw new GradleException("Maven projects " + previous + " and " + pom.file()
+                        + " have the same identifier " + id);
+            }
+        }
+        final List<Module> modules = new ArrayList<>(poms.size());
+        for (final MavenPom pom : poms.values()) {
+            final Scope scope = scopes.get(pom.file());
+            final String groupId = scope.resolve(GROUP_ID);
+            final String artifactId = scope.resolve(ARTIFACT_ID);
+            final Set<String> dependencies = new LinkedHashSet<>();
+            final String parent = Optional.ofNullable(pom.parent())
+                    .map(value -> scope.interpolate(value.groupId()) + ':' + scope.interpolate(value.artifactId()))
+                    .filter(ids::containsKey)
+                    .orElse(null);
+            if (parent != null) {
+                dependencies.add(parent);
+            }
+            for (final MavenPom.Dependency dependency : pom.dependencies()) {
+                final String id = Optional.ofNullable(dependency.groupId()).map(scope::interpolate).orElse(groupId)
+                        + ':' + scope.interpolate(dependency.artifactId());
+                if (ids.containsKey(id)) {
+                    dependencies.add(id);
+                }
+            }
+            final Path directory = pom.file().getParent();
+            dependencies.remove(groupId + ':' + artifactId);
+            modules.add(new Module(groupId + ':' + artifactId, groupId, artifactId, pom.packaging(), directory,
+                    root.relativize(directory).toString().replace(File.separatorChar, '/'),
+                    Set.copyOf(dependencies), parent));
+        }
+        return modules;
+    }
+
+    private static Scope getScope(final MavenPom pom, final Map<Path, MavenPom> poms, final Map<Path, Scope> cache) {
+        final Scope cached = cache.get(pom.file());
+        if (cached != null) {
+            return cached;
+        }
+        final Map<String, String> values = new HashMap<>(pom.properties());
+        final MavenPom.Parent parent = pom.parent();
+        Scope inherited = null;
+        if (parent != null) {
+            inherited = Optional.of(pom.file().getParent().resolve(parent.relativePath()))
+                    .map(MavenModuleGraph::toPomFile)
+                    .map(poms::get)
+                    .filter(candidate -> Objects.equals(candidate.artifactId(), parent.artifactId()))
+                    .map(candidate -> getScope(candidate, poms, cache))
+                    .orElse(null);
+            values.put("project.parent.groupId", parent.groupId());
+            values.put("project.parent.artifactId", parent.artifactId());
+            values.put("project.parent.version", parent.version());
+        }
+        values.put(GROUP_ID, Optional.ofNullable(pom.groupId())
+                .or(() -> Optional.ofNullable(parent).map(MavenPom.Parent::groupId))
+                .orElseThrow(() -> new GradleException("Maven project " + pom.file() + " has no groupId")));
+        values.put(ARTIFACT_ID, pom.artifactId());
+        Optional.ofNullable(pom.version())
+                .or(() -> Optional.ofNullable(parent).map(MavenPom.Parent::version))
+                .ifPresent(version -> values.put("project.version", version));
+        final Scope scope = new Scope(values, inherited);
+        cache.put(pom.file(), scope);
+        return scope;
+    }
+
+    private static List<Module> sort(final List<Module> modules) {
+        final Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < modules.size(); i++) {
+            indexes.put(modules.get(i).id(), i);
+        }
+        final int[] remaining = new int[modules.size()];
+        final List<List<Integer>> dependents = new ArrayList<>(modules.size());
+        modules.forEach(module -> dependents.add(new ArrayList<>()));
+        final Queue<Integer> ready = new PriorityQueue<>();
+        for (int i = 0; i < modules.size(); i++) {
+            final Set<String> dependencies = modules.get(i).dependencies();
+            remaining[i] = dependencies.size();
+            for (final String dependency : dependencies) {
+                dependents.get(indexes.get(dependency)).add(i);
+            }
+            if (remaining[i] == 0) {
+                ready.add(i);
+            }
+        }
+        final List<Module> sorted = new ArrayList<>(modules.size());
+        while (!ready.isEmpty()) {
+            final int index = ready.poll();
+            sorted.add(modules.get(index));
+            for (final int dependent : dependents.get(index)) {
+                if (--remaining[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if (sorted.size() < modules.size()) {
+            throw new GradleException("Maven modules have a cycle of dependencies: " + modules.stream()
+                    .filter(module -> !sorted.contains(module))
+                    .map(Module::id)
+                    .toList());
+        }
+        return sorted;
+    }
+
+    /**
+     * Properties of a project, which are looked up in the project and then in its parents.
+     *
+     * @param values Properties of the project
+     * @param parent Properties of the parent project, {@code null} if the parent is not in the reactor
+     */
+    private record Scope(Map<String, String> values, Scope parent) {
+        private static final int MAX_DEPTH = 16;
+
+        String resolve(final String name) {
+            return interpolate(get(name), 0);
+        }
+
+        String interpolate(final String value) {
+            return interpolate(value, 0);
+        }
+
+        private String get(final String name) {
+            for (Scope scope = this; scope != null; scope = scope.parent()) {
+                final String value = scope.values().get(name);
+                if (value != null) {
+                    return value;
+                }
+            }
+            return null;
+        }
+
+        private String interpolate(final String value, final int depth) {
+            int start = value == null || depth > MAX_DEPTH ? -1 : value.indexOf("${");
+            if (start < 0) {
+                return value;
+            }
+            final StringBuilder result = new StringBuilder(value.length());
+            int position = 0;
+            while (start >= 0) {
+                final int end = value.indexOf('}', start + 2);
+                if (end < 0) {
+                    break;
+                }
+                final String name = value.substring(start + 2, end);
+                final String replacement = Optional.ofNullable(get(name))
+                        .or(() -> Optional.ofNullable(name.startsWith("pom.") ? get("project." + name.substring(4))
+                                : get("project." + name)))
+                        .map(candidate -> interpolate(candidate, depth + 1))
+                        .orElse(null);
+                result.append(value, position, replacement == null ? end + 1 : start);
+                if (replacement != null) {
+                    result.append(replacement);
+                }
+                position = end + 1;
+                start = value.indexOf("${", position);
+            }
+            return result.append(value, position, value.length()).toString();
+        }
+    }
+
+    /**
+     * Module of the reactor.
+     *
+     * @param id           Identifier in the form {@code groupId:artifactId}
+     * @param groupId      Group identifier
+     * @param artifactId   Artifact identifier
+     * @param packaging    Packaging
+     * @param directory    Directory of the module
+     * @param path         Path of the directory relative to the root project, empty for the root project
+     * @param dependencies Identifiers of the modules of the reactor which the module depends on, including the parent
+     * @param parent       Identifier of the parent module, {@code null} if the parent is not in the reactor
+     */
+    public record Module(String id, String groupId, String artifactId, String packaging, Path directory,
+                         String path, Set<String> dependencies, String parent) {
+
+        /**
+         * Check whether the module is the root project.
+         *
+         * @return {@code true} for the root project
+         */
+        public boolean isRoot() {
+            return path.isEmpty();
+        }
+    }
+}
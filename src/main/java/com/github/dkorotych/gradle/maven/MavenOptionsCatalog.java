@@ -0,0 +1,87 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.apache.commons.lang3.StringUtils;
+import org.gradle.api.GradleException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * Catalog of the command line options supported by the known Maven versions. It allows to find out the supported
+ * options of an installation without launching Maven with the {@code --help} option.
+ * The catalog is generated from the test fixtures by the {@code generateOptionsCatalog} task.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenOptionsCatalog {
+    private static final String RESOURCE = "options-catalog.properties";
+    private static final String SUPPORTED_FORMAT = "1";
+    private static final MemoizedSupplier<Map<String, Set<String>>> CATALOG =
+            MemoizedSupplier.of(MavenOptionsCatalog::load);
+
+    private MavenOptionsCatalog() {
+    }
+
+    /**
+     * Get the supported options of a Maven version.
+     *
+     * @param version Maven version
+     * @return Supported options, or empty if the version is unknown
+     */
+    public static Optional<Set<String>> getSupportedOptions(final String version) {
+        return Optional.ofNullable(version)
+                .map(String::trim)
+                .map(CATALOG.get()::get);
+    }
+
+    /**
+     * Get all Maven versions in the catalog.
+     *
+     * @return Known Maven versions
+     */
+    public static Set<String> getVersions() {
+        return CATALOG.get().keySet();
+    }
+
+    private static Map<String, Set<String>> load() {
+        final Properties properties = new Properties();
+        try (InputStream stream = MavenOptionsCatalog.class.getResourceAsStream(RESOURCE)) {
+            if (stream == null) {
+                return Collections.emptyMap();
+            }
+            properties.load(stream);
+        } catch (IOException e) {
+            throw new GradleException("Can't read Maven options catalog", e);
+        }
+        if (!SUPPORTED_FORMAT.equals(properties.getProperty("catalog.version"))) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Set<String>> catalog = new HashMap<>();
+        final String prefix = "version.";
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(prefix)) {
+                final String options = properties.getProperty("options." + properties.getProperty(name));
+                if (StringUtils.isNotBlank(options)) {
+                    catalog.put(name.substring(prefix.length()), Set.of(StringUtils.split(options, ',')));
+                }
+            }
+        }
+        return Collections.unmodifiableMap(catalog);
+    }
+}
@@ -0,0 +1,243 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.apache.commons.lang3.StringUtils;
+import org.gradle.api.GradleException;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A table of Maven options. Every option has the command line flag and a getter reference, which are generated from
+ * {@link MavenOptions} at build time, so encoding of the options uses neither reflection nor regular expressions.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ * @see MavenOptionsTable
+ */
+final class MavenOptionsCodec {
+    private static final MavenOptionsCodec INSTANCE = new MavenOptionsCodec(MavenOptionsTable.PROPERTIES);
+    private final List<Property> properties;
+
+    private MavenOptionsCodec(final List<Property> properties) {
+        this.properties = List.copyOf(properties);
+    }
+
+    /**
+     * Get the codec for {@link MavenOptions}.
+     *
+     * @return Shared codec
+     */
+    static MavenOptionsCodec getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get all options sorted by the property name.
+     *
+     * @return Options
+     */
+    List<Property> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Select options which are supported by the Maven version.
+     *
+     * @param supportedOptions Supported options, {@code null} means all options
+     * @return Selected options sorted by the property name
+     */
+    List<Property> select(final Set<String> supportedOptions) {
+        if (supportedOptions == null) {
+            return properties;
+        }
+        final List<Property> selected = new ArrayList<>(properties.size());
+        for (final Property property : properties) {
+            if (supportedOptions.contains(property.option())) {
+                selected.add(property);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Encode options as command line arguments.
+     *
+     * @param options    Maven options
+     * @param properties Options to encode
+     * @return Command line arguments
+     */
+    static List<String> encode(final MavenOptions options, final List<Property> properties) {
+        final List<String> arguments = new ArrayList<>();
+        for (final Property property : properties) {
+            property.encode(options, arguments);
+        }
+        return arguments;
+    }
+
+    /**
+     * Encode options as command line arguments grouped by option. Every group holds one option with its value, so
+     * groups can be moved independently of each other.
+     *
+     * @param options    Maven options
+     * @param properties Options to encode
+     * @return Command line arguments grouped by option
+     */
+    static List<List<String>> encodeGroups(final MavenOptions options, final List<Property> properties) {
+        final List<List<String>> groups = new ArrayList<>();
+        for (final Property property : properties) {
+            final List<String> arguments = new ArrayList<>(2);
+            property.encode(options, arguments);
+            if (property.kind() == Kind.DEFINE) {
+                arguments.forEach(argument -> groups.add(List.of(argument)));
+            } else if (!arguments.isEmpty()) {
+                groups.add(List.copyOf(arguments));
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Convert the property name to the command line flag, for example {@code alsoMake} to {@code --also-make}.
+     *
+     * @param property Property name
+     * @return Command line flag
+     */
+    static String toOption(final String property) {
+        final StringBuilder option = new StringBuilder(property.length() + 6).append("--");
+        for (int i = 0; i < property.length(); i++) {
+            final char character = property.charAt(i);
+            if (Character.isUpperCase(character)) {
+                option.append('-').append(Character.toLowerCase(character));
+            } else {
+                option.append(character);
+            }
+        }
+        return option.toString();
+    }
+
+    private static String doubleQuoteIfNecessary(final String value) {
+        if (StringUtils.containsWhitespace(value) && value.charAt(0) != '"') {
+            return '"' + value + '"';
+        }
+        return value;
+    }
+
+    enum Kind {
+        BOOLEAN,
+        STRING,
+        FILE,
+        STRING_ARRAY,
+        DEFINE
+    }
+
+    /**
+     * One Maven option.
+     *
+     * @param name   Property name
+     * @param option Command line flag
+     * @param kind   Property type
+     * @param flag   Getter of the boolean property
+     * @param value  Getter of the other properties
+     */
+    record Property(String name, String option, Kind kind, Predicate<MavenOptions> flag,
+                    Function<MavenOptions, Object> value) {
+
+        /**
+         * Create a boolean option.
+         *
+         * @param name   Property name
+         * @param option Command line flag
+         * @param flag   Property getter
+         * @return Option
+         */
+        static Property flag(final String name, final String option, final Predicate<MavenOptions> flag) {
+            return new Property(name, option, Kind.BOOLEAN, flag, null);
+        }
+
+        /**
+         * Create an option with a value.
+         *
+         * @param name   Property name
+         * @param option Command line flag
+         * @param kind   Property type
+         * @param value  Property getter
+         * @return Option
+         */
+        static Property value(final String name, final String option, final Kind kind,
+                              final Function<MavenOptions, ?> value) {
+            return new Property(name, option, kind, null, value::apply);
+        }
+
+        void encode(final MavenOptions options, final List<String> arguments) {
+            switch (kind) {
+                case BOOLEAN -> {
+                    if (flag.test(options)) {
+                        arguments.add(option);
+                    }
+                }
+                case STRING -> addValue((String) value.apply(options), arguments);
+                case FILE -> {
+                    final File file = (File) value.apply(options);
+                    if (file != null) {
+                        addValue(file.getAbsolutePath(), arguments);
+                    }
+                }
+                case STRING_ARRAY -> addValue(join((String[]) value.apply(options)), arguments);
+                case DEFINE -> addDefine(options.getDefine(), arguments);
+                default -> throw new GradleException("Unsupported option type - " + kind);
+            }
+        }
+
+        private void addValue(final String text, final List<String> arguments) {
+            if (StringUtils.isNotBlank(text)) {
+                arguments.add(option);
+                arguments.add(doubleQuoteIfNecessary(text));
+            }
+        }
+
+        private static String join(final String[] values) {
+            if (values == null || values.length == 0) {
+                return null;
+            }
+            final StringBuilder builder = new StringBuilder();
+            for (final String value : values) {
+                if (StringUtils.isNotBlank(value)) {
+                    if (!builder.isEmpty()) {
+                        builder.append(',');
+                    }
+                    builder.append(value);
+                }
+            }
+            return builder.toString();
+        }
+
+        private static void addDefine(final Map<String, String> define, final List<String> arguments) {
+            if (define != null) {
+                for (final Map.Entry<String, String> entry : define.entrySet()) {
+                    if (StringUtils.isNotBlank(entry.getKey()) && StringUtils.isNotBlank(entry.getValue())) {
+                        arguments.add("-D" + entry.getKey() + '=' + doubleQuoteIfNecessary(entry.getValue()));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The part of a {@code pom.xml} file which describes the place of the project in the reactor. Values are not
+ * interpolated.
+ *
+ * @param file         POM file
+ * @param groupId      Group identifier, {@code null} if it is inherited from the parent
+ * @param artifactId   Artifact identifier
+ * @param version      Version, {@code null} if it is inherited from the parent
+ * @param packaging    Packaging
+ * @param parent       Parent project, {@code null} if there is no parent
+ * @param modules      Modules
+ * @param dependencies Dependencies
+ * @param properties   Properties
+ * @param profiles     Profiles
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+record MavenPom(Path file, String groupId, String artifactId, String version, String packaging, Parent parent,
+                List<String> modules, List<Dependency> dependencies, Map<String, String> properties,
+                List<Profile> profiles) {
+
+    /**
+     * Merge the modules, the dependencies and the properties of the active profiles into the project. A profile is
+     * active when it is activated explicitly, or when it is active by default and no other profile of the project is
+     * activated explicitly. Deactivation takes precedence over both.
+     *
+     * @param active   Identifiers of the profiles activated explicitly
+     * @param inactive Identifiers of the deactivated profiles
+     * @return Project without profiles
+     */
+    MavenPom activate(final Set<String> active, final Set<String> inactive) {
+        if (profiles.isEmpty()) {
+            return this;
+        }
+        final boolean explicit = profiles.stream()
+                .anyMatch(profile -> active.contains(profile.id()) && !inactive.contains(profile.id()));
+        final List<String> allModules = new ArrayList<>(modules);
+        final List<Dependency> allDependencies = new ArrayList<>(dependencies);
+        final Map<String, String> allProperties = new HashMap<>(properties);
+        for (final Profile profile : profiles) {
+            final boolean enabled = explicit ? active.contains(profile.id()) : profile.activeByDefault();
+            if (enabled && !inactive.contains(profile.id())) {
+                profile.modules().stream()
+                        .filter(module -> !allModules.contains(module))
+                        .forEach(allModules::add);
+                allDependencies.addAll(profile.dependencies());
+                allProperties.putAll(profile.properties());
+            }
+        }
+        return new MavenPom(file, groupId, artifactId, version, packaging, parent, List.copyOf(allModules),
+                List.copyOf(allDependencies), Map.copyOf(allProperties), List.of());
+    }
+
+    /**
+     * Parent project.
+     *
+     * @param groupId      Group identifier
+     * @param artifactId   Artifact identifier
+     * @param version      Version
+     * @param relativePath Path to the parent project
+     */
+    record Parent(String groupId, String artifactId, String version, String relativePath) {
+    }
+
+    /**
+     * Dependency.
+     *
+     * @param groupId    Group identifier
+     * @param artifactId Artifact identifier
+     */
+    record Dependency(String groupId, String artifactId) {
+    }
+
+    /**
+     * Profile.
+     *
+     * @param id              Identifier
+     * @param activeByDefault Profile is active if no other profile is activated explicitly
+     * @param modules         Modules
+     * @param dependencies    Dependencies
+     * @param properties      Properties
+     */
+    record Profile(String id, boolean activeByDefault, List<String> modules, List<Dependency> dependencies,
+                   Map<String, String> properties) {
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.gradle.api.GradleException;
+
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the parsed {@code pom.xml} files. Projects are cached by the hash of the file content, so unchanged files
+ * are not parsed again. The cache lives as long as its owner, the build-scoped registry shares one cache between all
+ * reactors of the build.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenPomCache {
+    private final Map<Path, Cached> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Read the POM file, or take it from the cache if the content of the file has not changed.
+     *
+     * @param file POM file
+     * @return Project
+     */
+    MavenPom read(final Path file) {
+        final byte[] content = MavenPomReader.readContent(file);
+        final String hash = hash(content);
+        final Cached cached = entries.get(file);
+        if (cached != null && cached.hash().equals(hash)) {
+            return cached.pom();
+        }
+        final MavenPom pom = MavenPomReader.parse(file, content);
+        entries.put(file, new Cached(hash, pom));
+        return pom;
+    }
+
+    private static String hash(final byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new GradleException("Can't create Maven project fingerprint", e);
+        }
+    }
+
+    /**
+     * Project read from a file with the content hash.
+     *
+     * @param hash Content hash
+     * @param pom  Project
+     */
+    private record Cached(String hash, MavenPom pom) {
+    }
+}
@@ -0,0 +1,258 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.gradle.api.GradleException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming reader of {@code pom.xml} files, which reads only the elements needed to build the reactor: the
+ * coordinates, the parent, the modules, the dependencies, the properties and the same elements of the profiles.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+final class MavenPomReader {
+    private static final XMLInputFactory FACTORY = createFactory();
+    private static final String PROJECT = "project/";
+    private static final String PROFILE = "project/profiles/profile/";
+    private static final String DEPENDENCY = "dependencies/dependency";
+    private static final String PROPERTIES = "properties/";
+
+    private final Path file;
+    private final Section project = new Section();
+    private final Map<String, String> coordinates = new HashMap<>();
+    private final Map<String, String> parent = new HashMap<>();
+    private final List<MavenPom.Profile> profiles = new ArrayList<>();
+    private Section profile;
+    private String profileId;
+    private boolean activeByDefault;
+    private boolean hasParent;
+    private String dependencyGroupId;
+    private String dependencyArtifactId;
+
+    private MavenPomReader(final Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Read the POM file.
+     *
+     * @param file POM file
+     * @return Project
+     */
+    static MavenPom read(final Path file) {
+        return parse(file, readContent(file));
+    }
+
+    /**
+     * Read the content of the POM file.
+     *
+     * @param file POM file
+     * @return File content
+     */
+    static byte[] readContent(final Path file) {
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw new GradleException("Can't read Maven project " + file, e);
+        }
+    }
+
+    /**
+     * Create the built-in factory of XML readers, which does not resolve external entities. The built-in factory
+     * skips the lookup of the implementation on the class path, which is slow for the large class path of a build.
+     *
+     * @return XML factory
+     */
+    static XMLInputFactory createFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Parse the content of the POM file.
+     *
+     * @param file    POM file
+     * @param content File content
+     * @return Project
+     */
+    static MavenPom parse(final Path file, final byte[] content) {
+        try {
+            final XMLStreamReader reader = FACTORY.createXMLStreamReader(new ByteArrayInputStream(content));
+            try {
+                return new MavenPomReader(file).read(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new GradleException("Can't read Maven project " + file, e);
+        }
+    }
+
+    private MavenPom read(final XMLStreamReader reader) throws XMLStreamException {
+        final StringBuilder path = new StringBuilder();
+        final Deque<Integer> lengths = new ArrayDeque<>();
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamReader.START_ELEMENT) {
+                lengths.push(path.length());
+                if (!path.isEmpty()) {
+                    path.append('/');
+                } else if (!"project".equals(reader.getLocalName())) {
+                    throw new GradleException("File " + file + " is not a Maven project");
+                }
+                path.append(reader.getLocalName());
+                final String current = path.toString();
+                start(current);
+                if (isLeaf(current)) {
+                    text(current, reader.getElementText().trim());
+                    path.setLength(lengths.pop());
+                }
+            } else if (event == XMLStreamReader.END_ELEMENT) {
+                end(path.toString());
+                path.setLength(lengths.pop());
+            }
+        }
+        if (!coordinates.containsKey("artifactId")) {
+            throw new GradleException("Maven project " + file + " has no artifactId");
+        }
+        return new MavenPom(file, coordinates.get("groupId"), coordinates.get("artifactId"),
+                coordinates.get("version"), coordinates.getOrDefault("packaging", "jar"),
+                hasParent
+                        ? new MavenPom.Parent(parent.get("groupId"), parent.get("artifactId"), parent.get("version"),
+                        parent.getOrDefault("relativePath", "../pom.xml"))
+                        : null,
+                List.copyOf(project.modules), List.copyOf(project.dependencies), Map.copyOf(project.properties),
+                List.copyOf(profiles));
+    }
+
+    private void start(final String path) {
+        switch (path) {
+            case "project/parent" -> hasParent = true;
+            case "project/profiles/profile" -> {
+                profile = new Section();
+                profileId = null;
+                activeByDefault = false;
+            }
+            case "project/" + DEPENDENCY, PROFILE + DEPENDENCY -> {
+                dependencyGroupId = null;
+                dependencyArtifactId = null;
+            }
+            default -> {
+                // other elements have no state
+            }
+        }
+    }
+
+    private static boolean isLeaf(final String path) {
+        if (path.startsWith(PROFILE)) {
+            return isSectionLeaf(path.substring(PROFILE.length()))
+                    || "id".equals(path.substring(PROFILE.length()))
+                    || path.endsWith("/activation/activeByDefault");
+        }
+        return path.startsWith(PROJECT) && (isSectionLeaf(path.substring(PROJECT.length()))
+                || path.indexOf('/', PROJECT.length()) < 0 && isCoordinate(path.substring(PROJECT.length()))
+                || path.startsWith("project/parent/") && path.indexOf('/', "project/parent/".length()) < 0);
+    }
+
+    private static boolean isSectionLeaf(final String path) {
+        return "modules/module".equals(path)
+                || path.startsWith(PROPERTIES) && path.indexOf('/', PROPERTIES.length()) < 0
+                || (DEPENDENCY + "/groupId").equals(path)
+                || (DEPENDENCY + "/artifactId").equals(path);
+    }
+
+    private static boolean isCoordinate(final String name) {
+        return switch (name) {
+            case "groupId", "artifactId", "version", "packaging" -> true;
+            default -> false;
+        };
+    }
+
+    private void text(final String path, final String text) {
+        if (path.startsWith(PROFILE)) {
+            final String name = path.substring(PROFILE.length());
+            if ("id".equals(name)) {
+                profileId = text;
+            } else if ("activation/activeByDefault".equals(name)) {
+                activeByDefault = Boolean.parseBoolean(text);
+            } else {
+                sectionText(profile, name, text);
+            }
+        } else if (path.startsWith("project/parent/")) {
+            parent.put(path.substring("project/parent/".length()), text);
+        } else if (path.indexOf('/', PROJECT.length()) < 0) {
+            coordinates.put(path.substring(PROJECT.length()), text);
+        } else {
+            sectionText(project, path.substring(PROJECT.length()), text);
+        }
+    }
+
+    private void sectionText(final Section section, final String path, final String text) {
+        if ("modules/module".equals(path)) {
+            section.modules.add(text);
+        } else if (path.startsWith(PROPERTIES)) {
+            section.properties.put(path.substring(PROPERTIES.length()), text);
+        } else if (path.endsWith("/groupId")) {
+            dependencyGroupId = text;
+        } else {
+            dependencyArtifactId = text;
+        }
+    }
+
+    private void end(final String path) {
+        switch (path) {
+            case "project/" + DEPENDENCY -> addDependency(project);
+            case PROFILE + DEPENDENCY -> addDependency(profile);
+            case "project/profiles/profile" -> profiles.add(new MavenPom.Profile(profileId, activeByDefault,
+                    List.copyOf(profile.modules), List.copyOf(profile.dependencies),
+                    Map.copyOf(profile.properties)));
+            default -> {
+                // other elements have no state
+            }
+        }
+    }
+
+    private void addDependency(final Section section) {
+        if (dependencyArtifactId != null) {
+            section.dependencies.add(new MavenPom.Dependency(dependencyGroupId, dependencyArtifactId));
+        }
+    }
+
+    /**
+     * Modules, dependencies and properties of the project or of a profile.
+     */
+    private static final class Section {
+        private final List<String> modules = new ArrayList<>();
+        private final List<MavenPom.Dependency> dependencies = new ArrayList<>();
+        private final Map<String, String> properties = new HashMap<>();
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+/**
+ * Entry point of a warm worker JVM, which is launched by plexus-classworlds inside the Maven installation instead of
+ * Maven itself. The worker reads builds from the standard input, runs Maven for each of them in the same process and
+ * writes the output back to the standard output as frames. The class must use only the JDK and must not have nested
+ * classes, because it is loaded without the plugin dependencies.
+ * <p>
+ * A build is the working directory, the top level project directory and the command line arguments, every string is
+ * the length followed by the UTF-8 bytes, so strings are not limited to 64 KB. A frame is the
+ * type byte and the length, followed by the bytes of the output. The {@link #EXIT} frame holds the exit value of
+ * Maven instead of the length and completes the build. The worker exits, when the standard input is closed.
+ * <p>
+ * The standard input is the protocol channel, so Maven gets an empty {@link System#in}. {@code MavenCli} sets every
+ * {@code -D} option as a system property, so the system properties are restored after every build.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ * @see MavenWorkerPool
+ */
+public final class MavenPoolWorker extends OutputStream {
+    /**
+     * Type of the frame which completes the build.
+     */
+    public static final int EXIT = 0;
+    /**
+     * Type of the frame with the standard output.
+     */
+    public static final int OUTPUT = 1;
+    /**
+     * Type of the frame with the error output.
+     */
+    public static final int ERROR = 2;
+    private static final String MAVEN_CLI = "org.apache.maven.cli.MavenCli";
+    private static final String MULTI_MODULE_PROJECT_DIRECTORY = "maven.multiModuleProjectDirectory";
+
+    private final DataOutputStream channel;
+    private final int type;
+
+    private MavenPoolWorker(final DataOutputStream channel, final int type) {
+        this.channel = channel;
+        this.type = type;
+    }
+
+    /**
+     * Serve builds until the standard input is closed.
+     *
+     * @param args Not used
+     * @throws Exception Maven can't be launched
+     */
+    public static void main(final String[] args) throws Exception {
+        final DataInputStream input = new DataInputStream(new BufferedInputStream(
+                new FileInputStream(FileDescriptor.in)));
+        final DataOutputStream channel = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(FileDescriptor.out)));
+        final PrintStream output = new PrintStream(new MavenPoolWorker(channel, OUTPUT), true);
+        final PrintStream error = new PrintStream(new MavenPoolWorker(channel, ERROR), true);
+        System.setOut(output);
+        System.setErr(error);
+        System.setIn(new ByteArrayInputStream(new byte[0]));
+        final Properties properties = (Properties) System.getProperties().clone();
+        final Class<?> cliClass = Class.forName(MAVEN_CLI, true, MavenPoolWorker.class.getClassLoader());
+        final Method doMain = cliClass.getMethod("doMain", String[].class, String.class, PrintStream.class,
+                PrintStream.class);
+        while (true) {
+            final String workingDirectory;
+            try {
+                workingDirectory = readString(input);
+            } catch (EOFException e) {
+                return;
+            }
+            System.setProperty(MULTI_MODULE_PROJECT_DIRECTORY, readString(input));
+            final String[] arguments = new String[input.readInt()];
+            for (int i = 0; i < arguments.length; i++) {
+                arguments[i] = readString(input);
+            }
+            int exitValue;
+            try {
+                exitValue = (Integer) doMain.invoke(cliClass.getConstructor().newInstance(), arguments,
+                        workingDirectory, output, error);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                e.printStackTrace(error);
+                exitValue = 1;
+            }
+            output.flush();
+            error.flush();
+            System.setProperties((Properties) properties.clone());
+            synchronized (channel) {
+                channel.writeByte(EXIT);
+                channel.writeInt(exitValue);
+                channel.flush();
+            }
+        }
+    }
+
+    /**
+     * Write the string of a build.
+     *
+     * @param output Channel
+     * @param value  String
+     * @throws IOException The channel is closed
+     */
+    static void writeString(final DataOutputStream output, final String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Read the string of a build.
+     *
+     * @param input Channel
+     * @return String
+     * @throws IOException The channel is closed
+     */
+    static String readString(final DataInputStream input) throws IOException {
+        final byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void write(final int value) throws IOException {
+        write(new byte[]{(byte) value}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (length > 0) {
+            synchronized (channel) {
+                channel.writeByte(type);
+                channel.writeInt(length);
+                channel.write(bytes, offset, length);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        synchronized (channel) {
+            channel.flush();
+        }
+    }
+}
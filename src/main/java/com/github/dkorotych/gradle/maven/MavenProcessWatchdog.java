@@ -0,0 +1,296 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.apache.commons.lang3.StringUtils;
+import org.gradle.api.GradleException;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Watchdog of a forked Maven process. The watchdog finds the process among the new child processes of the Gradle JVM
+ * and keeps track of all its descendants, such as Surefire and Failsafe JVMs, so they can be stopped even after the
+ * Maven process itself was killed by Gradle. The whole process tree is stopped when the timeout expires or when the
+ * execution fails, for example when the build is cancelled: every process gets {@code SIGTERM} first and
+ * {@code SIGKILL} after {@link #KILL_TIMEOUT}.
+ * <p>
+ * The process is recognized only by a marker system property, which is unique for every watchdog, in its command line.
+ * The marker is added to {@code MAVEN_OPTS} when Maven is started by the script, or directly to the JVM options when
+ * the JVM of Maven is launched without the script. Other Maven processes of the same installation, which are started
+ * by parallel tasks, are never adopted. A process which is already known, such as a worker of the pool, is adopted
+ * with {@link #watch(ProcessHandle)}. If no process is recognized when the timeout expires, because command lines of
+ * processes are not available on Windows or because the Maven Daemon client ignores {@code MAVEN_OPTS}, the new child
+ * processes of the Gradle JVM, which were started after the watchdog, are stopped.
+ * <p>
+ * The processes are also stopped when the thread which runs the execution is interrupted, even if the thread is
+ * blocked in a call which ignores interrupts.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenProcessWatchdog implements AutoCloseable {
+    /**
+     * Time which processes have to stop after {@code SIGTERM}, before they are killed with {@code SIGKILL}.
+     */
+    public static final Duration KILL_TIMEOUT = Duration.ofSeconds(10);
+    /**
+     * Environment variable with the JVM options of Maven.
+     */
+    public static final String MAVEN_OPTS = "MAVEN_OPTS";
+    private static final Logger LOGGER = Logging.getLogger(MavenProcessWatchdog.class);
+    private static final long TRACK_INTERVAL_MILLIS = 500;
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "maven-exec-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String marker = "-Dgradle-maven-exec.watchdog=" + UUID.randomUUID();
+    private final Duration timeout;
+    private final Instant start = Instant.now();
+    private final Set<Long> existing;
+    private final Map<Long, ProcessHandle> processes = new ConcurrentHashMap<>();
+    private final ScheduledFuture<?> tracker;
+    private volatile Thread runner;
+    private volatile boolean stopping;
+    private volatile boolean timedOut;
+    private volatile boolean interrupted;
+
+    private MavenProcessWatchdog(final Duration timeout) {
+        this.timeout = timeout;
+        existing = ProcessHandle.current()
+                .children()
+                .map(ProcessHandle::pid)
+                .collect(Collectors.toSet());
+        tracker = SCHEDULER.scheduleWithFixedDelay(this::track, TRACK_INTERVAL_MILLIS, TRACK_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Start watching the Maven process, which is started right after this call.
+     *
+     * @param timeout Maximum duration of the process, {@code null}, zero or negative for no limit
+     * @return Watchdog
+     */
+    public static MavenProcessWatchdog start(final Duration timeout) {
+        return new MavenProcessWatchdog(Optional.ofNullable(timeout)
+                .filter(duration -> !duration.isNegative() && !duration.isZero())
+                .orElse(null));
+    }
+
+    /**
+     * Watch the process, which is already known, and its descendants instead of searching for the marker.
+     *
+     * @param process Maven process
+     */
+    void watch(final ProcessHandle process) {
+        processes.putIfAbsent(process.pid(), process);
+    }
+
+    /**
+     * Arguments of the Java launcher, which add the marker of the process in front of the JVM options.
+     *
+     * @param arguments JVM options, the main class and its arguments
+     * @return Arguments with the marker
+     */
+    public List<String> getJvmArguments(final List<String> arguments) {
+        final List<String> result = new ArrayList<>(arguments.size() + 1);
+        result.add(marker);
+        result.addAll(arguments);
+        return result;
+    }
+
+    /**
+     * Environment variables for the Maven process, which add the marker of the process to {@code MAVEN_OPTS}.
+     *
+     * @param current Current value of the {@code MAVEN_OPTS} variable, can be {@code null}
+     * @return Additional environment variables
+     */
+    public Map<String, String> getEnvironment(final Object current) {
+        if (current == null || StringUtils.isBlank(current.toString())) {
+            return Map.of(MAVEN_OPTS, marker);
+        }
+        return Map.of(MAVEN_OPTS, current + " " + marker);
+    }
+
+    /**
+     * Run the Maven execution. If the execution fails, the process tree is stopped. If the timeout expires or the
+     * thread is interrupted, the execution fails even if the exit value of the process is ignored.
+     *
+     * @param execution Execution of the Maven process
+     * @param <T>       Type of the result
+     * @return Result of the execution
+     */
+    public <T> T run(final Supplier<T> execution) {
+        final T result;
+        runner = Thread.currentThread();
+        try {
+            result = execution.get();
+        } catch (RuntimeException | Error e) {
+            kill();
+            if (timedOut || interrupted) {
+                throw createStoppedException(e);
+            }
+            throw e;
+        } finally {
+            runner = null;
+        }
+        if (timedOut || interrupted) {
+            throw createStoppedException(null);
+        }
+        return result;
+    }
+
+    /**
+     * Check whether the process was stopped because of the timeout.
+     *
+     * @return {@code true} if the timeout expired
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Stop the Maven process and all its descendants.
+     */
+    public void kill() {
+        kill(false);
+    }
+
+    @Override
+    public void close() {
+        tracker.cancel(false);
+    }
+
+    private void kill(final boolean adoptChildren) {
+        stopping = true;
+        track();
+        if (adoptChildren && processes.isEmpty()) {
+            adoptChildren();
+        }
+        final List<ProcessHandle> alive = processes.values()
+                .stream()
+                .flatMap(process -> Stream.concat(Stream.of(process), process.descendants()))
+                .distinct()
+                .filter(ProcessHandle::isAlive)
+                .toList();
+        if (alive.isEmpty()) {
+            return;
+        }
+        LOGGER.info("Stop Maven processes {}", alive.stream().map(ProcessHandle::pid).toList());
+        alive.forEach(ProcessHandle::destroy);
+        try {
+            CompletableFuture.allOf(alive.stream()
+                            .map(ProcessHandle::onExit)
+                            .toArray(CompletableFuture[]::new))
+                    .get(KILL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            LOGGER.debug("Maven processes did not stop in {}", KILL_TIMEOUT, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        alive.stream()
+                .filter(ProcessHandle::isAlive)
+                .forEach(ProcessHandle::destroyForcibly);
+    }
+
+    private synchronized void track() {
+        try {
+            final List<ProcessHandle> roots = new ArrayList<>(processes.values());
+            if (roots.isEmpty()) {
+                ProcessHandle.current()
+                        .children()
+                        .filter(this::isNew)
+                        .filter(this::isMaven)
+                        .forEach(roots::add);
+            }
+            roots.stream()
+                    .flatMap(process -> Stream.concat(Stream.of(process), process.descendants()))
+                    .forEach(process -> processes.putIfAbsent(process.pid(), process));
+            if (timeout != null && !stopping && Duration.between(start, Instant.now()).compareTo(timeout) >= 0) {
+                timedOut = true;
+                stopping = true;
+                LOGGER.warn("Maven execution did not finish in {}, stop the Maven processes", timeout);
+                CompletableFuture.runAsync(() -> kill(true));
+            }
+            final Thread thread = runner;
+            if (thread != null && !stopping && thread.isInterrupted()) {
+                interrupted = true;
+                stopping = true;
+                LOGGER.info("Maven execution is interrupted, stop the Maven processes");
+                CompletableFuture.runAsync(() -> kill(true));
+            }
+        } catch (RuntimeException e) {
+            LOGGER.debug("Can't track Maven processes", e);
+        }
+    }
+
+    private synchronized void adoptChildren() {
+        final List<ProcessHandle> children = ProcessHandle.current()
+                .children()
+                .filter(this::isNew)
+                .toList();
+        if (!children.isEmpty()) {
+            LOGGER.warn("Maven processes can't be recognized, stop the child processes {} started by the execution",
+                    children.stream().map(ProcessHandle::pid).toList());
+            children.stream()
+                    .flatMap(process -> Stream.concat(Stream.of(process), process.descendants()))
+                    .forEach(process -> processes.putIfAbsent(process.pid(), process));
+        }
+    }
+
+    private boolean isNew(final ProcessHandle process) {
+        return !existing.contains(process.pid())
+                && process.info()
+                .startInstant()
+                .map(instant -> !instant.isBefore(start.minusSeconds(1)))
+                .orElse(true);
+    }
+
+    private boolean isMaven(final ProcessHandle process) {
+        return process.info()
+                .arguments()
+                .map(List::of)
+                .filter(arguments -> arguments.contains(marker))
+                .isPresent();
+    }
+
+    private GradleException createStoppedException(final Throwable cause) {
+        if (timedOut) {
+            return new GradleException("Maven execution did not finish in " + timeout, cause);
+        }
+        return new GradleException("Maven execution is interrupted", cause);
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A resolver that detects the version of a Maven installation by its files, without launching Maven.
+ * The version is read from the {@code pom.properties} of the {@code maven-core} library, or from its file name
+ * when the library does not contain the Maven metadata.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenVersionResolver {
+    private static final Pattern CORE_LIBRARY = Pattern.compile("^maven-core-(\\d\\S*)\\.jar$");
+    private static final String POM_PROPERTIES = "META-INF/maven/org.apache.maven/maven-core/pom.properties";
+
+    private MavenVersionResolver() {
+    }
+
+    /**
+     * Detect the version of a Maven installation.
+     *
+     * @param mavenHome Maven installation directory
+     * @return Maven version, or empty if the installation layout is unknown
+     */
+    public static Optional<String> resolve(final Path mavenHome) {
+        return findCoreLibrary(mavenHome)
+                .flatMap(library -> readVersion(library.path())
+                        .or(() -> Optional.of(library.version())));
+    }
+
+    private static Optional<CoreLibrary> findCoreLibrary(final Path mavenHome) {
+        final Path lib = Optional.ofNullable(mavenHome)
+                .map(path -> path.resolve("lib"))
+                .filter(Files::isDirectory)
+                .orElse(null);
+        if (lib == null) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(lib)) {
+            return files.map(path -> {
+                        final Matcher matcher = CORE_LIBRARY.matcher(path.getFileName().toString());
+                        return matcher.matches() ? new CoreLibrary(path, matcher.group(1)) : null;
+                    })
+                    .filter(library -> library != null && Files.isRegularFile(library.path()))
+                    .findFirst();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<String> readVersion(final Path library) {
+        try (ZipFile zip = new ZipFile(library.toFile())) {
+            final ZipEntry entry = zip.getEntry(POM_PROPERTIES);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            final Properties properties = new Properties();
+            try (InputStream stream = zip.getInputStream(entry)) {
+                properties.load(stream);
+            }
+            return Optional.ofNullable(properties.getProperty("version"))
+                    .filter(StringUtils::isNotBlank)
+                    .map(String::trim);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private record CoreLibrary(Path path, String version) {
+    }
+}
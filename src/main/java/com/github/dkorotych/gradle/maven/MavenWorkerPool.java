@@ -0,0 +1,438 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import com.github.dkorotych.gradle.maven.exec.MavenExecPlugin;
+import org.gradle.api.GradleException;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.internal.os.OperatingSystem;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A pool of warm worker JVMs, which run Maven builds one after another without the JVM startup and with the already
+ * compiled Maven code. Every worker is launched with the class path of the Maven installation and runs
+ * {@link MavenPoolWorker}. Workers are shared by all executions of the build with the same Maven installation and
+ * environment, are stopped after they have been idle for too long and are replaced after a number of builds to limit
+ * the memory growth.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenWorkerPool implements AutoCloseable {
+    private static final Logger LOGGER = Logging.getLogger(MavenWorkerPool.class);
+    private static final long STOP_TIMEOUT_SECONDS = 10;
+    private static final long MIN_EVICTION_PERIOD = TimeUnit.SECONDS.toMillis(1);
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Settings settings;
+    private final Map<Key, Workers> pools = new ConcurrentHashMap<>();
+    private ScheduledExecutorService evictor;
+    private boolean closed;
+
+    /**
+     * Create a pool.
+     *
+     * @param settings Pool settings
+     */
+    public MavenWorkerPool(final Settings settings) {
+        this.settings = Objects.requireNonNull(settings, "Pool settings should be not null");
+    }
+
+    /**
+     * Get the pool settings.
+     *
+     * @return Pool settings
+     */
+    public Settings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Execute Maven in a worker. The call waits for a free worker, if all workers of the installation are busy.
+     *
+     * @param mavenHome   Maven installation directory
+     * @param environment Environment variables of the worker
+     * @param arguments   Command line arguments
+     * @param workingDir  Working directory
+     * @param output      Standard output
+     * @param error       Error output
+     * @return Exit value
+     */
+    public int execute(final Path mavenHome, final Map<String, String> environment, final List<String> arguments,
+                       final File workingDir, final OutputStream output, final OutputStream error) {
+        return execute(mavenHome, environment, arguments, workingDir, output, error, null);
+    }
+
+    /**
+     * Execute Maven in a worker, which is watched by the watchdog while the build runs. When the watchdog stops the
+     * worker, the worker is removed from the pool and the execution fails.
+     *
+     * @param mavenHome   Maven installation directory
+     * @param environment Environment variables of the worker
+     * @param arguments   Command line arguments
+     * @param workingDir  Working directory
+     * @param output      Standard output
+     * @param error       Error output
+     * @param watchdog    Watchdog of the execution, can be {@code null}
+     * @return Exit value
+     */
+    public int execute(final Path mavenHome, final Map<String, String> environment, final List<String> arguments,
+                       final File workingDir, final OutputStream output, final OutputStream error,
+                       final MavenProcessWatchdog watchdog) {
+        final Workers workers = getWorkers(new Key(mavenHome.toAbsolutePath().normalize(), Map.copyOf(environment)));
+        final Path workingDirectory = workingDir.toPath().toAbsolutePath().normalize();
+        final Worker worker = workers.acquire();
+        boolean reusable = false;
+        try {
+            if (watchdog != null) {
+                watchdog.watch(worker.process.toHandle());
+            }
+            final long start = System.nanoTime();
+            final int result = worker.execute(workingDirectory.toString(),
+                    MavenArgumentsSpill.findBaseDirectory(workingDirectory).toString(), arguments, output, error);
+            reusable = true;
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Pooled Maven finished in {} ms, build {} of the worker",
+                        (System.nanoTime() - start) / 1_000_000, worker.builds);
+            }
+            return result;
+        } catch (IOException e) {
+            throw new GradleException("Maven worker of " + mavenHome + " terminated unexpectedly", e);
+        } finally {
+            workers.release(worker, reusable);
+        }
+    }
+
+    /**
+     * Stop idle workers which have been idle longer than {@link Settings#idleTimeout()}.
+     */
+    public void evictIdle() {
+        final long deadline = System.nanoTime() - settings.idleTimeout().toNanos();
+        pools.values().forEach(workers -> workers.evict(deadline));
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            if (evictor != null) {
+                evictor.shutdownNow();
+                evictor = null;
+            }
+        }
+        pools.values().forEach(Workers::close);
+        pools.clear();
+    }
+
+    private synchronized Workers getWorkers(final Key key) {
+        if (closed) {
+            throw new GradleException("Maven worker pool is closed");
+        }
+        if (evictor == null && !settings.idleTimeout().isZero()) {
+            evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "maven-exec-worker-evictor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            final long period = Math.max(MIN_EVICTION_PERIOD, settings.idleTimeout().toMillis() / 2);
+            evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+        }
+        return pools.computeIfAbsent(key, Workers::new);
+    }
+
+    private static String getJavaExecutable(final Map<String, String> environment) {
+        return Optional.ofNullable(environment.get("JAVA_HOME"))
+                .map(javaHome -> Path.of(javaHome, "bin", OperatingSystem.current().getExecutableName("java")))
+                .filter(Files::isRegularFile)
+                .map(Path::toString)
+                .orElseGet(MavenCombinedProbe::getJavaExecutable);
+    }
+
+    @SuppressWarnings({"checkstyle:EmptyCatchBlock", "PMD.EmptyCatchBlock", "java:S108"})
+    private static void delete(final Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder())
+                    .forEach(path -> path.toFile().delete());
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Settings of the pool.
+     *
+     * @param size        Maximum number of workers for one Maven installation
+     * @param idleTimeout Idle time after which a worker is stopped, zero means never
+     * @param maxBuilds   Number of builds after which a worker is replaced, zero means never
+     */
+    public record Settings(int size, Duration idleTimeout, int maxBuilds) {
+        /**
+         * Default settings: two workers, which are stopped after five idle minutes and replaced after 50 builds.
+         */
+        public static final Settings DEFAULT = new Settings(2, Duration.ofMinutes(5), 50);
+
+        /**
+         * Validate the settings.
+         *
+         * @param size        Maximum number of workers for one Maven installation
+         * @param idleTimeout Idle time after which a worker is stopped, zero means never
+         * @param maxBuilds   Number of builds after which a worker is replaced, zero means never
+         */
+        public Settings {
+            Objects.requireNonNull(idleTimeout, "Idle timeout should be not null");
+            if (size < 1) {
+                throw new GradleException("Maven worker pool size should be positive, but was " + size);
+            }
+            if (idleTimeout.isNegative()) {
+                throw new GradleException("Maven worker idle timeout should not be negative, but was "
+                        + idleTimeout);
+            }
+            if (maxBuilds < 0) {
+                throw new GradleException("Maven worker builds limit should not be negative, but was " + maxBuilds);
+            }
+        }
+
+        /**
+         * Read the settings from the Gradle properties {@link MavenExecPlugin#POOL_SIZE_PROPERTY},
+         * {@link MavenExecPlugin#POOL_IDLE_TIMEOUT_PROPERTY} (in seconds) and
+         * {@link MavenExecPlugin#POOL_MAX_BUILDS_PROPERTY}. Missing properties get the default values.
+         *
+         * @param properties Gradle properties
+         * @return Settings
+         */
+        public static Settings of(final Function<String, ?> properties) {
+            return new Settings(
+                    getInteger(properties, MavenExecPlugin.POOL_SIZE_PROPERTY, DEFAULT.size()),
+                    Duration.ofSeconds(getInteger(properties, MavenExecPlugin.POOL_IDLE_TIMEOUT_PROPERTY,
+                            (int) DEFAULT.idleTimeout().toSeconds())),
+                    getInteger(properties, MavenExecPlugin.POOL_MAX_BUILDS_PROPERTY, DEFAULT.maxBuilds()));
+        }
+
+        private static int getInteger(final Function<String, ?> properties, final String name,
+                                      final int defaultValue) {
+            return Optional.ofNullable(properties.apply(name))
+                    .map(String::valueOf)
+                    .map(String::trim)
+                    .map(value -> {
+                        try {
+                            return Integer.valueOf(value);
+                        } catch (NumberFormatException e) {
+                            throw new GradleException("Gradle property " + name + " should be a number, but was "
+                                    + value, e);
+                        }
+                    })
+                    .orElse(defaultValue);
+        }
+    }
+
+    private record Key(Path mavenHome, Map<String, String> environment) {
+    }
+
+    private final class Workers {
+        private final Key key;
+        private final Semaphore permits;
+        private final Deque<Worker> idle = new ArrayDeque<>();
+        private Path directory;
+        private Path configuration;
+        private boolean stopped;
+
+        Workers(final Key key) {
+            this.key = key;
+            permits = new Semaphore(settings.size(), true);
+        }
+
+        Worker acquire() {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GradleException("Interrupted while waiting for a Maven worker", e);
+            }
+            try {
+                synchronized (this) {
+                    if (stopped) {
+                        throw new GradleException("Maven worker pool is closed");
+                    }
+                    Worker worker;
+                    while ((worker = idle.pollFirst()) != null) {
+                        if (worker.process.isAlive()) {
+                            return worker;
+                        }
+                        worker.stop();
+                    }
+                    return start();
+                }
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        void release(final Worker worker, final boolean reusable) {
+            try {
+                synchronized (this) {
+                    if (reusable && !stopped && worker.process.isAlive()
+                            && (settings.maxBuilds() == 0 || worker.builds < settings.maxBuilds())) {
+                        worker.lastUsed = System.nanoTime();
+                        idle.addFirst(worker);
+                        return;
+                    }
+                }
+                worker.stop();
+            } finally {
+                permits.release();
+            }
+        }
+
+        synchronized void evict(final long deadline) {
+            final Iterator<Worker> iterator = idle.iterator();
+            while (iterator.hasNext()) {
+                final Worker worker = iterator.next();
+                if (worker.lastUsed - deadline <= 0) {
+                    iterator.remove();
+                    worker.stop();
+                }
+            }
+        }
+
+        synchronized void close() {
+            stopped = true;
+            idle.forEach(Worker::stop);
+            idle.clear();
+            delete(directory);
+            directory = null;
+        }
+
+        private Worker start() {
+            final Path mavenHome = key.mavenHome();
+            final Path classworlds = MavenCombinedProbe.findClassworlds(mavenHome)
+                    .orElseThrow(() -> new GradleException("Directory " + mavenHome + " is not a Maven installation"));
+            try {
+                if (directory == null) {
+                    final String original = MavenCombinedProbe.readConfiguration(mavenHome)
+                            .orElseThrow(() -> new GradleException("Directory " + mavenHome
+                                    + " has no launcher configuration"));
+                    directory = Files.createTempDirectory("gradle-maven-exec-worker");
+                    configuration = MavenCombinedProbe.writeConfiguration(directory, original, MavenPoolWorker.class);
+                }
+                final List<String> command = new ArrayList<>();
+                command.add(getJavaExecutable(key.environment()));
+                // the same unquoted expansion as in the mvn script and the direct launch
+                command.addAll(MavenDirectLaunch.split(key.environment().get("MAVEN_OPTS")));
+                command.addAll(List.of(
+                        "-classpath", classworlds.toString(),
+                        "-Dclassworlds.conf=" + configuration,
+                        "-Dmaven.home=" + mavenHome,
+                        "-Dlibrary.jansi.path=" + mavenHome.resolve("lib").resolve("jansi-native"),
+                        MavenCombinedProbe.LAUNCHER));
+                final ProcessBuilder builder = new ProcessBuilder(command)
+                        .directory(mavenHome.toFile())
+                        .redirectError(ProcessBuilder.Redirect.INHERIT);
+                builder.environment().putAll(key.environment());
+                LOGGER.info("Start Maven worker: {}", String.join(" ", command));
+                return new Worker(builder.start());
+            } catch (IOException e) {
+                throw new GradleException("Can't start Maven worker of " + mavenHome, e);
+            }
+        }
+    }
+
+    private static final class Worker {
+        private final Process process;
+        private final DataOutputStream requests;
+        private final DataInputStream responses;
+        private int builds;
+        private long lastUsed;
+
+        Worker(final Process process) {
+            this.process = process;
+            requests = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+            responses = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+        }
+
+        int execute(final String workingDirectory, final String baseDirectory, final List<String> arguments,
+                    final OutputStream output, final OutputStream error) throws IOException {
+            builds++;
+            MavenPoolWorker.writeString(requests, workingDirectory);
+            MavenPoolWorker.writeString(requests, baseDirectory);
+            requests.writeInt(arguments.size());
+            for (final String argument : arguments) {
+                MavenPoolWorker.writeString(requests, argument);
+            }
+            requests.flush();
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (true) {
+                final int type = responses.readUnsignedByte();
+                final int length = responses.readInt();
+                if (type == MavenPoolWorker.EXIT) {
+                    return length;
+                }
+                final OutputStream target = switch (type) {
+                    case MavenPoolWorker.OUTPUT -> output;
+                    case MavenPoolWorker.ERROR -> error;
+                    default -> throw new IOException("Unknown frame type " + type);
+                };
+                int remaining = length;
+                while (remaining > 0) {
+                    final int read = responses.read(buffer, 0, Math.min(remaining, buffer.length));
+                    if (read < 0) {
+                        throw new EOFException();
+                    }
+                    target.write(buffer, 0, read);
+                    remaining -= read;
+                }
+                target.flush();
+            }
+        }
+
+        @SuppressWarnings({"checkstyle:EmptyCatchBlock", "PMD.EmptyCatchBlock", "java:S108"})
+        void stop() {
+            try {
+                requests.close();
+            } catch (IOException ignored) {
+            }
+            try {
+                if (!process.waitFor(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
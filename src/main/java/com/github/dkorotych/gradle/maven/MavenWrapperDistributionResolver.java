@@ -0,0 +1,160 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.SystemUtils;
+import org.gradle.api.GradleException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A resolver that finds the Maven distribution, already downloaded and unpacked by the Maven Wrapper, without
+ * launching the wrapper script. It reads {@code .mvn/wrapper/maven-wrapper.properties} and computes the distribution
+ * directory the same way as the script-only wrapper ({@code ~/.m2/wrapper/dists/<name>/<hash>}) and the legacy
+ * jar-based wrapper ({@code ~/.m2/wrapper/dists/<name>/<hash>/<distribution>}) do.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenWrapperDistributionResolver {
+    private static final String REPOSITORY_PATTERN = "/org/apache/maven/";
+
+    private final Path mavenUserHome;
+    private final String repositoryUrl;
+
+    /**
+     * Create a resolver which uses the wrapper settings of the current environment: the {@code MAVEN_USER_HOME}
+     * and {@code MVNW_REPOURL} variables.
+     */
+    public MavenWrapperDistributionResolver() {
+        this(Optional.ofNullable(System.getenv("MAVEN_USER_HOME"))
+                        .filter(StringUtils::isNotBlank)
+                        .map(Path::of)
+                        .orElseGet(() -> SystemUtils.getUserHome().toPath().resolve(".m2")),
+                System.getenv("MVNW_REPOURL"));
+    }
+
+    /**
+     * Create a resolver.
+     *
+     * @param mavenUserHome Maven user home directory, where the wrapper stores distributions
+     * @param repositoryUrl Base URL of the repository which overrides the distribution URL, can be {@code null}
+     */
+    public MavenWrapperDistributionResolver(final Path mavenUserHome, final String repositoryUrl) {
+        this.mavenUserHome = Objects.requireNonNull(mavenUserHome, "Maven user home should be not null");
+        this.repositoryUrl = repositoryUrl;
+    }
+
+    /**
+     * Find the unpacked Maven distribution of the wrapper.
+     *
+     * @param wrapperDirectory Directory which contains the Maven Wrapper scripts
+     * @return Maven installation directory, or empty if the distribution is not downloaded yet or the wrapper
+     * configuration is unknown
+     */
+    public Optional<Path> resolve(final Path wrapperDirectory) {
+        final Properties properties = readProperties(wrapperDirectory);
+        final String distributionUrl = Optional.ofNullable(properties.getProperty("distributionUrl"))
+                .map(String::trim)
+                .filter(StringUtils::isNotBlank)
+                .map(this::applyRepositoryUrl)
+                .orElse(null);
+        if (distributionUrl == null) {
+            return Optional.empty();
+        }
+        final String fileName = StringUtils.substringAfterLast(distributionUrl, "/");
+        final String distributionName = StringUtils.substringBeforeLast(fileName, ".");
+        final Path dists = "PROJECT".equals(properties.getProperty("distributionBase"))
+                ? wrapperDirectory
+                : mavenUserHome;
+        final Path distributions = dists.resolve(properties.getProperty("distributionPath", "wrapper/dists"));
+        final Path scriptOnlyRoot = distributions.resolve(StringUtils.removeEnd(distributionName, "-bin"));
+        return Stream.of(
+                        scriptOnlyRoot.resolve(Integer.toHexString(distributionUrl.hashCode())),
+                        scriptOnlyRoot.resolve(md5(distributionUrl, 16)))
+                .filter(MavenWrapperDistributionResolver::isMavenInstallation)
+                .findFirst()
+                .or(() -> findLegacyDistribution(distributions.resolve(distributionName)
+                        .resolve(md5(distributionUrl, 36))));
+    }
+
+    private Properties readProperties(final Path wrapperDirectory) {
+        final Properties properties = new Properties();
+        final Path file = Optional.ofNullable(wrapperDirectory)
+                .map(directory -> directory.resolve(".mvn")
+                        .resolve("wrapper")
+                        .resolve("maven-wrapper.properties"))
+                .filter(Files::isRegularFile)
+                .orElse(null);
+        if (file != null) {
+            try (InputStream stream = Files.newInputStream(file)) {
+                properties.load(stream);
+            } catch (IOException e) {
+                properties.clear();
+            }
+        }
+        return properties;
+    }
+
+    private String applyRepositoryUrl(final String distributionUrl) {
+        if (StringUtils.isBlank(repositoryUrl) || !distributionUrl.contains(REPOSITORY_PATTERN)) {
+            return distributionUrl;
+        }
+        return StringUtils.removeEnd(repositoryUrl.trim(), "/") + REPOSITORY_PATTERN
+                + StringUtils.substringAfter(distributionUrl, REPOSITORY_PATTERN);
+    }
+
+    private Optional<Path> findLegacyDistribution(final Path root) {
+        if (!Files.isDirectory(root)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> directories = Files.list(root)) {
+            return directories.filter(MavenWrapperDistributionResolver::isMavenInstallation)
+                    .findFirst();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isMavenInstallation(final Path directory) {
+        final Path bin = directory.resolve("bin");
+        return Stream.of("mvn", "mvn.cmd", "mvn.bat")
+                .map(bin::resolve)
+                .anyMatch(Files::isRegularFile);
+    }
+
+    private static String md5(final String value, final int radix) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(UTF_8));
+            if (radix == 16) {
+                return HexFormat.of().formatHex(digest);
+            }
+            return new BigInteger(1, digest).toString(radix);
+        } catch (NoSuchAlgorithmException e) {
+            throw new GradleException("Can't calculate Maven Wrapper distribution hash", e);
+        }
+    }
+}
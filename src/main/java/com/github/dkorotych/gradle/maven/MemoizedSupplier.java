@@ -20,6 +20,7 @@ import java.util.function.Supplier;
 
 /**
  * A supplier which caches the instance retrieved during the first call value.
+ * Concurrent callers wait for the value which is being created instead of creating it again.
  *
  * @param <T> Object type
  * @author Dmitry Korotych (dkorotych at gmail dot com).
@@ -48,9 +49,14 @@ public abstract class MemoizedSupplier<T> implements Supplier<T> {
     public T get() {
         T value = cached.get();
         if (value == null) {
-            value = create();
-            if (value != null) {
-                cached.set(value);
+            synchronized (cached) {
+                value = cached.get();
+                if (value == null) {
+                    value = create();
+                    if (value != null) {
+                        cached.set(value);
+                    }
+                }
             }
         }
         return value;
@@ -16,6 +16,9 @@
 package com.github.dkorotych.gradle.maven.exec;
 
 import com.github.dkorotych.gradle.maven.CommandLineCreator;
+import com.github.dkorotych.gradle.maven.MavenArgumentsSpill;
+import com.github.dkorotych.gradle.maven.MavenLocalRepository;
+import com.github.dkorotych.gradle.maven.MavenProcessWatchdog;
 import com.github.dkorotych.gradle.maven.MavenOptions;
 import groovy.lang.Closure;
 import org.gradle.api.logging.Logger;
@@ -45,14 +48,42 @@ public class MavenExec extends AbstractExecTask<MavenExec> implements MavenExecS
 
     @Override
     public void exec() {
-        final CommandLineCreator commandLineCreator = new CommandLineCreator(this, getProject());
+        final MavenExecLimiter limiter = MavenExecLimiter.of(getProject());
+        try (MavenExecLimiter.Permit ignored = limiter.acquire(
+                () -> MavenLocalRepository.find(getOptions(), getEnvironment(), getWorkingDir()));
+             MavenExecLimiter.Permit running = limiter.start()) {
+            exec(new CommandLineCreator(this, getProject()));
+        }
+    }
+
+    private void exec(final CommandLineCreator commandLineCreator) {
+        if (MavenRuntimeLauncher.isSupported(getExecutionMode())) {
+            MavenRuntimeLauncher.execute(this, commandLineCreator, getProject());
+            return;
+        }
         super.setExecutable(commandLineCreator.getExecutable());
         super.setArgs(commandLineCreator.getArguments());
+        final MavenArgumentsSpill argumentsSpill = commandLineCreator.getArgumentsSpill();
+        environment(argumentsSpill.getEnvironment(getEnvironment().get(MavenArgumentsSpill.MAVEN_ARGS)));
         final Logger logger = getLogger();
         if (logger.isInfoEnabled()) {
             logger.info("Maven executable: {}, arguments: {}", super.getExecutable(), super.getArgs());
+            if (!argumentsSpill.getSpilled().isEmpty()) {
+                logger.info("Maven options outside of the command line: {}", argumentsSpill.getSpilled());
+            }
+        }
+        try (MavenArgumentsSpill.Overlay ignored = argumentsSpill.open();
+             MavenProcessWatchdog watchdog = MavenProcessWatchdog.start(getTimeout().getOrNull())) {
+            if (commandLineCreator.isDirectLaunch()) {
+                super.setArgs(watchdog.getJvmArguments(commandLineCreator.getArguments()));
+            } else {
+                environment(watchdog.getEnvironment(getEnvironment().get(MavenProcessWatchdog.MAVEN_OPTS)));
+            }
+            watchdog.run(() -> {
+                super.exec();
+                return null;
+            });
         }
-        super.exec();
     }
 
     @Override
@@ -65,6 +96,16 @@ public class MavenExec extends AbstractExecTask<MavenExec> implements MavenExecS
         properties.setMavenDir(dir);
     }
 
+    @Override
+    public MavenExecutionMode getExecutionMode() {
+        return properties.getExecutionMode();
+    }
+
+    @Override
+    public void setExecutionMode(final MavenExecutionMode mode) {
+        properties.setExecutionMode(mode);
+    }
+
     @Override
     public Set<String> getGoals() {
         return properties.getGoals();
@@ -0,0 +1,174 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec;
+
+import com.github.dkorotych.gradle.maven.MavenOptionsSnapshot;
+import groovy.lang.Closure;
+import org.gradle.api.logging.Logger;
+import org.gradle.process.ExecResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Collects Maven invocations and merges consecutive compatible ones into one Maven execution, so that, for example,
+ * {@code clean}, {@code install} and {@code verify} of the same project pay for the JVM and the reactor startup only
+ * once. Invocations are compatible, when they have the same working directory, Maven directory, options, execution
+ * mode, environment, exit value handling, timeout and streams, and their goals do not repeat each other.
+ * <pre>
+ * mavenexecBatch {
+ *     mavenexec {
+ *         goals 'clean'
+ *     }
+ *     mavenexec {
+ *         goals 'install'
+ *     }
+ * }
+ * </pre>
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ * @see MavenExecConvention#mavenexecBatch(Closure)
+ */
+public final class MavenExecBatch {
+    private final MavenExecConvention convention;
+    private final Logger logger;
+    private final List<Invocation> invocations = new ArrayList<>();
+
+    MavenExecBatch(final MavenExecConvention convention, final Logger logger) {
+        this.convention = convention;
+        this.logger = logger;
+    }
+
+    /**
+     * Declare a Maven invocation. It is executed after all invocations of the batch are declared.
+     *
+     * @param configure Configuration closure for execute action
+     * @return Result of the invocation, which is available after the batch is executed
+     */
+    public ExecResult mavenexec(final Closure<MavenExecSpec> configure) {
+        Objects.requireNonNull(configure, "Configure closure should not be null");
+        final Invocation invocation = new Invocation(convention.configure(configure));
+        invocations.add(invocation);
+        return invocation.result;
+    }
+
+    /**
+     * Execute the declared invocations.
+     *
+     * @return Results of the invocations in the declaration order
+     */
+    List<ExecResult> execute() {
+        int index = 0;
+        while (index < invocations.size()) {
+            final MavenExecSpecDelegate specification = invocations.get(index).specification;
+            final MavenOptionsSnapshot options = MavenOptionsSnapshot.of(specification.getOptions());
+            final Set<String> goals = new LinkedHashSet<>(specification.getGoals());
+            int end = index + 1;
+            while (end < invocations.size()
+                    && isCompatible(specification, options, goals, invocations.get(end).specification)) {
+                goals.addAll(invocations.get(end).specification.getGoals());
+                end++;
+            }
+            if (end - index > 1 && logger.isInfoEnabled()) {
+                logger.info("Merge {} Maven invocations into one with goals: {}", end - index,
+                        String.join(" ", goals));
+            }
+            specification.setGoals(goals);
+            final ExecResult result = convention.execute(() -> specification);
+            for (int i = index; i < end; i++) {
+                invocations.get(i).result.complete(result);
+            }
+            index = end;
+        }
+        final List<ExecResult> results = new ArrayList<>(invocations.size());
+        invocations.forEach(invocation -> results.add(invocation.result));
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Check that the invocation can be merged into the execution.
+     *
+     * @param first      First invocation of the execution
+     * @param options    Options of the execution
+     * @param goals      Goals of the execution
+     * @param invocation Next invocation
+     * @return {@code true}, if the invocation can be merged
+     */
+    static boolean isCompatible(final MavenExecSpecDelegate first, final MavenOptionsSnapshot options,
+                                final Set<String> goals, final MavenExecSpecDelegate invocation) {
+        return Objects.equals(first.getWorkingDir(), invocation.getWorkingDir())
+                && Objects.equals(first.getMavenDir(), invocation.getMavenDir())
+                && first.getExecutionMode() == invocation.getExecutionMode()
+                && first.isIgnoreExitValue() == invocation.isIgnoreExitValue()
+                && Objects.equals(first.getTimeout().getOrNull(), invocation.getTimeout().getOrNull())
+                && first.getStandardInput() == invocation.getStandardInput()
+                && first.getStandardOutput() == invocation.getStandardOutput()
+                && first.getErrorOutput() == invocation.getErrorOutput()
+                && Collections.disjoint(goals, invocation.getGoals())
+                && first.getEnvironment().equals(invocation.getEnvironment())
+                && options.equals(MavenOptionsSnapshot.of(invocation.getOptions()));
+    }
+
+    private static final class Invocation {
+        private final MavenExecSpecDelegate specification;
+        private final DeferredResult result = new DeferredResult();
+
+        Invocation(final MavenExecSpecDelegate specification) {
+            this.specification = specification;
+        }
+    }
+
+    private static final class DeferredResult implements ExecResult {
+        private ExecResult result;
+
+        void complete(final ExecResult value) {
+            result = value;
+        }
+
+        @Override
+        public int getExitValue() {
+            return get().getExitValue();
+        }
+
+        @Override
+        public ExecResult assertNormalExitValue() {
+            get().assertNormalExitValue();
+            return this;
+        }
+
+        @Override
+        public ExecResult rethrowFailure() {
+            get().rethrowFailure();
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return result == null ? "{not executed}" : result.toString();
+        }
+
+        private ExecResult get() {
+            if (result == null) {
+                throw new IllegalStateException("Maven invocation is not executed yet");
+            }
+            return result;
+        }
+    }
+}
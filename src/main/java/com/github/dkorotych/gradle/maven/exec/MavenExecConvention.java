@@ -16,13 +16,25 @@
 package com.github.dkorotych.gradle.maven.exec;
 
 import groovy.lang.Closure;
+import com.github.dkorotych.gradle.maven.CommandLineCreator;
+import com.github.dkorotych.gradle.maven.MavenArgumentsSpill;
+import com.github.dkorotych.gradle.maven.MavenLocalRepository;
+import com.github.dkorotych.gradle.maven.MavenProcessWatchdog;
 import org.apache.commons.lang3.StringUtils;
 import org.gradle.api.Project;
 import org.gradle.api.logging.Logger;
 import org.gradle.process.ExecOperations;
 import org.gradle.process.ExecResult;
+import org.gradle.process.internal.DefaultExecSpec;
 
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.StreamSupport;
 
 /**
@@ -50,25 +62,191 @@ public class MavenExecConvention {
      */
     public ExecResult mavenexec(final Closure<MavenExecSpec> configure) {
         Objects.requireNonNull(configure, "Configure closure should not be null");
+        return execute(() -> configure(configure));
+    }
+
+    /**
+     * Execute several Maven invocations, which are declared with {@link MavenExecBatch#mavenexec(Closure)} in the
+     * closure. Consecutive compatible invocations are merged into one Maven execution, and the result of the
+     * execution is returned for each of them.
+     *
+     * @param configure Closure which declares the invocations
+     * @return Results of the invocations in the declaration order
+     * @see MavenExecBatch
+     */
+    public List<ExecResult> mavenexecBatch(final Closure<MavenExecBatch> configure) {
+        Objects.requireNonNull(configure, "Configure closure should not be null");
+        final MavenExecBatch batch = new MavenExecBatch(this, project.getLogger());
+        project.configure(batch, configure);
+        return batch.execute();
+    }
+
+    /**
+     * Start Maven in the background and return immediately. At most {@link MavenExecPlugin#ASYNC_THREADS_PROPERTY}
+     * invocations run at the same time, the others wait for a free thread. The command line, the environment and
+     * everything else which depends on the project are resolved on the calling thread, the background thread only
+     * launches Maven.
+     *
+     * @param configure Configuration closure for execute action
+     * @return Handle of the invocation
+     * @see #awaitAll(MavenExecHandle...)
+     */
+    public MavenExecHandle mavenexecAsync(final Closure<MavenExecSpec> configure) {
+        Objects.requireNonNull(configure, "Configure closure should not be null");
+        final MavenExecLimiter limiter = MavenExecLimiter.of(project);
+        final int threads = MavenExecLimiter.getInteger(project, MavenExecPlugin.ASYNC_THREADS_PROPERTY)
+                .filter(value -> value > 0)
+                .orElseGet(() -> Runtime.getRuntime().availableProcessors());
         final Logger logger = project.getLogger();
+        final Path localRepository;
+        final Supplier<ExecResult> invocation;
         try {
-            return getExecOperations().exec(execSpec -> {
-                final MavenExecSpecDelegate delegate = new MavenExecSpecDelegate(execSpec, project);
-                project.configure(delegate, configure);
-                final List<String> commandLine = delegate.getCommandLine();
-                execSpec.setCommandLine(commandLine);
-                if (logger.isInfoEnabled()) {
-                    logger.info("Execute Maven command: {}", String.join(" ", commandLine));
-                }
-            }).assertNormalExitValue();
+            final MavenExecSpecDelegate delegate = configure(configure);
+            localRepository = findLocalRepository(delegate);
+            invocation = prepare(delegate);
         } catch (Exception exception) {
-            if (exception.getCause() != null) {
-                printCauseMessagesWithoutLast(exception, logger);
+            logFailure(exception, logger);
+            throw exception;
+        }
+        return MavenExecHandle.submit(MavenRegistryService.of(project).getAsyncExecutor(threads), () -> {
+            try (MavenExecLimiter.Permit ignored = limiter.acquire(() -> localRepository);
+                 MavenExecLimiter.Permit running = limiter.start()) {
+                return invocation.get();
+            } catch (Exception exception) {
+                logFailure(exception, logger);
+                throw exception;
             }
+        });
+    }
+
+    /**
+     * Wait for the Maven invocations started with {@link #mavenexecAsync(Closure)}.
+     *
+     * @param handles Handles of the invocations
+     * @return Results of the invocations in the same order
+     * @see MavenExecHandle#awaitAll(Iterable)
+     */
+    public List<ExecResult> awaitAll(final MavenExecHandle... handles) {
+        return MavenExecHandle.awaitAll(Arrays.asList(handles));
+    }
+
+    /**
+     * Wait for the Maven invocations started with {@link #mavenexecAsync(Closure)}.
+     *
+     * @param handles Handles of the invocations
+     * @return Results of the invocations in the same order
+     * @see MavenExecHandle#awaitAll(Iterable)
+     */
+    public List<ExecResult> awaitAll(final Iterable<MavenExecHandle> handles) {
+        return MavenExecHandle.awaitAll(handles);
+    }
+
+    /**
+     * Create the specification of an invocation.
+     *
+     * @param configure Configuration closure for execute action
+     * @return Specification
+     */
+    MavenExecSpecDelegate configure(final Closure<MavenExecSpec> configure) {
+        final MavenExecSpecDelegate delegate = new MavenExecSpecDelegate(
+                project.getObjects().newInstance(DefaultExecSpec.class), project);
+        project.configure(delegate, configure);
+        return delegate;
+    }
+
+    /**
+     * Execute Maven.
+     *
+     * @param specification Supplier of the specification
+     * @return Result of execution
+     */
+    ExecResult execute(final Supplier<MavenExecSpecDelegate> specification) {
+        final MavenExecLimiter limiter = MavenExecLimiter.of(project);
+        try {
+            final MavenExecSpecDelegate delegate = specification.get();
+            try (MavenExecLimiter.Permit ignored = limiter.acquire(
+                    () -> findLocalRepository(delegate));
+                 MavenExecLimiter.Permit running = limiter.start()) {
+                return prepare(delegate).get();
+            }
+        } catch (Exception exception) {
+            logFailure(exception, project.getLogger());
             throw exception;
         }
     }
 
+    /**
+     * Resolve the command line and the process options of the invocation. Everything which depends on the project is
+     * done here, so the returned invocation can run on another thread.
+     *
+     * @param delegate Specification
+     * @return Invocation which executes Maven
+     */
+    private Supplier<ExecResult> prepare(final MavenExecSpecDelegate delegate) {
+        final CommandLineCreator creator = new CommandLineCreator(delegate, project);
+        if (MavenRuntimeLauncher.isSupported(delegate.getExecutionMode())) {
+            final Supplier<ExecResult> invocation = MavenRuntimeLauncher.prepare(delegate, creator, project);
+            return () -> invocation.get().assertNormalExitValue();
+        }
+        final Logger logger = project.getLogger();
+        final ExecOperations execOperations = getExecOperations();
+        final String executable = creator.getExecutable();
+        final List<String> arguments = List.copyOf(creator.getArguments());
+        final boolean directLaunch = creator.isDirectLaunch();
+        final MavenArgumentsSpill argumentsSpill = creator.getArgumentsSpill();
+        final File workingDir = delegate.getWorkingDir();
+        final Map<String, Object> environment = new HashMap<>(delegate.getEnvironment());
+        final boolean ignoreExitValue = delegate.isIgnoreExitValue();
+        final InputStream standardInput = delegate.getStandardInput();
+        final OutputStream standardOutput = delegate.getStandardOutput();
+        final OutputStream errorOutput = delegate.getErrorOutput();
+        final Duration timeout = delegate.getTimeout().getOrNull();
+        return () -> {
+            final AtomicReference<MavenArgumentsSpill.Overlay> overlay = new AtomicReference<>();
+            try (MavenProcessWatchdog watchdog = MavenProcessWatchdog.start(timeout)) {
+                final List<String> commandLine = new ArrayList<>();
+                commandLine.add(executable);
+                commandLine.addAll(directLaunch ? watchdog.getJvmArguments(arguments) : arguments);
+                return watchdog.run(() -> execOperations.exec(execSpec -> {
+                    execSpec.setCommandLine(commandLine);
+                    execSpec.setWorkingDir(workingDir);
+                    execSpec.setEnvironment(environment);
+                    execSpec.setIgnoreExitValue(ignoreExitValue);
+                    Optional.ofNullable(standardInput).ifPresent(execSpec::setStandardInput);
+                    Optional.ofNullable(standardOutput).ifPresent(execSpec::setStandardOutput);
+                    Optional.ofNullable(errorOutput).ifPresent(execSpec::setErrorOutput);
+                    if (!directLaunch) {
+                        execSpec.environment(watchdog.getEnvironment(
+                                execSpec.getEnvironment().get(MavenProcessWatchdog.MAVEN_OPTS)));
+                    }
+                    execSpec.environment(argumentsSpill.getEnvironment(
+                            execSpec.getEnvironment().get(MavenArgumentsSpill.MAVEN_ARGS)));
+                    overlay.set(argumentsSpill.open());
+                    if (logger.isInfoEnabled()) {
+                        logger.info("Execute Maven command: {}", String.join(" ", commandLine));
+                        if (!argumentsSpill.getSpilled().isEmpty()) {
+                            logger.info("Maven options outside of the command line: {}",
+                                    String.join(" ", argumentsSpill.getSpilled()));
+                        }
+                    }
+                }).assertNormalExitValue());
+            } finally {
+                Optional.ofNullable(overlay.get()).ifPresent(MavenArgumentsSpill.Overlay::close);
+            }
+        };
+    }
+
+    private Path findLocalRepository(final MavenExecSpecDelegate delegate) {
+        return MavenLocalRepository.find(delegate.getOptions(), delegate.getEnvironment(),
+                Optional.ofNullable(delegate.getWorkingDir()).orElseGet(project::getProjectDir));
+    }
+
+    private void logFailure(final Exception exception, final Logger logger) {
+        if (exception.getCause() != null) {
+            printCauseMessagesWithoutLast(exception, logger);
+        }
+    }
+
     /**
      * Execute Maven directly in any task.
      *
@@ -0,0 +1,174 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec;
+
+import org.gradle.api.GradleException;
+import org.gradle.process.ExecResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Handle of a Maven invocation started with {@link MavenExecConvention#mavenexecAsync(groovy.lang.Closure)}.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenExecHandle {
+    private final CompletableFuture<ExecResult> result = new CompletableFuture<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private volatile boolean cancelling;
+    private volatile Future<?> task;
+
+    private MavenExecHandle() {
+    }
+
+    /**
+     * Start the invocation on the executor.
+     *
+     * @param executor   Executor of the invocations
+     * @param invocation Maven invocation
+     * @return Handle of the invocation
+     */
+    static MavenExecHandle submit(final ExecutorService executor, final Supplier<ExecResult> invocation) {
+        final MavenExecHandle handle = new MavenExecHandle();
+        handle.task = executor.submit(() -> handle.run(invocation));
+        return handle;
+    }
+
+    private void run(final Supplier<ExecResult> invocation) {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            final ExecResult value = invocation.get();
+            if (!cancelling) {
+                result.complete(value);
+            }
+        } catch (RuntimeException | Error e) {
+            if (!cancelling) {
+                result.completeExceptionally(e);
+            }
+        } finally {
+            if (cancelling) {
+                result.cancel(false);
+            }
+            finished.countDown();
+        }
+    }
+
+    /**
+     * Get the future of the result of the invocation, which is completed exceptionally if Maven fails.
+     *
+     * @return Future of the result
+     */
+    public CompletableFuture<ExecResult> getResult() {
+        return result;
+    }
+
+    /**
+     * Check whether the invocation is finished, failed or cancelled.
+     *
+     * @return {@code true} if the invocation is finished
+     */
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    /**
+     * Cancel the invocation. The invocation is not started, if it waits for a free thread, otherwise the thread,
+     * which waits for Maven, is interrupted and the call waits until the invocation is finished, so the Maven
+     * processes, the pooled worker or the embedded Maven are free when the handle is cancelled. A forked or pooled
+     * Maven is stopped, but the embedded Maven can't be stopped and the call waits until its build is finished.
+     *
+     * @return {@code true} if the invocation is cancelled, {@code false} if it is already finished
+     */
+    public boolean cancel() {
+        if (result.isDone()) {
+            return false;
+        }
+        cancelling = true;
+        if (started.compareAndSet(false, true)) {
+            task.cancel(false);
+            return result.cancel(false);
+        }
+        task.cancel(true);
+        try {
+            finished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GradleException("Interrupted while waiting for the cancelled Maven invocation", e);
+        }
+        return result.isCancelled();
+    }
+
+    /**
+     * Wait for the invocation to finish.
+     *
+     * @return Result of the invocation
+     * @throws java.util.concurrent.CancellationException if the invocation is cancelled
+     */
+    public ExecResult await() {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new GradleException("Maven invocation failed", cause);
+        }
+    }
+
+    /**
+     * Wait for all invocations to finish. If some invocations fail, the failure of the first of them is thrown,
+     * with the failures of the others as suppressed exceptions, after all invocations have finished.
+     *
+     * @param handles Handles of the invocations
+     * @return Results of the invocations in the same order
+     */
+    public static List<ExecResult> awaitAll(final Iterable<MavenExecHandle> handles) {
+        Objects.requireNonNull(handles, "Handles should not be null");
+        final List<ExecResult> results = new ArrayList<>();
+        RuntimeException failure = null;
+        for (final MavenExecHandle handle : handles) {
+            try {
+                results.add(handle.await());
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else if (failure != e) {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+}
@@ -0,0 +1,194 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec;
+
+import com.github.dkorotych.gradle.maven.MavenCpuQuota;
+import com.github.dkorotych.gradle.maven.MemoizedSupplier;
+import org.gradle.api.GradleException;
+import org.gradle.api.Project;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Build-scoped service which limits concurrent Maven executions. {@link MavenExec} tasks use the service, so Gradle
+ * runs at most {@link MavenExecPlugin#MAX_PARALLEL_PROPERTY} of them at the same time, and every execution takes a
+ * permit of its local repository, so at most {@link MavenExecPlugin#LOCAL_REPOSITORY_MAX_PARALLEL_PROPERTY}
+ * executions share one local repository. The service also counts running executions, so the {@link #AUTO_THREADS}
+ * thread count shares the processors between them.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public abstract class MavenExecLimiter implements BuildService<MavenExecLimiter.Parameters> {
+    /**
+     * Name of the shared build service.
+     */
+    public static final String NAME = "mavenExecLimiter";
+    /**
+     * Value of the {@code threads} option, which is replaced with the processors available for one execution.
+     *
+     * @see #getAutoThreads()
+     */
+    public static final String AUTO_THREADS = "auto";
+    private static final Logger LOGGER = Logging.getLogger(MavenExecLimiter.class);
+    private static final Permit NO_PERMIT = () -> {
+    };
+
+    private final Map<Path, Semaphore> repositories = new ConcurrentHashMap<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final Supplier<Integer> processors = MemoizedSupplier.of(MavenCpuQuota::availableProcessors);
+
+    /**
+     * Register the limiter service in the build, if it has not been registered yet. The limits are build-wide, so
+     * they are read from the properties of the root project, whichever project registers the service first.
+     *
+     * @param project Current Gradle project
+     * @return Provider of the limiter service
+     */
+    public static Provider<MavenExecLimiter> register(final Project project) {
+        Objects.requireNonNull(project, "Project should be not null");
+        final Project rootProject = project.getRootProject();
+        return project.getGradle()
+                .getSharedServices()
+                .registerIfAbsent(NAME, MavenExecLimiter.class, spec -> {
+                    getInteger(rootProject, MavenExecPlugin.MAX_PARALLEL_PROPERTY)
+                            .ifPresent(spec.getMaxParallelUsages()::set);
+                    spec.getParameters()
+                            .getLocalRepositoryParallelism()
+                            .set(getInteger(rootProject, MavenExecPlugin.LOCAL_REPOSITORY_MAX_PARALLEL_PROPERTY)
+                                    .orElse(0));
+                });
+    }
+
+    /**
+     * Get the limiter service of the current build.
+     *
+     * @param project Current Gradle project
+     * @return Limiter service
+     */
+    public static MavenExecLimiter of(final Project project) {
+        return register(project).get();
+    }
+
+    /**
+     * Take a permit of the local repository. The call waits, while the repository is used by the maximum number of
+     * executions.
+     *
+     * @param localRepository Supplier of the local repository, which is called only when the repositories are
+     *                        limited
+     * @return Permit, which should be closed after the execution
+     */
+    public Permit acquire(final Supplier<Path> localRepository) {
+        final int parallelism = getParameters().getLocalRepositoryParallelism().getOrElse(0);
+        if (parallelism <= 0) {
+            return NO_PERMIT;
+        }
+        final Path repository = localRepository.get();
+        final Semaphore semaphore = repositories.computeIfAbsent(repository,
+                ignored -> new Semaphore(parallelism, true));
+        if (!semaphore.tryAcquire()) {
+            LOGGER.info("Wait for the local repository {}, which is used by other Maven executions", repository);
+            try {
+                semaphore.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GradleException("Interrupted while waiting for the local repository " + repository, e);
+            }
+        }
+        return semaphore::release;
+    }
+
+    /**
+     * Mark the start of an execution.
+     *
+     * @return Permit, which should be closed after the execution
+     */
+    public Permit start() {
+        running.incrementAndGet();
+        return running::decrementAndGet;
+    }
+
+    /**
+     * Number of executions which are running now.
+     *
+     * @return Number of executions
+     */
+    public int getRunning() {
+        return running.get();
+    }
+
+    /**
+     * Thread count of an execution, which uses the {@link #AUTO_THREADS} value. The processors available for the
+     * build, limited by the CPU quota, are shared equally between the running executions, so a single execution uses
+     * all of them. The thread count is fixed when Maven starts, executions started earlier keep their share.
+     *
+     * @return Thread count, at least one
+     * @see MavenCpuQuota
+     */
+    public int getAutoThreads() {
+        return Math.max(1, processors.get() / Math.max(1, running.get()));
+    }
+
+    static Optional<Integer> getInteger(final Project project, final String name) {
+        return Optional.ofNullable(project.findProperty(name))
+                .map(String::valueOf)
+                .map(String::trim)
+                .map(value -> {
+                    try {
+                        return Integer.valueOf(value);
+                    } catch (NumberFormatException e) {
+                        throw new GradleException("Gradle property " + name + " should be a number, but was "
+                                + value, e);
+                    }
+                });
+    }
+
+    /**
+     * Parameters of the limiter.
+     */
+    public interface Parameters extends BuildServiceParameters {
+        /**
+         * Maximum number of concurrent executions with the same local repository, zero means unlimited.
+         *
+         * @return Maximum number of executions
+         */
+        Property<Integer> getLocalRepositoryParallelism();
+    }
+
+    /**
+     * Permit of the local repository.
+     */
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+        /**
+         * Release the permit.
+         */
+        @Override
+        void close();
+    }
+}
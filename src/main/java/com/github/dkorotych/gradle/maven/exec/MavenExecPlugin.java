@@ -15,9 +15,12 @@
  */
 package com.github.dkorotych.gradle.maven.exec;
 
+import com.github.dkorotych.gradle.maven.locator.MavenLocatorContext;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
+import org.gradle.api.execution.TaskExecutionGraph;
 import org.gradle.api.plugins.ExtraPropertiesExtension;
+import org.gradle.api.provider.Provider;
 import org.gradle.util.internal.VersionNumber;
 
 /**
@@ -27,12 +30,67 @@ import org.gradle.util.internal.VersionNumber;
  */
 public class MavenExecPlugin implements Plugin<Project> {
     public static final String OPERATION_NAME = "exec-operations";
+    /**
+     * Gradle property which enables probing of Maven installations in the background as soon as the task graph is
+     * ready.
+     */
+    public static final String PREWARM_PROPERTY = "gradle-maven-exec.prewarm";
+    /**
+     * Gradle property which controls when Maven options are moved out of the process command line: {@code auto}
+     * (default, for long command lines), {@code always} or {@code never}.
+     */
+    public static final String SPILL_ARGUMENTS_PROPERTY = "gradle-maven-exec.spillArguments";
+    /**
+     * Gradle property which stops the Maven Daemons (mvnd), used by the build, when the build finishes. By default
+     * the daemons stay alive to serve the next builds.
+     */
+    public static final String DAEMON_STOP_PROPERTY = "gradle-maven-exec.daemon.stop";
+    /**
+     * Gradle property with the maximum number of warm worker JVMs for one Maven installation in the
+     * {@link MavenExecutionMode#POOLED} mode. Two by default.
+     */
+    public static final String POOL_SIZE_PROPERTY = "gradle-maven-exec.pool.size";
+    /**
+     * Gradle property with the number of seconds after which an idle worker JVM is stopped, zero keeps idle workers
+     * until the end of the build. Five minutes by default.
+     */
+    public static final String POOL_IDLE_TIMEOUT_PROPERTY = "gradle-maven-exec.pool.idleTimeout";
+    /**
+     * Gradle property with the number of builds after which a worker JVM is replaced with a new one, zero never
+     * replaces workers. 50 by default.
+     */
+    public static final String POOL_MAX_BUILDS_PROPERTY = "gradle-maven-exec.pool.maxBuilds";
+    /**
+     * Gradle property with the maximum number of {@link MavenExec} tasks which run at the same time with
+     * {@code --parallel}. Unlimited by default.
+     */
+    public static final String MAX_PARALLEL_PROPERTY = "gradle-maven-exec.maxParallel";
+    /**
+     * Gradle property with the maximum number of Maven executions which use the same local repository at the same
+     * time, for example {@code 1} serializes them. Unlimited by default.
+     */
+    public static final String LOCAL_REPOSITORY_MAX_PARALLEL_PROPERTY = "gradle-maven-exec.localRepository.maxParallel";
+    /**
+     * Gradle property with the maximum number of Maven invocations started with {@code mavenexecAsync}, which run at
+     * the same time. The number of processors by default.
+     */
+    public static final String ASYNC_THREADS_PROPERTY = "gradle-maven-exec.async.threads";
     private static final String CONVENTION_NAME = "mavenexec";
 
     @Override
     public void apply(final Project project) {
         final ExtraPropertiesExtension properties = project.getExtensions().getExtraProperties();
         properties.set(MavenExec.class.getSimpleName(), MavenExec.class);
+        final Provider<MavenRegistryService> registry = MavenRegistryService.register(project);
+        final Provider<MavenExecLimiter> limiter = MavenExecLimiter.register(project);
+        project.getTasks().withType(MavenExec.class).configureEach(task -> {
+            task.usesService(registry);
+            task.usesService(limiter);
+        });
+        project.getExtensions().add(MavenReactor.class, MavenReactor.NAME, new MavenReactor(project));
+        if (Boolean.parseBoolean(String.valueOf(project.findProperty(PREWARM_PROPERTY)))) {
+            project.getGradle().getTaskGraph().whenReady(graph -> prewarm(graph, project, registry.get()));
+        }
         if (VersionNumber.parse(project.getGradle().getGradleVersion()).getMajor() < 9) {
             project.getConvention().getPlugins().put(CONVENTION_NAME, new MavenExecConvention(project));
         } else {
@@ -40,4 +98,14 @@ public class MavenExecPlugin implements Plugin<Project> {
             properties.set(OPERATION_NAME, ExecOperationsInstanceHolder.getExecOperations(project));
         }
     }
+
+    private void prewarm(final TaskExecutionGraph graph, final Project project, final MavenRegistryService registry) {
+        graph.getAllTasks()
+                .stream()
+                .filter(MavenExec.class::isInstance)
+                .map(MavenExec.class::cast)
+                .filter(task -> task.getProject() == project)
+                .forEach(task -> registry.prewarm(MavenLocatorContext.of(registry.getDiscovery(), task, project),
+                        task.getWorkingDir(), project));
+    }
 }
@@ -0,0 +1,57 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec;
+
+import org.gradle.api.GradleException;
+import org.gradle.process.ExecResult;
+
+/**
+ * Result of a Maven execution, which does not fork a process.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+final class MavenExecResult implements ExecResult {
+    private final String displayName;
+    private final int exitValue;
+
+    MavenExecResult(final String displayName, final int exitValue) {
+        this.displayName = displayName;
+        this.exitValue = exitValue;
+    }
+
+    @Override
+    public int getExitValue() {
+        return exitValue;
+    }
+
+    @Override
+    public ExecResult assertNormalExitValue() {
+        if (exitValue != 0) {
+            throw new GradleException(displayName + " finished with non-zero exit value " + exitValue);
+        }
+        return this;
+    }
+
+    @Override
+    public ExecResult rethrowFailure() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "{exitValue=" + exitValue + ", failure=null}";
+    }
+}
@@ -17,14 +17,17 @@ package com.github.dkorotych.gradle.maven.exec;
 
 import com.github.dkorotych.gradle.maven.MavenOptions;
 import groovy.lang.Closure;
+import org.gradle.api.provider.Property;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.InputDirectory;
 import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.Optional;
 import org.gradle.process.BaseExecSpec;
 import org.gradle.util.internal.CollectionUtils;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
@@ -65,6 +68,42 @@ public interface MavenExecSpec extends BaseExecSpec, MavenOptions {
         return this;
     }
 
+    /**
+     * Returns how Maven is launched. Defaults to {@link MavenExecutionMode#FORK}.
+     *
+     * @return The execution mode
+     */
+    @Input
+    MavenExecutionMode getExecutionMode();
+
+    /**
+     * Sets how Maven is launched.
+     *
+     * @param mode The execution mode
+     */
+    void setExecutionMode(MavenExecutionMode mode);
+
+    /**
+     * Sets how Maven is launched.
+     *
+     * @param mode The execution mode
+     * @return this
+     */
+    default MavenExecSpec executionMode(final MavenExecutionMode mode) {
+        setExecutionMode(mode);
+        return this;
+    }
+
+    /**
+     * Returns the maximum duration of the Maven process. When the timeout expires, or when the build is cancelled,
+     * the Maven process and all its child processes are stopped. In the pooled mode the worker is stopped and removed
+     * from the pool. The embedded mode doesn't support the timeout. No limit by default.
+     *
+     * @return The timeout
+     */
+    @Internal
+    Property<Duration> getTimeout();
+
     /**
      * Adds goals for the Maven.
      *
@@ -19,12 +19,14 @@ import com.github.dkorotych.gradle.maven.CommandLineCreator;
 import com.github.dkorotych.gradle.maven.MavenOptions;
 import groovy.lang.Closure;
 import org.gradle.api.Project;
+import org.gradle.api.provider.Property;
 import org.gradle.process.ExecSpec;
 import org.gradle.process.ProcessForkOptions;
 
 import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -39,6 +41,7 @@ public class MavenExecSpecDelegate implements MavenExecSpec {
     private final MavenProperties properties = new MavenProperties();
     private final ExecSpec delegate;
     private final Project project;
+    private final Property<Duration> timeout;
 
     /**
      * Create new options for launching a Maven process.
@@ -49,6 +52,7 @@ public class MavenExecSpecDelegate implements MavenExecSpec {
     public MavenExecSpecDelegate(final ExecSpec delegate, final Project project) {
         this.delegate = Objects.requireNonNull(delegate, "Exec specification delegate should be not null");
         this.project = Objects.requireNonNull(project, "Project should be not null");
+        timeout = project.getObjects().property(Duration.class);
     }
 
     @Override
@@ -63,12 +67,29 @@ public class MavenExecSpecDelegate implements MavenExecSpec {
         properties.setMavenDir(dir);
     }
 
+    @Override
+    @SuppressWarnings("common-java:DuplicatedBlocks")
+    public MavenExecutionMode getExecutionMode() {
+        return properties.getExecutionMode();
+    }
+
+    @Override
+    @SuppressWarnings("common-java:DuplicatedBlocks")
+    public void setExecutionMode(final MavenExecutionMode mode) {
+        properties.setExecutionMode(mode);
+    }
+
     @Override
     @SuppressWarnings("common-java:DuplicatedBlocks")
     public Set<String> getGoals() {
         return properties.getGoals();
     }
 
+    @Override
+    public Property<Duration> getTimeout() {
+        return timeout;
+    }
+
     @Override
     public MavenExecSpec options(final Closure<MavenOptions> options) {
         project.configure(getOptions(), options);
@@ -0,0 +1,51 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec;
+
+/**
+ * How Maven is launched.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public enum MavenExecutionMode {
+    /**
+     * Fork a new process with the {@code mvn} script or the Maven wrapper. The default mode.
+     */
+    FORK,
+    /**
+     * Run Maven inside the Gradle process in an isolated class loader. Saves the process and JVM startup, but
+     * environment variables and the standard input of the specification are not applied, and executions are
+     * serialized.
+     */
+    EMBEDDED,
+    /**
+     * Send the build to a warm Maven Daemon (mvnd), which is found in the {@code MVND_HOME} environment variable,
+     * the {@code PATH} environment variable, SDKMAN! or the Maven directory of the specification.
+     */
+    DAEMON,
+    /**
+     * Send the build to one of the warm worker JVMs, which are launched with the class path of the Maven
+     * installation and reused by all executions of the build. Environment variables are applied when a worker is
+     * launched, the standard input of the specification is not applied.
+     */
+    POOLED,
+    /**
+     * Fork the JVM directly with the command line which the {@code mvn} script would compute, without the shell and
+     * the script. The script startup files ({@code mavenrc}) are not read. When the Maven wrapper distribution is not
+     * downloaded yet, Maven is launched with the script.
+     */
+    DIRECT
+}
@@ -26,6 +26,7 @@ class MavenProperties {
     private final MavenOptions options = new DefaultMavenOptions();
     private final Set<String> goals = new LinkedHashSet<>();
     private File mavenDir;
+    private MavenExecutionMode executionMode = MavenExecutionMode.FORK;
 
     MavenOptions getOptions() {
         return options;
@@ -42,4 +43,12 @@ class MavenProperties {
     void setMavenDir(final File mavenDir) {
         this.mavenDir = mavenDir;
     }
+
+    MavenExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    void setExecutionMode(final MavenExecutionMode executionMode) {
+        this.executionMode = executionMode == null ? MavenExecutionMode.FORK : executionMode;
+    }
 }
@@ -0,0 +1,190 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec;
+
+import com.github.dkorotych.gradle.maven.MavenModuleGraph;
+import org.gradle.api.Action;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskProvider;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Extension for a project which slices a Maven reactor into {@link MavenExec} tasks, one task for every module. Every
+ * task builds only its module, with {@code --projects} or {@code --non-recursive} for the root project, and depends
+ * on the tasks of the modules which the module depends on, so Gradle can run independent modules in parallel and
+ * skip up-to-date modules. Without {@code --also-make} Maven resolves the other modules from the local repository,
+ * so the goals of the module tasks should include {@code install}.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public class MavenReactor {
+    /**
+     * Name of the extension.
+     */
+    public static final String NAME = "mavenReactor";
+    private final Project project;
+
+    /**
+     * New instance of the reactor extension.
+     *
+     * @param project Current Gradle project
+     */
+    public MavenReactor(final Project project) {
+        this.project = Objects.requireNonNull(project, "Project should be not null");
+    }
+
+    /**
+     * Register tasks for the modules of the Maven project. The name of a module task is the prefix followed by the
+     * artifact identifier of the module, for example {@code mavenBuildCore}, and the task with the name of the prefix
+     * depends on all module tasks. Module tasks take the {@code pom.xml} file and the {@code src} directory of the
+     * module, the {@code pom.xml} files of its parents in the reactor and the {@code target} directories of the modules
+     * it depends on as inputs and the {@code target} directory as outputs.
+     *
+     * @param name      Name of the aggregating task and the prefix of the module tasks
+     * @param directory Directory of the root Maven project, evaluated as per {@link Project#file(Object)}
+     * @param configure Configuration of every module task, which sets the goals and other options
+     * @return Module tasks by the module identifier in the form {@code groupId:artifactId}, in the build order
+     */
+    public Map<String, TaskProvider<MavenExec>> register(final String name, final Object directory,
+                                                         final Action<? super MavenExec> configure) {
+        return register(name, directory, List.of(), configure);
+    }
+
+    /**
+     * Register tasks for the modules of the Maven project with the profiles. The modules and the dependencies of the
+     * active profiles are the part of the reactor, and every module task activates the same profiles.
+     *
+     * @param name      Name of the aggregating task and the prefix of the module tasks
+     * @param directory Directory of the root Maven project, evaluated as per {@link Project#file(Object)}
+     * @param profiles  Profiles in the format of the {@code activateProfiles} option
+     * @param configure Configuration of every module task, which sets the goals and other options
+     * @return Module tasks by the module identifier in the form {@code groupId:artifactId}, in the build order
+     * @see #register(String, Object, Action)
+     */
+    public Map<String, TaskProvider<MavenExec>> register(final String name, final Object directory,
+                                                         final Collection<String> profiles,
+                                                         final Action<? super MavenExec> configure) {
+        Objects.requireNonNull(name, "Task name should not be null");
+        Objects.requireNonNull(profiles, "Profiles should not be null");
+        Objects.requireNonNull(configure, "Configure action should not be null");
+        final String[] activated = profiles.toArray(String[]::new);
+        final MavenModuleGraph graph = MavenModuleGraph.read(project.file(directory).toPath(), profiles,
+                MavenRegistryService.of(project).getPomCache());
+        final File root = graph.getDirectory().toFile();
+        final Map<String, TaskProvider<MavenExec>> tasks = new LinkedHashMap<>();
+        final Set<String> names = new HashSet<>();
+        for (final MavenModuleGraph.Module module : graph.getModules()) {
+            final TaskProvider<MavenExec> task = project.getTasks().register(createTaskName(name, module, names),
+                    MavenExec.class, exec -> {
+                        exec.setDescription("Builds the Maven module " + module.id() + '.');
+                        exec.setWorkingDir(root);
+                        if (module.isRoot()) {
+                            exec.getOptions().setNonRecursive(true);
+                        } else {
+                            exec.getOptions().setProjects(new String[]{module.path()});
+                        }
+                        if (activated.length > 0) {
+                            exec.getOptions().setActivateProfiles(activated.clone());
+                        }
+                        module.dependencies().forEach(dependency -> exec.dependsOn(tasks.get(dependency)));
+                        final File moduleDirectory = module.directory().toFile();
+                        exec.getInputs().file(new File(moduleDirectory, "pom.xml"))
+                                .withPathSensitivity(PathSensitivity.RELATIVE);
+                        exec.getInputs().dir(new File(moduleDirectory, "src"))
+                                .optional()
+                                .withPathSensitivity(PathSensitivity.RELATIVE);
+                        exec.getInputs().files(getParentPoms(graph, module))
+                                .withPropertyName("parentPoms")
+                                .withPathSensitivity(PathSensitivity.RELATIVE);
+                        exec.getInputs().files(getDependencyOutputs(graph, module))
+                                .withPropertyName("dependencyOutputs")
+                                .withPathSensitivity(PathSensitivity.RELATIVE);
+                        exec.getOutputs().dir(new File(moduleDirectory, "target"));
+                        configure.execute(exec);
+                    });
+            tasks.put(module.id(), task);
+        }
+        project.getTasks().register(name, task -> {
+            task.setDescription("Builds all modules of the Maven project " + root + '.');
+            task.dependsOn(tasks.values());
+        });
+        return Collections.unmodifiableMap(tasks);
+    }
+
+    private static List<File> getParentPoms(final MavenModuleGraph graph, final MavenModuleGraph.Module module) {
+        final List<File> files = new ArrayList<>();
+        final Set<String> visited = new HashSet<>();
+        for (String parent = module.parent(); parent != null && visited.add(parent); ) {
+            final MavenModuleGraph.Module current = graph.findModule(parent).orElseThrow();
+            files.add(current.directory().resolve("pom.xml").toFile());
+            parent = current.parent();
+        }
+        return files;
+    }
+
+    private static List<File> getDependencyOutputs(final MavenModuleGraph graph,
+                                                   final MavenModuleGraph.Module module) {
+        final Set<String> visited = new LinkedHashSet<>();
+        final Deque<String> queue = new ArrayDeque<>(module.dependencies());
+        while (!queue.isEmpty()) {
+            final String id = queue.poll();
+            if (visited.add(id)) {
+                graph.findModule(id).ifPresent(dependency -> queue.addAll(dependency.dependencies()));
+            }
+        }
+        return visited.stream()
+                .map(graph::findModule)
+                .flatMap(Optional::stream)
+                .map(dependency -> dependency.directory().resolve("target").toFile())
+                .toList();
+    }
+
+    private static String createTaskName(final String prefix, final MavenModuleGraph.Module module,
+                                         final Set<String> names) {
+        final StringBuilder builder = new StringBuilder(prefix);
+        boolean upper = true;
+        for (final char character : module.artifactId().toCharArray()) {
+            if (Character.isLetterOrDigit(character)) {
+                builder.append(upper ? Character.toUpperCase(character) : character);
+                upper = false;
+            } else {
+                upper = true;
+            }
+        }
+        final String base = builder.toString();
+        String name = base;
+        for (int index = 2; !names.add(name); index++) {
+            name = base + index;
+        }
+        return name;
+    }
+}
@@ -0,0 +1,283 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec;
+
+import com.github.dkorotych.gradle.maven.MavenCommandLineCache;
+import com.github.dkorotych.gradle.maven.MavenDescriptor;
+import com.github.dkorotych.gradle.maven.MavenDescriptorCache;
+import com.github.dkorotych.gradle.maven.MavenEmbeddedRuntime;
+import com.github.dkorotych.gradle.maven.MavenExecutableProvider;
+import com.github.dkorotych.gradle.maven.MavenInstallationDiscovery;
+import com.github.dkorotych.gradle.maven.MavenPomCache;
+import com.github.dkorotych.gradle.maven.MavenWorkerPool;
+import com.github.dkorotych.gradle.maven.locator.MavenLocatorChain;
+import com.github.dkorotych.gradle.maven.locator.MavenLocatorContext;
+import org.gradle.api.Project;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+import org.gradle.process.ExecOperations;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Build-scoped registry that shares information about Maven installations between all tasks and direct Maven
+ * invocations of the build, so each installation is probed only once per build.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public abstract class MavenRegistryService implements BuildService<BuildServiceParameters.None>, AutoCloseable {
+    /**
+     * Name of the shared build service.
+     */
+    public static final String NAME = "mavenExecRegistry";
+    private static final Logger LOGGER = Logging.getLogger(MavenRegistryService.class);
+    private static final long DAEMON_STOP_TIMEOUT_SECONDS = 30;
+    private static final int PREWARM_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    private final Map<DescriptorKey, MavenDescriptor> descriptors = new ConcurrentHashMap<>();
+    private final MavenInstallationDiscovery discovery = new MavenInstallationDiscovery();
+    private final MavenLocatorChain locatorChain = MavenLocatorChain.defaults();
+    private final MavenCommandLineCache commandLineCache = new MavenCommandLineCache();
+    private final MavenPomCache pomCache = new MavenPomCache();
+    private final MavenEmbeddedRuntime embeddedRuntime = new MavenEmbeddedRuntime();
+    private final Map<String, Boolean> daemons = new ConcurrentHashMap<>();
+    private ExecutorService prewarmExecutor;
+    private ExecutorService asyncExecutor;
+    private MavenWorkerPool workerPool;
+
+    /**
+     * Register the registry service in the build, if it has not been registered yet.
+     *
+     * @param project Current Gradle project
+     * @return Provider of the registry service
+     */
+    public static Provider<MavenRegistryService> register(final Project project) {
+        return Objects.requireNonNull(project, "Project should be not null")
+                .getGradle()
+                .getSharedServices()
+                .registerIfAbsent(NAME, MavenRegistryService.class, spec -> {
+                });
+    }
+
+    /**
+     * Get the registry service of the current build.
+     *
+     * @param project Current Gradle project
+     * @return Registry service
+     */
+    public static MavenRegistryService of(final Project project) {
+        return register(project).get();
+    }
+
+    /**
+     * Get a shared descriptor for the Maven installation. The descriptor is not bound to the project, which is used
+     * only to find the persistent cache of the descriptions, so the process launcher and the working directory should
+     * be passed to the descriptor on every call.
+     *
+     * @param mavenHome Maven installation directory
+     * @param project   Current Gradle project
+     * @return Maven descriptor
+     * @see MavenDescriptor#getVersion(ExecOperations, File)
+     */
+    public MavenDescriptor getDescriptor(final Path mavenHome, final Project project) {
+        return getDescriptor(mavenHome, MavenDescriptorCache.of(project));
+    }
+
+    private MavenDescriptor getDescriptor(final Path mavenHome, final MavenDescriptorCache cache) {
+        final String executable = new MavenExecutableProvider(mavenHome).getExecutable();
+        return descriptors.computeIfAbsent(new DescriptorKey(mavenHome, executable),
+                key -> new MavenDescriptor(mavenHome, cache));
+    }
+
+    /**
+     * Get the shared cache of Maven installation lookups.
+     *
+     * @return Maven installation discovery
+     */
+    public MavenInstallationDiscovery getDiscovery() {
+        return discovery;
+    }
+
+    /**
+     * Get the shared chain of Maven installation lookup strategies.
+     *
+     * @return Maven locator chain
+     */
+    public MavenLocatorChain getLocatorChain() {
+        return locatorChain;
+    }
+
+    /**
+     * Get the shared cache of prepared Maven command lines.
+     *
+     * @return Command line cache
+     */
+    public MavenCommandLineCache getCommandLineCache() {
+        return commandLineCache;
+    }
+
+    /**
+     * Get the shared cache of parsed {@code pom.xml} files.
+     *
+     * @return POM cache
+     */
+    public MavenPomCache getPomCache() {
+        return pomCache;
+    }
+
+    /**
+     * Get the shared runtime for Maven executions inside the Gradle process.
+     *
+     * @return Embedded Maven runtime
+     */
+    public MavenEmbeddedRuntime getEmbeddedRuntime() {
+        return embeddedRuntime;
+    }
+
+    /**
+     * Get the shared pool of warm Maven worker JVMs. The pool is created on the first request with the specified
+     * settings.
+     *
+     * @param settings Pool settings
+     * @return Maven worker pool
+     */
+    public synchronized MavenWorkerPool getWorkerPool(final MavenWorkerPool.Settings settings) {
+        if (workerPool == null) {
+            workerPool = new MavenWorkerPool(settings);
+        }
+        return workerPool;
+    }
+
+    /**
+     * Get the executor of asynchronous Maven invocations, which is created on the first call and shut down when the
+     * build finishes.
+     *
+     * @param threads Maximum number of invocations which run at the same time
+     * @return Shared executor
+     */
+    public synchronized ExecutorService getAsyncExecutor(final int threads) {
+        if (asyncExecutor == null) {
+            asyncExecutor = createExecutor(threads, "maven-exec-async-");
+        }
+        return asyncExecutor;
+    }
+
+    /**
+     * Remember the Maven Daemon (mvnd) client used by the build.
+     *
+     * @param executable     mvnd client
+     * @param stopAtBuildEnd Stop the daemons of the client, when the build finishes
+     */
+    public void registerDaemon(final String executable, final boolean stopAtBuildEnd) {
+        daemons.merge(executable, stopAtBuildEnd, Boolean::logicalOr);
+    }
+
+    /**
+     * Find the Maven installation and probe its descriptor in the background, so the Maven invocation finds the
+     * results already computed. Errors are only logged, the invocation reports them itself.
+     *
+     * @param context    Information about the Maven invocation
+     * @param workingDir Working directory
+     * @param project    Current Gradle project
+     * @return Future which is completed when the descriptor is probed
+     */
+    public CompletableFuture<Void> prewarm(final MavenLocatorContext context, final File workingDir,
+                                           final Project project) {
+        final MavenDescriptorCache cache = MavenDescriptorCache.of(project);
+        final ExecOperations execOperations = ExecOperationsInstanceHolder.getExecOperations(project);
+        return CompletableFuture.runAsync(() -> locatorChain.locate(context)
+                        .map(mavenHome -> getDescriptor(mavenHome, cache))
+                        .ifPresent(descriptor -> {
+                            descriptor.getVersion(execOperations, workingDir);
+                            descriptor.getSupportedOptions(execOperations, workingDir);
+                        }), getPrewarmExecutor())
+                .exceptionally(e -> {
+                    LOGGER.debug("Can't prewarm Maven descriptor", e);
+                    return null;
+                });
+    }
+
+    @Override
+    public synchronized void close() {
+        embeddedRuntime.close();
+        if (workerPool != null) {
+            workerPool.close();
+            workerPool = null;
+        }
+        daemons.forEach((executable, stop) -> {
+            if (Boolean.TRUE.equals(stop)) {
+                stopDaemons(executable);
+            }
+        });
+        daemons.clear();
+        if (prewarmExecutor != null) {
+            prewarmExecutor.shutdownNow();
+            prewarmExecutor = null;
+        }
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdownNow();
+            asyncExecutor = null;
+        }
+    }
+
+    private static void stopDaemons(final String executable) {
+        try {
+            final Process process = new ProcessBuilder(executable, "--stop")
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (!process.waitFor(DAEMON_STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Can't stop Maven Daemons of {}", executable, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized ExecutorService getPrewarmExecutor() {
+        if (prewarmExecutor == null) {
+            prewarmExecutor = createExecutor(PREWARM_THREADS, "maven-exec-prewarm-");
+        }
+        return prewarmExecutor;
+    }
+
+    private static ExecutorService createExecutor(final int threads, final String prefix) {
+        final AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private record DescriptorKey(Path mavenHome, String executable) {
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec;
+
+import com.github.dkorotych.gradle.maven.CommandLineCreator;
+import com.github.dkorotych.gradle.maven.MavenArgumentsSpill;
+import com.github.dkorotych.gradle.maven.MavenExecutableProvider;
+import com.github.dkorotych.gradle.maven.MavenProcessWatchdog;
+import com.github.dkorotych.gradle.maven.MavenWorkerPool;
+import org.gradle.api.GradleException;
+import org.gradle.api.Project;
+import org.gradle.api.logging.Logger;
+import org.gradle.process.ExecResult;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Launches Maven for the specification with {@link MavenExecutionMode#EMBEDDED} mode inside the Gradle process, or
+ * with {@link MavenExecutionMode#POOLED} mode in a warm worker JVM. A pooled worker and its child processes are
+ * stopped, and the worker is removed from the pool, when the timeout expires or the execution is interrupted. The
+ * embedded Maven can't be stopped, so a timeout is rejected in the embedded mode.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+final class MavenRuntimeLauncher {
+    private MavenRuntimeLauncher() {
+    }
+
+    /**
+     * Check that Maven is launched by this launcher instead of a new process.
+     *
+     * @param mode Execution mode
+     * @return {@code true} for the embedded and the pooled modes
+     */
+    static boolean isSupported(final MavenExecutionMode mode) {
+        return mode == MavenExecutionMode.EMBEDDED || mode == MavenExecutionMode.POOLED;
+    }
+
+    /**
+     * Execute Maven with the prepared command line.
+     *
+     * @param specification Options for launching Maven
+     * @param creator       Prepared command line
+     * @param project       Current project
+     * @return Result of execution
+     */
+    static ExecResult execute(final MavenExecSpec specification, final CommandLineCreator creator,
+                              final Project project) {
+        return prepare(specification, creator, project).get();
+    }
+
+    /**
+     * Resolve everything which depends on the project and the specification, so the returned invocation can run on
+     * another thread.
+     *
+     * @param specification Options for launching Maven
+     * @param creator       Prepared command line
+     * @param project       Current project
+     * @return Invocation which executes Maven
+     */
+    static Supplier<ExecResult> prepare(final MavenExecSpec specification, final CommandLineCreator creator,
+                                        final Project project) {
+        final boolean pooled = specification.getExecutionMode() == MavenExecutionMode.POOLED;
+        final String name = pooled ? "Pooled Maven" : "Embedded Maven";
+        final Duration timeout = specification.getTimeout().getOrNull();
+        if (!pooled && timeout != null && !timeout.isZero() && !timeout.isNegative()) {
+            throw new GradleException("Embedded Maven can't be stopped, the timeout " + timeout
+                    + " is not supported in the embedded execution mode");
+        }
+        final Path installation = new MavenExecutableProvider(creator.getMavenHome())
+                .getInstallation()
+                .orElseThrow(() -> new GradleException(name + " requires a Maven installation, but "
+                        + creator.getMavenHome() + " has no downloaded Maven distribution"));
+        final MavenArgumentsSpill argumentsSpill = creator.getArgumentsSpill();
+        final List<String> arguments = new ArrayList<>();
+        if (!argumentsSpill.getEnvironment(null).isEmpty()) {
+            arguments.addAll(argumentsSpill.getSpilled());
+        }
+        arguments.addAll(creator.getArguments());
+        final Logger logger = project.getLogger();
+        if (logger.isInfoEnabled()) {
+            logger.info("Execute {} from {} with arguments: {}", name, installation, String.join(" ", arguments));
+        }
+        final PrintStream output = asPrintStream(specification.getStandardOutput(), System.out);
+        final PrintStream error = asPrintStream(specification.getErrorOutput(), System.err);
+        final MavenRegistryService registry = MavenRegistryService.of(project);
+        final MavenWorkerPool.Settings settings = pooled ? MavenWorkerPool.Settings.of(project::findProperty) : null;
+        final Map<String, String> environment = getEnvironment(specification);
+        final File workingDir = specification.getWorkingDir();
+        final boolean ignoreExitValue = specification.isIgnoreExitValue();
+        return () -> {
+            final int exitValue;
+            try (MavenArgumentsSpill.Overlay ignored = argumentsSpill.open()) {
+                if (pooled) {
+                    try (MavenProcessWatchdog watchdog = MavenProcessWatchdog.start(timeout)) {
+                        exitValue = watchdog.run(() -> registry.getWorkerPool(settings)
+                                .execute(installation, environment, arguments, workingDir, output, error, watchdog));
+                    }
+                } else {
+                    exitValue = registry.getEmbeddedRuntime()
+                            .execute(installation, arguments, workingDir, output, error);
+                }
+            } finally {
+                output.flush();
+                error.flush();
+            }
+            final ExecResult result = new MavenExecResult(name, exitValue);
+            if (!ignoreExitValue) {
+                result.assertNormalExitValue();
+            }
+            return result;
+        };
+    }
+
+    private static Map<String, String> getEnvironment(final MavenExecSpec specification) {
+        final Map<String, String> environment = new HashMap<>();
+        specification.getEnvironment().forEach((key, value) -> {
+            if (value != null) {
+                environment.put(key, value.toString());
+            }
+        });
+        return environment;
+    }
+
+    private static PrintStream asPrintStream(final OutputStream stream, final PrintStream defaultStream) {
+        return Optional.ofNullable(stream)
+                .map(value -> value instanceof PrintStream printStream ? printStream : new PrintStream(value, true))
+                .orElse(defaultStream);
+    }
+}
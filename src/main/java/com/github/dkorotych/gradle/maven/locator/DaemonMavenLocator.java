@@ -0,0 +1,105 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.locator;
+
+import com.github.dkorotych.gradle.maven.MavenExecutableProvider;
+import com.github.dkorotych.gradle.maven.exec.MavenExecutionMode;
+import org.apache.commons.lang3.StringUtils;
+import org.gradle.internal.os.OperatingSystem;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Finds the Maven Daemon (mvnd) installation for the {@link MavenExecutionMode#DAEMON} mode. The installation is taken
+ * from the {@code MVND_HOME} environment variable, the {@code PATH} environment variable or the current mvnd
+ * candidate of <a href="https://sdkman.io">SDKMAN!</a>.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+final class DaemonMavenLocator implements MavenLocator {
+    @Override
+    public Optional<Path> locate(final MavenLocatorContext context) {
+        if (context.getExecutionMode() != MavenExecutionMode.DAEMON) {
+            return Optional.empty();
+        }
+        return Stream.of(fromEnvironment(context), fromPath(context), fromSdkman(context))
+                .flatMap(Optional::stream)
+                .map(context.getDiscovery()::find)
+                .flatMap(Optional::stream)
+                .filter(home -> new MavenExecutableProvider(home).isDaemon())
+                .findFirst();
+    }
+
+    @Override
+    public int getOrder() {
+        return 150;
+    }
+
+    private static Optional<File> fromEnvironment(final MavenLocatorContext context) {
+        return Optional.ofNullable(context.getEnvironmentVariable("MVND_HOME"))
+                .filter(StringUtils::isNotBlank)
+                .map(File::new);
+    }
+
+    private static Optional<File> fromPath(final MavenLocatorContext context) {
+        final String path = context.getEnvironmentVariable("PATH");
+        if (StringUtils.isBlank(path)) {
+            return Optional.empty();
+        }
+        final List<String> names = OperatingSystem.current().isWindows()
+                ? List.of("mvnd.exe", "mvnd.cmd")
+                : List.of("mvnd", "mvnd.sh");
+        return Stream.of(path.split(File.pathSeparator))
+                .filter(StringUtils::isNotBlank)
+                .flatMap(directory -> names.stream().map(name -> resolve(directory, name)))
+                .flatMap(Optional::stream)
+                .map(Path::toFile)
+                .findFirst();
+    }
+
+    private static Optional<File> fromSdkman(final MavenLocatorContext context) {
+        return Optional.ofNullable(context.getEnvironmentVariable("SDKMAN_DIR"))
+                .filter(StringUtils::isNotBlank)
+                .map(File::new)
+                .or(() -> Optional.ofNullable(context.getSystemProperty("user.home"))
+                        .filter(StringUtils::isNotBlank)
+                        .map(home -> new File(home, ".sdkman")))
+                .map(sdkman -> sdkman.toPath()
+                        .resolve("candidates")
+                        .resolve("mvnd")
+                        .resolve("current")
+                        .toFile());
+    }
+
+    @SuppressWarnings({"checkstyle:EmptyCatchBlock", "PMD.EmptyCatchBlock", "java:S108"})
+    private static Optional<Path> resolve(final String directory, final String name) {
+        try {
+            final Path executable = Path.of(directory.trim(), name);
+            if (Files.isRegularFile(executable)) {
+                return Optional.of(executable.toRealPath());
+            }
+        } catch (InvalidPathException | IOException ignored) {
+        }
+        return Optional.empty();
+    }
+}
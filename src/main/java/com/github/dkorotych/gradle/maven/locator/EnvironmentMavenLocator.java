@@ -0,0 +1,48 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.locator;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Uses the {@code maven.home} system property or the {@code MAVEN_HOME} and {@code M2_HOME} environment variables.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+final class EnvironmentMavenLocator implements MavenLocator {
+    @Override
+    public Optional<Path> locate(final MavenLocatorContext context) {
+        return Stream.of(context.getSystemProperty("maven.home"),
+                        context.getEnvironmentVariable("MAVEN_HOME"),
+                        context.getEnvironmentVariable("M2_HOME"))
+                .filter(StringUtils::isNotBlank)
+                .map(String::trim)
+                .map(File::new)
+                .map(context.getDiscovery()::find)
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    @Override
+    public int getOrder() {
+        return 300;
+    }
+}
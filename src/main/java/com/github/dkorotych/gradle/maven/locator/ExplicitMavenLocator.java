@@ -0,0 +1,46 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.locator;
+
+import com.github.dkorotych.gradle.maven.IncorrectMavenInstallationDirectoryException;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Uses the Maven directory which is set explicitly. An incorrect directory is an error, the chain does not fall back
+ * to the other strategies in this case.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+final class ExplicitMavenLocator implements MavenLocator {
+    @Override
+    public Optional<Path> locate(final MavenLocatorContext context) {
+        final File mavenDir = context.getMavenDir();
+        if (mavenDir == null) {
+            return Optional.empty();
+        }
+        return Optional.of(context.getDiscovery()
+                .find(mavenDir)
+                .orElseThrow(() -> new IncorrectMavenInstallationDirectoryException(mavenDir)));
+    }
+
+    @Override
+    public int getOrder() {
+        return 100;
+    }
+}
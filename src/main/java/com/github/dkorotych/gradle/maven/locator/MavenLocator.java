@@ -0,0 +1,56 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.locator;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * A strategy that finds a Maven installation. Strategies are asked in the order of {@link #getOrder()} until one of
+ * them finds an installation, so each of them should be cheap and check only a few files instead of walking
+ * directory trees. Additional strategies can be registered with {@link java.util.ServiceLoader}.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ * @see MavenLocatorChain
+ */
+@FunctionalInterface
+public interface MavenLocator {
+    /**
+     * Find a Maven installation.
+     *
+     * @param context Information about the current Maven invocation
+     * @return Maven installation directory, or empty if this strategy can't find Maven
+     */
+    Optional<Path> locate(MavenLocatorContext context);
+
+    /**
+     * Get the position of this strategy in the chain. Strategies with lower values are asked first.
+     *
+     * @return Strategy order
+     */
+    default int getOrder() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Get the strategy name, which is used in the log messages.
+     *
+     * @return Strategy name
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.locator;
+
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ordered chain of {@link MavenLocator} strategies. The chain stops at the first strategy which finds a Maven
+ * installation and logs how long every asked strategy took.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenLocatorChain {
+    private static final Logger LOGGER = Logging.getLogger(MavenLocatorChain.class);
+    private final List<MavenLocator> locators;
+
+    /**
+     * Create a chain of strategies.
+     *
+     * @param locators Strategies, they are sorted by {@link MavenLocator#getOrder()}
+     */
+    public MavenLocatorChain(final List<MavenLocator> locators) {
+        this.locators = locators.stream()
+                .sorted(Comparator.comparingInt(MavenLocator::getOrder))
+                .toList();
+    }
+
+    /**
+     * Create a chain of the built-in strategies: explicitly set Maven directory, Maven Wrapper or installation in the
+     * working directory, {@code maven.home}/{@code MAVEN_HOME}/{@code M2_HOME}, Maven Wrapper or installation in the
+     * other project directories, the {@code PATH} and the SDKMAN! candidates, extended by the strategies registered
+     * with {@link ServiceLoader}.
+     *
+     * @return Default chain
+     */
+    public static MavenLocatorChain defaults() {
+        final List<MavenLocator> locators = new ArrayList<>(List.of(
+                new ExplicitMavenLocator(),
+                new DaemonMavenLocator(),
+                new WorkingDirectoryMavenLocator(),
+                new EnvironmentMavenLocator(),
+                new WrapperMavenLocator(),
+                new PathMavenLocator(),
+                new SdkmanMavenLocator()));
+        ServiceLoader.load(MavenLocator.class, MavenLocator.class.getClassLoader())
+                .forEach(locators::add);
+        return new MavenLocatorChain(locators);
+    }
+
+    /**
+     * Get strategies in the order in which they are asked.
+     *
+     * @return Strategies
+     */
+    public List<MavenLocator> getLocators() {
+        return locators;
+    }
+
+    /**
+     * Find a Maven installation.
+     *
+     * @param context Information about the current Maven invocation
+     * @return Maven installation directory, or empty if no strategy found Maven
+     */
+    public Optional<Path> locate(final MavenLocatorContext context) {
+        for (final MavenLocator locator : locators) {
+            final long start = System.nanoTime();
+            final Optional<Path> mavenHome = locator.locate(context);
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Maven locator {} took {} us and {}", locator.getName(),
+                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start),
+                        mavenHome.map(path -> "found Maven in " + path).orElse("did not find Maven"));
+            }
+            if (mavenHome.isPresent()) {
+                return mavenHome;
+            }
+        }
+        return Optional.empty();
+    }
+}
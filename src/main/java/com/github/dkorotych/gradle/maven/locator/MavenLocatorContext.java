@@ -0,0 +1,171 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.locator;
+
+import com.github.dkorotych.gradle.maven.MavenInstallationDiscovery;
+import com.github.dkorotych.gradle.maven.exec.MavenExecSpec;
+import com.github.dkorotych.gradle.maven.exec.MavenExecutionMode;
+import org.gradle.api.Project;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * Information about the current Maven invocation, which is available for {@link MavenLocator} strategies.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+public final class MavenLocatorContext {
+    private final MavenInstallationDiscovery discovery;
+    private final File mavenDir;
+    private final List<File> directories;
+    private final UnaryOperator<String> environment;
+    private final UnaryOperator<String> systemProperties;
+    private final MavenExecutionMode executionMode;
+
+    /**
+     * Create a context for the current process environment.
+     *
+     * @param discovery   Shared cache of Maven installation lookups
+     * @param mavenDir    Maven directory which is set explicitly, can be {@code null}
+     * @param directories Project directories in which Maven can be found, the first one is the working directory
+     */
+    public MavenLocatorContext(final MavenInstallationDiscovery discovery, final File mavenDir,
+                               final List<File> directories) {
+        this(discovery, mavenDir, directories, System::getenv, System::getProperty);
+    }
+
+    /**
+     * Create a context.
+     *
+     * @param discovery        Shared cache of Maven installation lookups
+     * @param mavenDir         Maven directory which is set explicitly, can be {@code null}
+     * @param directories      Project directories in which Maven can be found, the first one is the working directory
+     * @param environment      Environment variables
+     * @param systemProperties System properties
+     */
+    public MavenLocatorContext(final MavenInstallationDiscovery discovery, final File mavenDir,
+                               final List<File> directories, final UnaryOperator<String> environment,
+                               final UnaryOperator<String> systemProperties) {
+        this(discovery, mavenDir, directories, environment, systemProperties, MavenExecutionMode.FORK);
+    }
+
+    /**
+     * Create a context.
+     *
+     * @param discovery        Shared cache of Maven installation lookups
+     * @param mavenDir         Maven directory which is set explicitly, can be {@code null}
+     * @param directories      Project directories in which Maven can be found, the first one is the working directory
+     * @param environment      Environment variables
+     * @param systemProperties System properties
+     * @param executionMode    How Maven is launched
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public MavenLocatorContext(final MavenInstallationDiscovery discovery, final File mavenDir,
+                               final List<File> directories, final UnaryOperator<String> environment,
+                               final UnaryOperator<String> systemProperties, final MavenExecutionMode executionMode) {
+        this.discovery = Objects.requireNonNull(discovery, "Discovery should be not null");
+        this.mavenDir = mavenDir;
+        this.directories = directories == null
+                ? Collections.emptyList()
+                : directories.stream()
+                .filter(Objects::nonNull)
+                .toList();
+        this.environment = Objects.requireNonNull(environment, "Environment should be not null");
+        this.systemProperties = Objects.requireNonNull(systemProperties, "System properties should be not null");
+        this.executionMode = Objects.requireNonNull(executionMode, "Execution mode should be not null");
+    }
+
+    /**
+     * Create a context for the Maven invocation. Maven is looked for in the working directory, the build directory,
+     * the project directory and the root project directory.
+     *
+     * @param discovery     Shared cache of Maven installation lookups
+     * @param specification Options for launching a Maven process
+     * @param project       Current Gradle project
+     * @return Locator context
+     */
+    public static MavenLocatorContext of(final MavenInstallationDiscovery discovery,
+                                         final MavenExecSpec specification, final Project project) {
+        return new MavenLocatorContext(discovery, specification.getMavenDir(), Arrays.asList(
+                Optional.ofNullable(specification.getWorkingDir()).orElseGet(project::getProjectDir),
+                project.getLayout().getBuildDirectory().getAsFile().get(),
+                project.getProjectDir(),
+                project.getRootDir()), System::getenv, System::getProperty, specification.getExecutionMode());
+    }
+
+    /**
+     * Get the shared cache of Maven installation lookups.
+     *
+     * @return Maven installation discovery
+     */
+    public MavenInstallationDiscovery getDiscovery() {
+        return discovery;
+    }
+
+    /**
+     * Get the Maven directory which is set explicitly.
+     *
+     * @return Maven directory, or {@code null} if it is not set
+     */
+    public File getMavenDir() {
+        return mavenDir;
+    }
+
+    /**
+     * Get project directories in which Maven can be found, in the order of priority. For the Maven invocation the
+     * first one is the working directory.
+     *
+     * @return Project directories
+     */
+    public List<File> getDirectories() {
+        return directories;
+    }
+
+    /**
+     * Get the value of the environment variable.
+     *
+     * @param name Variable name
+     * @return Variable value, or {@code null} if it is not set
+     */
+    public String getEnvironmentVariable(final String name) {
+        return environment.apply(name);
+    }
+
+    /**
+     * Get the value of the system property.
+     *
+     * @param name Property name
+     * @return Property value, or {@code null} if it is not set
+     */
+    public String getSystemProperty(final String name) {
+        return systemProperties.apply(name);
+    }
+
+    /**
+     * Get how Maven is launched.
+     *
+     * @return Execution mode
+     */
+    public MavenExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+}
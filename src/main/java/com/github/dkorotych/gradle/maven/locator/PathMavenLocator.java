@@ -0,0 +1,73 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.locator;
+
+import org.apache.commons.lang3.StringUtils;
+import org.gradle.internal.os.OperatingSystem;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Finds the Maven executable file in the directories of the {@code PATH} environment variable. Symbolic links are
+ * resolved, so the installation directory is found for package managers which link {@code mvn} into a shared
+ * {@code bin} directory.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+final class PathMavenLocator implements MavenLocator {
+    @Override
+    public Optional<Path> locate(final MavenLocatorContext context) {
+        final String path = context.getEnvironmentVariable("PATH");
+        if (StringUtils.isBlank(path)) {
+            return Optional.empty();
+        }
+        final List<String> names = OperatingSystem.current().isWindows()
+                ? List.of("mvn.cmd", "mvn.bat")
+                : List.of("mvn");
+        return Stream.of(path.split(File.pathSeparator))
+                .filter(StringUtils::isNotBlank)
+                .flatMap(directory -> names.stream().map(name -> resolve(directory, name)))
+                .flatMap(Optional::stream)
+                .map(Path::toFile)
+                .map(context.getDiscovery()::find)
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    @Override
+    public int getOrder() {
+        return 400;
+    }
+
+    @SuppressWarnings({"checkstyle:EmptyCatchBlock", "PMD.EmptyCatchBlock", "java:S108"})
+    private static Optional<Path> resolve(final String directory, final String name) {
+        try {
+            final Path executable = Path.of(directory.trim(), name);
+            if (Files.isRegularFile(executable)) {
+                return Optional.of(executable.toRealPath());
+            }
+        } catch (InvalidPathException | IOException ignored) {
+        }
+        return Optional.empty();
+    }
+}
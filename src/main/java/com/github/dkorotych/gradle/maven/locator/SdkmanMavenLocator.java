@@ -0,0 +1,55 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.locator;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Uses the current Maven candidate of <a href="https://sdkman.io">SDKMAN!</a>. The SDKMAN! directory is taken from the
+ * {@code SDKMAN_DIR} environment variable, or {@code ~/.sdkman} by default.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+final class SdkmanMavenLocator implements MavenLocator {
+    @Override
+    public Optional<Path> locate(final MavenLocatorContext context) {
+        final File sdkman = Optional.ofNullable(context.getEnvironmentVariable("SDKMAN_DIR"))
+                .filter(StringUtils::isNotBlank)
+                .map(File::new)
+                .or(() -> Optional.ofNullable(context.getSystemProperty("user.home"))
+                        .filter(StringUtils::isNotBlank)
+                        .map(home -> new File(home, ".sdkman")))
+                .orElse(null);
+        if (sdkman == null) {
+            return Optional.empty();
+        }
+        return context.getDiscovery()
+                .find(sdkman.toPath()
+                        .resolve("candidates")
+                        .resolve("maven")
+                        .resolve("current")
+                        .toFile());
+    }
+
+    @Override
+    public int getOrder() {
+        return 500;
+    }
+}
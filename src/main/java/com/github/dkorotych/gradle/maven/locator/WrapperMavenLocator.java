@@ -0,0 +1,43 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.locator;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Finds the Maven Wrapper, or a Maven installation, in the other project directories: the build directory, the project
+ * directory and the root project directory. It is asked after the {@code maven.home}/{@code MAVEN_HOME}/{@code M2_HOME}
+ * settings, the working directory is checked by {@link WorkingDirectoryMavenLocator}.
+ *
+ * @author Dmitry Korotych (dkorotych at gmail dot com)
+ */
+final class WrapperMavenLocator implements MavenLocator {
+    @Override
+    public Optional<Path> locate(final MavenLocatorContext context) {
+        return context.getDirectories()
+                .stream()
+                .skip(1)
+                .map(context.getDiscovery()::find)
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    @Override
+    public int getOrder() {
+        return 350;
+    }
+}
@@ -15,8 +15,10 @@
  */
 package com.github.dkorotych.gradle.maven;
 
+import com.github.dkorotych.gradle.maven.exec.MavenExecLimiter;
 import com.github.dkorotych.gradle.maven.exec.MavenExecSpec;
 import com.github.dkorotych.gradle.maven.exec.MavenExecSpecDelegate;
+import com.github.dkorotych.gradle.maven.exec.MavenRegistryService;
 import org.gradle.api.Project;
 import org.gradle.process.ExecSpec;
 import org.gradle.testfixtures.ProjectBuilder;
@@ -28,6 +30,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static com.github.dkorotych.gradle.maven.TestUtility.*;
@@ -90,4 +93,39 @@ class CommandLineCreatorTest {
         assertThat(asCommandLine(commandLine))
                 .isEqualTo(asCommandLine(expected));
     }
+
+    @Test
+    void cached() {
+        final MavenCommandLineCache cache = MavenRegistryService.of(project).getCommandLineCache();
+        final MavenExecSpecDelegate first = createSpecification("install");
+        final CommandLineCreator creator = new CommandLineCreator(first, project);
+        final int size = cache.size();
+        final CommandLineCreator second = new CommandLineCreator(createSpecification("install"), project);
+        assertThat(cache.size()).isEqualTo(size);
+        assertThat(second.getExecutable()).isEqualTo(creator.getExecutable());
+        assertThat(second.getArguments()).isEqualTo(creator.getArguments());
+        new CommandLineCreator(createSpecification("verify"), project);
+        assertThat(cache.size()).isEqualTo(size + 1);
+    }
+
+    @Test
+    void autoThreads() {
+        final MavenExecLimiter limiter = MavenExecLimiter.of(project);
+        final MavenExecSpecDelegate specification = createSpecification("verify");
+        specification.setThreads(MavenExecLimiter.AUTO_THREADS);
+        try (MavenExecLimiter.Permit ignored = limiter.start()) {
+            assertThat(new CommandLineCreator(specification, project).getArguments())
+                    .containsSequence("--threads", String.valueOf(limiter.getAutoThreads()))
+                    .doesNotContain(MavenExecLimiter.AUTO_THREADS);
+        }
+        assertThat(specification.getThreads()).isEqualTo(MavenExecLimiter.AUTO_THREADS);
+    }
+
+    private static MavenExecSpecDelegate createSpecification(String goal) {
+        final MavenExecSpecDelegate specification = new MavenExecSpecDelegate(createExecSpec(project), project);
+        specification.setOffline(true);
+        specification.setDefine(Map.of("skipTests", "true"));
+        specification.setGoals(of(goal));
+        return specification;
+    }
 }
@@ -0,0 +1,182 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.gradle.api.GradleException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MavenArgumentsSpillTest {
+    private static final List<List<String>> GROUPS = List.of(
+            List.of("-DskipTests=true"),
+            List.of("-Dmessage=\"Hello world\""),
+            List.of("--offline"),
+            List.of("--threads", "2C"));
+
+    @TempDir
+    private Path directory;
+
+    @ParameterizedTest
+    @CsvSource({
+            ", AUTO",
+            "auto, AUTO",
+            "Always, ALWAYS",
+            "never, NEVER"
+    })
+    void parseMode(String value, MavenArgumentsSpill.Mode expected) {
+        assertThat(MavenArgumentsSpill.Mode.parse(value)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "3.8.8, false",
+            "3.9.0, true",
+            "3.9.11, true",
+            "4.0.0, true"
+    })
+    void isMavenArgsSupported(String version, boolean expected) {
+        assertThat(MavenArgumentsSpill.isMavenArgsSupported(version)).isEqualTo(expected);
+    }
+
+    @Test
+    void parseUnknownMode() {
+        assertThatThrownBy(() -> MavenArgumentsSpill.Mode.parse("sometimes"))
+                .isInstanceOf(GradleException.class)
+                .hasMessage("Unsupported arguments spill mode - sometimes");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "3.9.9, NEVER",
+            "3.9.9, AUTO",
+            "3.3.9, NEVER",
+            "3.2.5, ALWAYS"
+    })
+    void keepCommandLine(String version, MavenArgumentsSpill.Mode mode) throws Exception {
+        final MavenArgumentsSpill spill = MavenArgumentsSpill.create(GROUPS, version, directory, mode);
+        assertThat(spill.getArguments())
+                .containsExactly("-DskipTests=true", "-Dmessage=\"Hello world\"", "--offline", "--threads", "2C");
+        assertThat(spill.getSpilled()).isEmpty();
+        assertThat(spill.getEnvironment(null)).isEmpty();
+        try (MavenArgumentsSpill.Overlay ignored = spill.open()) {
+            assertThat(directory).isEmptyDirectory();
+        }
+    }
+
+    @Test
+    void mavenArgs() {
+        final MavenArgumentsSpill spill = MavenArgumentsSpill.create(GROUPS, "3.9.9", directory,
+                MavenArgumentsSpill.Mode.ALWAYS);
+        assertThat(spill.getArguments()).containsExactly("-Dmessage=\"Hello world\"");
+        assertThat(spill.getSpilled()).containsExactly("-DskipTests=true", "--offline", "--threads", "2C");
+        assertThat(spill.getEnvironment(null))
+                .isEqualTo(Map.of("MAVEN_ARGS", "-DskipTests=true --offline --threads 2C"));
+        assertThat(spill.getEnvironment("-B"))
+                .isEqualTo(Map.of("MAVEN_ARGS", "-B -DskipTests=true --offline --threads 2C"));
+    }
+
+    @Test
+    void globCharacters() {
+        final List<List<String>> groups = List.of(
+                List.of("-Dtest=*IT"),
+                List.of("-Dit.test=Foo?"),
+                List.of("-Dpattern=[ab]"),
+                List.of("--offline"));
+        final MavenArgumentsSpill spill = MavenArgumentsSpill.create(groups, "3.9.9", directory,
+                MavenArgumentsSpill.Mode.ALWAYS);
+        assertThat(spill.getArguments()).containsExactly("-Dtest=*IT", "-Dit.test=Foo?", "-Dpattern=[ab]");
+        assertThat(spill.getSpilled()).containsExactly("--offline");
+    }
+
+    @Test
+    void automaticSpill() {
+        final List<List<String>> groups = List.of(
+                List.of("-Dvalue=" + "x".repeat(MavenArgumentsSpill.AUTO_THRESHOLD)),
+                List.of("--offline"));
+        final MavenArgumentsSpill spill = MavenArgumentsSpill.create(groups, "3.9.9", directory,
+                MavenArgumentsSpill.Mode.AUTO);
+        assertThat(spill.getArguments()).isEmpty();
+        assertThat(spill.getSpilled()).hasSize(2);
+    }
+
+    @Test
+    void newMavenConfig() throws Exception {
+        final Path config = directory.resolve(".mvn").resolve("maven.config");
+        Files.createDirectories(config.getParent());
+        final MavenArgumentsSpill spill = MavenArgumentsSpill.create(GROUPS, "3.6.3", directory,
+                MavenArgumentsSpill.Mode.ALWAYS);
+        assertThat(spill.getEnvironment(null)).isEmpty();
+        try (MavenArgumentsSpill.Overlay ignored = spill.open()) {
+            assertThat(Files.readAllLines(config))
+                    .containsExactly("-DskipTests=true", "--offline", "--threads", "2C");
+        }
+        assertThat(config).doesNotExist();
+        assertThat(config.getParent()).isEmptyDirectory();
+    }
+
+    @Test
+    void withoutMavenDirectory() throws Exception {
+        final MavenArgumentsSpill spill = MavenArgumentsSpill.create(GROUPS, "3.6.3", directory,
+                MavenArgumentsSpill.Mode.ALWAYS);
+        assertThat(spill.getArguments())
+                .containsExactly("-DskipTests=true", "-Dmessage=\"Hello world\"", "--offline", "--threads", "2C");
+        assertThat(spill.getSpilled()).isEmpty();
+        try (MavenArgumentsSpill.Overlay ignored = spill.open()) {
+            assertThat(directory).isEmptyDirectory();
+        }
+    }
+
+    @Test
+    void automaticSpillKeepsMavenConfig() throws Exception {
+        final Path config = directory.resolve(".mvn").resolve("maven.config");
+        Files.createDirectories(config.getParent());
+        final List<List<String>> groups = List.of(
+                List.of("-Dvalue=" + "x".repeat(MavenArgumentsSpill.AUTO_THRESHOLD)),
+                List.of("--offline"));
+        final MavenArgumentsSpill spill = MavenArgumentsSpill.create(groups, "3.8.9", directory,
+                MavenArgumentsSpill.Mode.AUTO);
+        assertThat(spill.getArguments()).hasSize(2);
+        assertThat(spill.getSpilled()).isEmpty();
+        try (MavenArgumentsSpill.Overlay ignored = spill.open()) {
+            assertThat(config).doesNotExist();
+        }
+    }
+
+    @Test
+    void existingMavenConfig() throws Exception {
+        final Path config = directory.resolve(".mvn").resolve("maven.config");
+        Files.createDirectories(config.getParent());
+        Files.writeString(config, "--batch-mode\n");
+        final Path module = Files.createDirectories(directory.resolve("module"));
+        final MavenArgumentsSpill spill = MavenArgumentsSpill.create(List.of(List.of("--offline")), "3.8.9", module,
+                MavenArgumentsSpill.Mode.ALWAYS);
+        try (MavenArgumentsSpill.Overlay ignored = spill.open()) {
+            assertThat(Files.readAllLines(config)).containsExactly("--batch-mode", "--offline");
+        }
+        assertThat(config).hasContent("--batch-mode\n");
+        assertThat(module.resolve(".mvn")).doesNotExist();
+    }
+}
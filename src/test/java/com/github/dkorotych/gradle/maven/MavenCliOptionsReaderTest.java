@@ -0,0 +1,152 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MavenCliOptionsReaderTest {
+    @TempDir
+    Path mavenHome;
+
+    @Test
+    void read() throws IOException {
+        createEmbedderLibrary(mavenHome, "3.9.9", classBytes(FakeCliManager.class));
+        assertThat(MavenCliOptionsReader.read(mavenHome))
+                .hasValueSatisfying(options -> assertThat(options)
+                        .containsExactlyInAnyOrder("--also-make", "--offline", "--no-transfer-progress", "--color")));
+    }
+
+    @Test
+    void withoutCliManager() throws IOException {
+        createEmbedderLibrary(mavenHome, "3.9.9", null);
+        assertThat(MavenCliOptionsReader.read(mavenHome)).isEmpty();
+    }
+
+    @Test
+    void unknownLayout() throws IOException {
+        assertThat(MavenCliOptionsReader.read(null)).isEmpty();
+        assertThat(MavenCliOptionsReader.read(mavenHome)).isEmpty();
+        Files.writeString(Files.createDirectories(mavenHome.resolve("lib")).resolve("maven-embedder-3.9.9.jar"),
+                "not a zip");
+        assertThat(MavenCliOptionsReader.read(mavenHome)).isEmpty();
+    }
+
+    @Test
+    void readOptions() throws IOException {
+        try (DataInputStream input = new DataInputStream(
+                new ByteArrayInputStream(classBytes(FakeCliManager.class)))) {
+            assertThat(MavenCliOptionsReader.readOptions(input))
+                    .containsExactlyInAnyOrder("--also-make", "--offline", "--no-transfer-progress", "--color")
+                    .doesNotContain("--am", "--o", "--ntp", "--q", "--quiet");
+        }
+    }
+
+    @Test
+    void notAClassFile() {
+        assertThatThrownBy(() -> MavenCliOptionsReader.readOptions(
+                new DataInputStream(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 0, 0}))))
+                .isInstanceOf(IOException.class);
+    }
+
+    static void createEmbedderLibrary(Path mavenHome, String version, byte[] cliManager) throws IOException {
+        final Path lib = Files.createDirectories(mavenHome.resolve("lib"));
+        try (OutputStream stream = Files.newOutputStream(lib.resolve("maven-embedder-" + version + ".jar"));
+             ZipOutputStream zip = new ZipOutputStream(stream)) {
+            zip.putNextEntry(new ZipEntry("org/apache/maven/cli/MavenCli.class"));
+            zip.closeEntry();
+            if (cliManager != null) {
+                zip.putNextEntry(new ZipEntry("org/apache/maven/cli/CLIManager.class"));
+                zip.write(cliManager);
+                zip.closeEntry();
+            }
+        }
+    }
+
+    static byte[] classBytes(Class<?> type) throws IOException {
+        final String name = type.getName().substring(type.getPackageName().length() + 1) + ".class";
+        try (InputStream stream = requireNonNull(type.getResourceAsStream(name))) {
+            return stream.readAllBytes();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class FakeCliManager {
+        static final String ALSO_MAKE = "am";
+        static final String QUIET = "q";
+        static final String COLOR = "color";
+        static final long TIMEOUT = 100L;
+        static final double RATIO = 0.5;
+
+        private FakeCliManager() {
+            Option.builder(ALSO_MAKE).longOpt("also-make").desc("If project list is specified").build();
+            Option.builder("o").longOpt("offline").desc("Work offline").build();
+            Option.builder(QUIET).desc("quiet").build();
+            OptionBuilder.withLongOpt("no-transfer-progress").withDescription("offline").create("ntp");
+            Option.builder(null).longOpt(COLOR).desc("Defines the color mode of the output").build();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class Option {
+        static Builder builder(String option) {
+            return new Builder();
+        }
+
+        static final class Builder {
+            Builder longOpt(String name) {
+                return this;
+            }
+
+            Builder desc(String description) {
+                return this;
+            }
+
+            Option build() {
+                return new Option();
+            }
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class OptionBuilder {
+        static OptionBuilder withLongOpt(String name) {
+            return new OptionBuilder();
+        }
+
+        OptionBuilder withDescription(String description) {
+            return this;
+        }
+
+        Option create(String option) {
+            return new Option();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import com.github.dkorotych.gradle.maven.exec.ExecOperationsInstanceHolder;
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static com.github.dkorotych.gradle.maven.MavenDescriptorProbe.MARKER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MavenCombinedProbeTest {
+    @Test
+    void parse() {
+        final String output = String.join("\n",
+                MARKER + "--version",
+                "\u001B[1mApache Maven 3.9.9 (8e8579a9e76f7d015ee5ec7bfcdc97d260186937)\u001B[m",
+                "Maven home: /opt/maven",
+                MARKER + "--help",
+                "",
+                "usage: mvn [options] [<goal(s)>] [<phase(s)>]");
+        final Map<String, String> outputs = MavenCombinedProbe.parse(output);
+        assertThat(outputs).containsOnlyKeys("--version", "--help");
+        assertThat(outputs.get("--version"))
+                .startsWith("Apache Maven 3.9.9 (8e8579a9e76f7d015ee5ec7bfcdc97d260186937)")
+                .contains("Maven home: /opt/maven")
+                .doesNotContain("usage");
+        assertThat(outputs.get("--help")).contains("usage: mvn [options] [<goal(s)>] [<phase(s)>]");
+    }
+
+    @Test
+    void parseWithoutMarkers() {
+        assertThat(MavenCombinedProbe.parse("Apache Maven 3.9.9")).isEmpty();
+    }
+
+    @Test
+    void unknownInstallation(@TempDir Path mavenHome) throws Exception {
+        TestUtility.createMavenInstallation(mavenHome);
+        final Project project = ProjectBuilder.builder().build();
+        final MavenCombinedProbe probe = new MavenCombinedProbe(mavenHome,
+                () -> ExecOperationsInstanceHolder.getExecOperations(project));
+        assertThat(probe.run("--version", "--help")).isEmpty();
+    }
+}
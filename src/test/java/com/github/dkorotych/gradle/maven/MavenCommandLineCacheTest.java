@@ -0,0 +1,65 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import com.github.dkorotych.gradle.maven.exec.MavenExecutionMode;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MavenCommandLineCacheTest {
+    private final MavenCommandLineCache cache = new MavenCommandLineCache();
+
+    @Test
+    void loadOnce() {
+        final AtomicInteger counter = new AtomicInteger();
+        final MavenCommandLineCache.Entry first = cache.get(createKey("install"), () -> createEntry(counter));
+        final MavenCommandLineCache.Entry second = cache.get(createKey("install"), () -> createEntry(counter));
+        assertThat(second).isSameAs(first);
+        assertThat(counter).hasValue(1);
+        assertThat(cache.size()).isOne();
+    }
+
+    @Test
+    void differentKeys() {
+        final AtomicInteger counter = new AtomicInteger();
+        cache.get(createKey("install"), () -> createEntry(counter));
+        cache.get(createKey("verify"), () -> createEntry(counter));
+        assertThat(counter).hasValue(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    private static MavenCommandLineCache.Key createKey(String goal) {
+        final MavenOptions options = new DefaultMavenOptions();
+        options.setOffline(true);
+        return new MavenCommandLineCache.Key(MavenOptionsSnapshot.of(options), List.of(goal), null,
+                List.of(new File("project")), MavenArgumentsSpill.Mode.AUTO, MavenExecutionMode.FORK, Map.of(),
+                null);
+    }
+
+    private static MavenCommandLineCache.Entry createEntry(AtomicInteger counter) {
+        counter.incrementAndGet();
+        return new MavenCommandLineCache.Entry(Path.of("maven"), false, "mvn", List.of("--offline"),
+                MavenArgumentsSpill.create(List.of(), "3.9.9", Path.of("project"), MavenArgumentsSpill.Mode.AUTO),
+                false);
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MavenCpuQuotaTest {
+    @TempDir
+    private Path root;
+
+    @Test
+    void available() {
+        assertThat(MavenCpuQuota.availableProcessors())
+                .isPositive()
+                .isLessThanOrEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    void unlimited() throws IOException {
+        write("cpu.max", "max 100000");
+        final List<String> groups = List.of("0::/");
+        assertThat(MavenCpuQuota.readQuota(root, groups)).isEmpty();
+        assertThat(MavenCpuQuota.availableProcessors(8, root, groups)).isEqualTo(8);
+        assertThat(MavenCpuQuota.availableProcessors(8, root, List.of())).isEqualTo(8);
+    }
+
+    @Test
+    void version2() throws IOException {
+        write("cpu.max", "max 100000");
+        write("build.slice/cpu.max", "150000 100000");
+        write("build.slice/gradle/cpu.max", "max 100000");
+        final List<String> groups = List.of("0::/build.slice/gradle");
+        assertThat(MavenCpuQuota.readQuota(root, groups)).hasValue(1.5);
+        assertThat(MavenCpuQuota.availableProcessors(8, root, groups)).isEqualTo(2);
+        assertThat(MavenCpuQuota.availableProcessors(1, root, groups)).isEqualTo(1);
+    }
+
+    @Test
+    void version1() throws IOException {
+        write("cpu,cpuacct/cpu.cfs_quota_us", "400000");
+        write("cpu,cpuacct/cpu.cfs_period_us", "100000");
+        write("cpu,cpuacct/docker/cpu.cfs_quota_us", "-1");
+        write("cpu,cpuacct/docker/cpu.cfs_period_us", "100000");
+        final List<String> groups = List.of("4:memory:/docker", "2:cpu,cpuacct:/docker");
+        assertThat(MavenCpuQuota.readQuota(root, groups)).hasValue(4);
+        assertThat(MavenCpuQuota.availableProcessors(16, root, groups)).isEqualTo(4);
+    }
+
+    @Test
+    void incorrect() throws IOException {
+        write("cpu.max", "none");
+        write("cpu/cpu.cfs_quota_us", "unknown");
+        write("cpu/cpu.cfs_period_us", "100000");
+        final List<String> groups = List.of("1:cpu:/", "0::/", "incorrect");
+        assertThat(MavenCpuQuota.readQuota(root, groups)).isEmpty();
+        assertThat(MavenCpuQuota.availableProcessors(0, root, groups)).isEqualTo(1);
+    }
+
+    private void write(String file, String content) throws IOException {
+        final Path path = root.resolve(file);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content + '\n');
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MavenDescriptorCacheTest {
+    private static final String VERSION = "3.9.9";
+    private static final Set<String> OPTIONS = Set.of("--offline", "--quiet", "--debug");
+
+    @TempDir
+    Path cacheDir;
+    @TempDir
+    Path mavenHome;
+    private MavenDescriptorCache cache;
+    private AtomicInteger counter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cache = new MavenDescriptorCache(cacheDir);
+        counter = new AtomicInteger();
+        final Path lib = Files.createDirectories(mavenHome.resolve("lib"));
+        Files.writeString(lib.resolve("maven-core-" + VERSION + ".jar"), "core");
+    }
+
+    @Test
+    void getVersion() {
+        assertThat(cache.getVersion(mavenHome, this::executable, this::version)).isEqualTo(VERSION);
+        assertThat(cache.getVersion(mavenHome, this::executable, this::version)).isEqualTo(VERSION);
+        assertThat(new MavenDescriptorCache(cacheDir).getVersion(mavenHome, this::executable, this::version))
+                .isEqualTo(VERSION);
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void getSupportedOptions() {
+        final Supplier<Set<String>> loader = () -> {
+            counter.incrementAndGet();
+            return OPTIONS;
+        };
+        assertThat(cache.getSupportedOptions(mavenHome, this::executable, loader))
+                .containsExactlyInAnyOrderElementsOf(OPTIONS);
+        assertThat(new MavenDescriptorCache(cacheDir).getSupportedOptions(mavenHome, this::executable, loader))
+                .containsExactlyInAnyOrderElementsOf(OPTIONS);
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void concurrentWriters() {
+        final MavenDescriptorCache other = new MavenDescriptorCache(cacheDir);
+        cache.getSupportedOptions(mavenHome, this::executable, () -> {
+            other.getVersion(mavenHome, this::executable, this::version);
+            return OPTIONS;
+        });
+        final MavenDescriptorCache fresh = new MavenDescriptorCache(cacheDir);
+        assertThat(fresh.getVersion(mavenHome, this::executable, this::version)).isEqualTo(VERSION);
+        assertThat(fresh.getSupportedOptions(mavenHome, this::executable, Set::of))
+                .containsExactlyInAnyOrderElementsOf(OPTIONS);
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void installationChanged() throws IOException {
+        cache.getVersion(mavenHome, this::executable, this::version);
+        Files.writeString(mavenHome.resolve("lib").resolve("maven-embedder-" + VERSION + ".jar"), "embedder");
+        cache.getVersion(mavenHome, this::executable, this::version);
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void wrapperChanged() throws IOException {
+        final Path properties = Files.createDirectories(mavenHome.resolve(".mvn").resolve("wrapper"))
+                .resolve("maven-wrapper.properties");
+        Files.writeString(properties, "distributionUrl=apache-maven-3.9.8-bin.zip");
+        cache.getVersion(mavenHome, this::executable, this::version);
+        Files.writeString(properties, "distributionUrl=apache-maven-3.9.9-bin.zip");
+        cache.getVersion(mavenHome, this::executable, this::version);
+        cache.getVersion(mavenHome, this::executable, this::version);
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void executableChanged() {
+        cache.getVersion(mavenHome, this::executable, this::version);
+        cache.getVersion(mavenHome, () -> "mvnw", this::version);
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void withoutMavenHome() {
+        cache.getVersion(null, this::executable, this::version);
+        cache.getVersion(null, this::executable, this::version);
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void withoutDirectory() {
+        final MavenDescriptorCache disabled = new MavenDescriptorCache(null);
+        disabled.getVersion(mavenHome, this::executable, this::version);
+        disabled.getVersion(mavenHome, this::executable, this::version);
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void nullValuesAreNotCached() {
+        cache.getVersion(mavenHome, this::executable, () -> {
+            counter.incrementAndGet();
+            return null;
+        });
+        assertThat(cache.getVersion(mavenHome, this::executable, this::version)).isEqualTo(VERSION);
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void ofProject() {
+        final Project project = ProjectBuilder.builder().build();
+        final MavenDescriptorCache projectCache = MavenDescriptorCache.of(project);
+        projectCache.getVersion(mavenHome, this::executable, this::version);
+        projectCache.getVersion(mavenHome, this::executable, this::version);
+        assertThat(counter).hasValue(1);
+        assertThat(project.getGradle().getGradleUserHomeDir().toPath()
+                .resolve("caches")
+                .resolve("gradle-maven-exec")
+                .resolve("descriptors"))
+                .isNotEmptyDirectory();
+    }
+
+    private String executable() {
+        return mavenHome.resolve("bin").resolve("mvn").toString();
+    }
+
+    private String version() {
+        counter.incrementAndGet();
+        return VERSION;
+    }
+}
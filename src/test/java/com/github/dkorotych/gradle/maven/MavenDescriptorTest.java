@@ -15,11 +15,15 @@
  */
 package com.github.dkorotych.gradle.maven;
 
+import com.github.dkorotych.gradle.maven.exec.ExecOperationsInstanceHolder;
 import org.apache.commons.lang3.SystemUtils;
+import org.gradle.api.GradleException;
 import org.gradle.api.Project;
 import org.gradle.internal.impldep.org.apache.commons.io.FileUtils;
+import org.gradle.process.ExecOperations;
 import org.gradle.testfixtures.ProjectBuilder;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -41,6 +45,7 @@ import java.util.stream.Stream;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @SuppressWarnings("OverloadMethodsDeclarationOrder")
@@ -135,13 +140,24 @@ class MavenDescriptorTest {
                 .isNotBlank()
                 .isEqualTo(version);
         verify(descriptor).getVersion();
-        verify(descriptor).execute(anyString());
+        verify(descriptor).execute(anyString(), any());
         descriptor.getVersion();
         verify(descriptor, times(2)).getVersion();
-        verify(descriptor).execute(anyString());
+        verify(descriptor).execute(anyString(), any());
         verifyNoMoreInteractions(descriptor);
     }
 
+    @Test
+    void getDaemonVersion() {
+        final MavenDescriptor descriptor = createMavenDescriptor("--version", """
+                Apache Maven Daemon (mvnd) 1.0.2 linux-amd64 native client (22e8a9ab83f3c0ef1b9d8c2b3ef7e35e8d5bc3a3)
+                Terminal: org.jline.terminal.impl.PosixSysTerminal with pty LinuxNativePty
+                Apache Maven 3.9.9 (8e8579a9e76f7d015ee5ec7bfcdc97d260186937)
+                Maven home: /opt/mvnd/mvn
+                """);
+        assertThat(descriptor.getVersion()).isEqualTo("3.9.9");
+    }
+
     @ParameterizedTest(name = "getSupportedOptions({0})")
     @MethodSource
     void getSupportedOptions(String version, String text, Collection<String> options) {
@@ -151,13 +167,34 @@ class MavenDescriptorTest {
                 .doesNotHaveDuplicates()
                 .containsAll(options);
         verify(descriptor).getSupportedOptions();
-        verify(descriptor).execute(anyString());
+        verify(descriptor).execute(anyString(), any());
         descriptor.getSupportedOptions();
         verify(descriptor, times(2)).getSupportedOptions();
-        verify(descriptor).execute(anyString());
+        verify(descriptor).execute(anyString(), any());
         verifyNoMoreInteractions(descriptor);
     }
 
+    @Test
+    void getVersionWithoutLaunch(@TempDir Path mavenHome) throws Exception {
+        MavenVersionResolverTest.createCoreLibrary(mavenHome, "3.9.9", "3.9.9");
+        final MavenDescriptor descriptor = mock(MavenDescriptor.class, withSettings()
+                .useConstructor(mavenHome, null, null)
+                .defaultAnswer(Answers.CALLS_REAL_METHODS));
+        assertThat(descriptor.getVersion()).isEqualTo("3.9.9");
+        verify(descriptor, never()).execute(anyString(), any());
+    }
+
+    @Test
+    void getSupportedOptionsWithoutLaunch(@TempDir Path mavenHome) throws Exception {
+        MavenVersionResolverTest.createCoreLibrary(mavenHome, "3.9.9", "3.9.9");
+        final MavenDescriptor descriptor = mock(MavenDescriptor.class, withSettings()
+                .useConstructor(mavenHome, null, null)
+                .defaultAnswer(Answers.CALLS_REAL_METHODS));
+        assertThat(descriptor.getSupportedOptions())
+                .contains("--offline", "--quiet", "--color", "--no-transfer-progress");
+        verify(descriptor, never()).execute(anyString(), any());
+    }
+
     @Test
     void execute() throws Exception {
         validate(project -> new MavenDescriptor(project.getProjectDir().toPath(), project.getProjectDir(), project));
@@ -187,12 +224,28 @@ class MavenDescriptorTest {
                 .contains("--color", "--version", "--offline", "--quiet");
     }
 
+    @Test
+    void shared() throws Exception {
+        final Project project = ProjectBuilder.builder().build();
+        final File projectDir = project.getProjectDir();
+        TestUtility.prepareProject(true, projectDir);
+        final MavenDescriptor descriptor = new MavenDescriptor(projectDir.toPath(),
+                new MavenDescriptorCache(null));
+        assertThatThrownBy(descriptor::getVersion)
+                .isInstanceOf(GradleException.class)
+                .hasMessageContaining("is shared");
+        final ExecOperations execOperations = ExecOperationsInstanceHolder.getExecOperations(project);
+        assertThat(descriptor.getVersion(execOperations, projectDir)).isEqualTo("3.9.9");
+        assertThat(descriptor.getSupportedOptions(execOperations, projectDir))
+                .contains("--offline", "--quiet");
+    }
+
     private MavenDescriptor createMavenDescriptor(String options, String text) {
         final MavenDescriptor descriptor = mock(MavenDescriptor.class, withSettings()
                 .useConstructor(null, null, null)
                 .defaultAnswer(Answers.CALLS_REAL_METHODS));
         final ByteArrayInputStream response = new ByteArrayInputStream(text.getBytes());
-        doReturn(response).when(descriptor).execute(options);
+        doReturn(response).when(descriptor).execute(eq(options), any());
         return descriptor;
     }
 
@@ -0,0 +1,117 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.gradle.api.GradleException;
+import org.gradle.internal.os.OperatingSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MavenDirectLaunchTest {
+    private static final String JAVA_HOME = System.getProperty("java.home");
+
+    @TempDir
+    private Path directory;
+    private Path mavenHome;
+    private Path classworlds;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mavenHome = TestUtility.createMavenInstallation(directory.resolve("maven"));
+        Files.writeString(mavenHome.resolve("bin").resolve("m2.conf"), "main is Main from plexus.core");
+        classworlds = Files.createFile(Files.createDirectories(mavenHome.resolve("boot"))
+                .resolve("plexus-classworlds-2.9.0.jar"));
+    }
+
+    @Test
+    void launch() throws Exception {
+        final Path project = Files.createDirectories(directory.resolve("project"));
+        Files.writeString(Files.createDirectories(project.resolve(".mvn")).resolve("jvm.config"),
+                "-Xss4m\n-Dconfig=true\r\n");
+        final MavenDirectLaunch launch = MavenDirectLaunch.create(mavenHome,
+                Files.createDirectories(project.resolve("module")),
+                Map.of("JAVA_HOME", JAVA_HOME, "MAVEN_OPTS", " -Xmx1g  -Dopts=true", "MAVEN_DEBUG_OPTS", "-ea"));
+        assertThat(launch.getExecutable())
+                .isEqualTo(Path.of(JAVA_HOME, "bin", OperatingSystem.current().getExecutableName("java")).toString());
+        assertThat(launch.getArguments()).containsExactly(
+                "--enable-native-access=ALL-UNNAMED",
+                "-Xss4m", "-Dconfig=true",
+                "-Xmx1g", "-Dopts=true",
+                "-ea",
+                "-classpath", classworlds.toString(),
+                "-Dclassworlds.conf=" + mavenHome.resolve("bin").resolve("m2.conf"),
+                "-Dmaven.home=" + mavenHome,
+                "-Dlibrary.jansi.path=" + mavenHome.resolve("lib").resolve("jansi-native"),
+                "-Dmaven.multiModuleProjectDirectory=" + project,
+                "org.codehaus.plexus.classworlds.launcher.Launcher");
+    }
+
+    @Test
+    void baseDirectoryFromEnvironment() {
+        final Path baseDirectory = directory.resolve("base");
+        final MavenDirectLaunch launch = MavenDirectLaunch.create(mavenHome, directory,
+                Map.of("JAVA_HOME", JAVA_HOME, "MAVEN_BASEDIR", baseDirectory.toString()));
+        assertThat(launch.getArguments()).contains("-Dmaven.multiModuleProjectDirectory=" + baseDirectory);
+    }
+
+    @Test
+    void javaFromPath() {
+        final MavenDirectLaunch launch = MavenDirectLaunch.create(mavenHome, directory,
+                Map.of("PATH", directory + File.pathSeparator + Path.of(JAVA_HOME, "bin")));
+        assertThat(launch.getExecutable())
+                .isEqualTo(Path.of(JAVA_HOME, "bin", OperatingSystem.current().getExecutableName("java")).toString());
+    }
+
+    @Test
+    void incorrectJavaHome() {
+        assertThatThrownBy(() -> MavenDirectLaunch.create(mavenHome, directory,
+                Map.of("JAVA_HOME", directory.toString())))
+                .isInstanceOf(GradleException.class)
+                .hasMessageStartingWith("The JAVA_HOME environment variable is not defined correctly");
+    }
+
+    @Test
+    void notMavenInstallation() {
+        assertThatThrownBy(() -> MavenDirectLaunch.create(directory, directory, Map.of()))
+                .isInstanceOf(GradleException.class)
+                .hasMessage("Directory " + directory + " is not a Maven installation");
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "''|",
+            "'  '|",
+            "-Xmx1g|-Xmx1g",
+            "' -Xmx1g \t -Da=b '|-Xmx1g,-Da=b"
+    }, delimiter = '|')
+    void split(String value, String expected) {
+        final List<String> arguments = expected == null ? List.of() : Arrays.asList(expected.split(","));
+        assertThat(MavenDirectLaunch.split(value)).isEqualTo(arguments);
+    }
+}
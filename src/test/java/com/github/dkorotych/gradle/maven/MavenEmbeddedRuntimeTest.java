@@ -0,0 +1,94 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.gradle.api.GradleException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MavenEmbeddedRuntimeTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    void notMavenInstallation() throws Exception {
+        Files.createDirectories(directory.resolve("lib"));
+        Files.createFile(directory.resolve("lib").resolve("commons-lang3.jar"));
+        try (MavenEmbeddedRuntime runtime = new MavenEmbeddedRuntime()) {
+            final PrintStream stream = new PrintStream(new ByteArrayOutputStream());
+            assertThatThrownBy(() -> runtime.execute(directory, List.of("--version"), directory.toFile(), stream,
+                    stream))
+                    .isInstanceOf(GradleException.class)
+                    .hasMessage("Directory " + directory + " is not a Maven installation");
+        }
+    }
+
+    @Test
+    void definedProperties() throws Exception {
+        Files.createDirectories(directory.resolve(".mvn"));
+        Files.writeString(directory.resolve(".mvn").resolve("maven.config"), "-Dconfig=true\n--batch-mode\n");
+        assertThat(MavenEmbeddedRuntime.getDefinedProperties(List.of("-Dfirst=1", "-DskipTests", "-D", "second=2",
+                "--define", "third", "--define=fourth=4", "--offline", "verify"), directory))
+                .containsExactlyInAnyOrder("config", "first", "skipTests", "second", "third", "fourth");
+    }
+
+    @Test
+    void restoreProperties() {
+        final Properties snapshot = (Properties) System.getProperties().clone();
+        try {
+            System.setProperty("embedded.defined", "maven");
+            System.setProperty("maven.embedded.test", "maven");
+            System.setProperty("embedded.other", "gradle");
+            MavenEmbeddedRuntime.restoreProperties(snapshot, Set.of("embedded.defined"));
+            assertThat(System.getProperty("embedded.defined")).isNull();
+            assertThat(System.getProperty("maven.embedded.test")).isNull();
+            assertThat(System.getProperty("embedded.other")).isEqualTo("gradle");
+        } finally {
+            System.clearProperty("embedded.other");
+        }
+    }
+
+    @Test
+    void withoutMavenCli() throws Exception {
+        Files.createDirectories(directory.resolve("lib"));
+        Files.createFile(directory.resolve("lib").resolve("maven-embedder-3.9.9.jar"));
+        final String mavenHome = System.getProperty("maven.home");
+        final Properties properties = (Properties) System.getProperties().clone();
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try (MavenEmbeddedRuntime runtime = new MavenEmbeddedRuntime()) {
+            final PrintStream stream = new PrintStream(new ByteArrayOutputStream());
+            assertThatThrownBy(() -> runtime.execute(directory, List.of("--version"), directory.toFile(), stream,
+                    stream))
+                    .isInstanceOf(GradleException.class)
+                    .hasMessage("Can't launch embedded Maven from " + directory)
+                    .hasCauseInstanceOf(ClassNotFoundException.class);
+        }
+        assertThat(System.getProperty("maven.home")).isEqualTo(mavenHome);
+        assertThat(System.getProperties()).isEqualTo(properties);
+        assertThat(Thread.currentThread().getContextClassLoader()).isSameAs(classLoader);
+    }
+}
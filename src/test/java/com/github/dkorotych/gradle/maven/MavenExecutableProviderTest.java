@@ -17,6 +17,7 @@ package com.github.dkorotych.gradle.maven;
 
 import org.gradle.internal.os.OperatingSystem;
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -70,4 +71,39 @@ class MavenExecutableProviderTest {
         final MavenExecutableProvider provider = new MavenExecutableProvider(directory);
         assertThat(provider.getExecutable()).isEqualTo(expected);
     }
+
+    @ParameterizedTest(name = DEFAULT_DISPLAY_NAME)
+    @MethodSource("operatingSystems")
+    void getExecutableFromWrapperDistribution(OperatingSystem operatingSystem, @TempDir Path projectDir,
+                                              @TempDir Path userHome) throws Exception {
+        setOperatingSystem(operatingSystem);
+        TestUtility.prepareProject(true, projectDir.toFile());
+        final Path distribution = createMavenInstallation(userHome.resolve("wrapper")
+                .resolve("dists")
+                .resolve("apache-maven-3.9.9")
+                .resolve("3477a4f1"));
+        final MavenExecutableProvider provider = new MavenExecutableProvider(projectDir,
+                new MavenWrapperDistributionResolver(userHome, null));
+        assertThat(provider.getInstallation()).contains(distribution);
+        assertThat(provider.getExecutable())
+                .isEqualTo(String.join(" ", commandLine(distribution.toFile(), operatingSystem, false, false)));
+    }
+
+    @ParameterizedTest(name = DEFAULT_DISPLAY_NAME)
+    @MethodSource("operatingSystems")
+    void getDaemonExecutable(OperatingSystem operatingSystem, @TempDir Path mavenHome) throws Exception {
+        setOperatingSystem(operatingSystem);
+        createDaemonInstallation(mavenHome);
+        final MavenExecutableProvider provider = new MavenExecutableProvider(mavenHome);
+        final String expected = operatingSystem.isWindows() ? "mvnd.cmd" : "mvnd";
+        assertThat(provider.isDaemon()).isTrue();
+        assertThat(provider.getExecutable())
+                .isEqualTo(mavenHome.resolve("bin").resolve(expected).toAbsolutePath().toString());
+        assertThat(new MavenExecutableProvider(createMavenInstallation(mavenHome.resolve("mvn"))).isDaemon())
+                .isFalse();
+    }
+
+    static List<OperatingSystem> operatingSystems() {
+        return TestUtility.operatingSystems();
+    }
 }
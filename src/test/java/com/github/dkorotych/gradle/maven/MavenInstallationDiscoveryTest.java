@@ -0,0 +1,86 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MavenInstallationDiscoveryTest {
+    @TempDir
+    Path directory;
+    private AtomicInteger counter;
+    private MavenInstallationDiscovery discovery;
+
+    @BeforeEach
+    void setUp() {
+        counter = new AtomicInteger();
+        final MavenInstallationDiscovery delegate = new MavenInstallationDiscovery();
+        discovery = new MavenInstallationDiscovery(path -> {
+            counter.incrementAndGet();
+            return delegate.find(path.toFile()).orElse(null);
+        });
+    }
+
+    @Test
+    void found() throws Exception {
+        TestUtility.prepareProject(true, directory.toFile());
+        for (int i = 0; i < 3; i++) {
+            assertThat(discovery.find(directory.toFile())).contains(directory.toAbsolutePath());
+        }
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void notFound() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(discovery.find(directory.toFile())).isEmpty();
+        }
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void directoryChanged() throws Exception {
+        assertThat(discovery.find(directory.toFile())).isEmpty();
+        TestUtility.prepareProject(true, directory.toFile());
+        Files.setLastModifiedTime(directory, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        assertThat(discovery.find(directory.toFile())).contains(directory.toAbsolutePath());
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void nested() throws Exception {
+        final Path project = directory.resolve("project");
+        TestUtility.prepareProject(true, project.toFile());
+        assertThat(new MavenInstallationDiscovery().find(directory.toFile())).contains(project.toAbsolutePath());
+    }
+
+    @Test
+    void notExists() throws IOException {
+        final Path path = directory.resolve("maven");
+        assertThat(discovery.find(path.toFile())).isEmpty();
+        assertThat(discovery.find(null)).isEmpty();
+        assertThat(counter).hasValue(1);
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.gradle.api.GradleException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MavenLocalRepositoryTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    void fromDefine() {
+        final MavenOptions options = createOptions();
+        options.setDefine(Map.of("maven.repo.local", directory.resolve("define").toString()));
+        assertThat(MavenLocalRepository.find(options, Map.of("MAVEN_OPTS", "-Dmaven.repo.local=other"), null))
+                .isEqualTo(directory.resolve("define"));
+    }
+
+    @Test
+    void fromMavenOpts() {
+        assertThat(MavenLocalRepository.find(createOptions(),
+                Map.of("MAVEN_OPTS", "-Xmx1g -Dmaven.repo.local=\"" + directory.resolve("opts") + "\" -ea"), null))
+                .isEqualTo(directory.resolve("opts"));
+    }
+
+    @Test
+    void relativeToWorkingDirectory() throws Exception {
+        final MavenOptions options = createOptions();
+        options.setDefine(Map.of("maven.repo.local", ".m2/repository"));
+        assertThat(MavenLocalRepository.find(options, Map.of(), directory.resolve("first").toFile()))
+                .isEqualTo(directory.resolve("first").resolve(".m2").resolve("repository"));
+        options.setDefine(null);
+        writeSettings("settings.xml", "repository");
+        options.setSettings(new File("settings.xml"));
+        assertThat(MavenLocalRepository.find(options, Map.of(), directory.toFile()))
+                .isEqualTo(directory.resolve("repository"));
+    }
+
+    @Test
+    void fromSettings() throws Exception {
+        final MavenOptions options = createOptions();
+        options.setSettings(writeSettings("settings.xml", "${env.REPOSITORY_HOME}/settings"));
+        assertThat(MavenLocalRepository.find(options, Map.of("REPOSITORY_HOME", directory.toString()), null))
+                .isEqualTo(directory.resolve("settings"));
+    }
+
+    @Test
+    void fromGlobalSettings() throws Exception {
+        final MavenOptions options = createOptions();
+        options.setGlobalSettings(writeSettings("global.xml", "${user.home}/global"));
+        assertThat(MavenLocalRepository.find(options, Map.of(), null))
+                .isEqualTo(Path.of(System.getProperty("user.home"), "global"));
+    }
+
+    @Test
+    void defaultRepository() throws Exception {
+        final MavenOptions options = createOptions();
+        options.setSettings(Files.writeString(directory.resolve("settings.xml"), "<settings/>").toFile());
+        assertThat(MavenLocalRepository.find(options, Map.of(), null))
+                .isEqualTo(Path.of(System.getProperty("user.home"), ".m2", "repository"));
+    }
+
+    @Test
+    void incorrectSettings() throws Exception {
+        final Path file = Files.writeString(directory.resolve("settings.xml"), "<settings>");
+        assertThatThrownBy(() -> MavenLocalRepository.readSettings(file))
+                .isInstanceOf(GradleException.class)
+                .hasMessage("Can't read Maven settings " + file);
+    }
+
+    @Test
+    void nestedElementIsIgnored() throws Exception {
+        final Path file = Files.writeString(directory.resolve("settings.xml"), """
+                <settings>
+                    <profiles>
+                        <profile>
+                            <localRepository>nested</localRepository>
+                        </profile>
+                    </profiles>
+                </settings>
+                """);
+        assertThat(MavenLocalRepository.readSettings(file)).isEmpty();
+    }
+
+    private File writeSettings(final String name, final String localRepository) throws Exception {
+        return Files.writeString(directory.resolve(name), """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <settings xmlns="http://maven.apache.org/SETTINGS/1.0.0">
+                    <localRepository>%s</localRepository>
+                </settings>
+                """.formatted(localRepository)).toFile();
+    }
+
+    private MavenOptions createOptions() {
+        final MavenOptions options = new DefaultMavenOptions();
+        options.setSettings(directory.resolve("missing.xml").toFile());
+        return options;
+    }
+}
@@ -0,0 +1,226 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.gradle.api.GradleException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+class MavenModuleGraphTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    void read() throws Exception {
+        final MavenModuleGraph graph = MavenModuleGraph.read(TestUtility.createReactor(directory));
+        assertThat(graph.getDirectory()).isEqualTo(directory.toAbsolutePath().normalize());
+        assertThat(graph.getModules())
+                .extracting(MavenModuleGraph.Module::id)
+                .containsExactly("org.example:root", "org.example:api", "org.example:core", "org.example:app");
+        assertThat(graph.findModule("org.example:root")).hasValueSatisfying(module -> {
+            assertThat(module.isRoot()).isTrue();
+            assertThat(module.packaging()).isEqualTo("pom");
+            assertThat(module.dependencies()).isEmpty();
+            assertThat(module.parent()).isNull();
+        });
+        assertThat(graph.findModule("org.example:core")).hasValueSatisfying(module -> {
+            assertThat(module.isRoot()).isFalse();
+            assertThat(module.path()).isEqualTo("core");
+            assertThat(module.packaging()).isEqualTo("jar");
+            assertThat(module.directory()).isEqualTo(graph.getDirectory().resolve("core"));
+            assertThat(module.dependencies()).isEqualTo(Set.of("org.example:root", "org.example:api"));
+            assertThat(module.parent()).isEqualTo("org.example:root");
+        });
+        assertThat(graph.findModule("org.slf4j:slf4j-api")).isEmpty();
+    }
+
+    @Test
+    void properties() throws Exception {
+        TestUtility.writePom(directory, """
+                <groupId>${base}.group</groupId>
+                <artifactId>root</artifactId>
+                <version>1.0</version>
+                <properties>
+                    <base>org.example</base>
+                </properties>
+                <modules>
+                    <module>nested/one/pom.xml</module>
+                    <module>two</module>
+                </modules>""");
+        TestUtility.writePom(directory.resolve("nested/one"), """
+                <parent>
+                    <groupId>org.example.group</groupId>
+                    <artifactId>root</artifactId>
+                    <version>1.0</version>
+                    <relativePath>../..</relativePath>
+                </parent>
+                <artifactId>one</artifactId>
+                <dependencies>
+                    <dependency>
+                        <groupId>${base}.group</groupId>
+                        <artifactId>two</artifactId>
+                    </dependency>
+                </dependencies>""");
+        TestUtility.writePom(directory.resolve("two"), """
+                <groupId>org.example.group</groupId>
+                <artifactId>two</artifactId>
+                <version>1.0</version>""");
+        final MavenModuleGraph graph = MavenModuleGraph.read(directory);
+        assertThat(graph.getModules())
+                .extracting(MavenModuleGraph.Module::id)
+                .containsExactly("org.example.group:root", "org.example.group:two", "org.example.group:one");
+        assertThat(graph.findModule("org.example.group:one"))
+                .map(MavenModuleGraph.Module::path)
+                .hasValue("nested/one");
+    }
+
+    @Test
+    void profiles() throws Exception {
+        TestUtility.writePom(directory, """
+                <groupId>org.example</groupId>
+                <artifactId>root</artifactId>
+                <version>1.0</version>
+                <modules>
+                    <module>one</module>
+                </modules>
+                <profiles>
+                    <profile>
+                        <id>all</id>
+                        <modules>
+                            <module>two</module>
+                        </modules>
+                    </profile>
+                    <profile>
+                        <id>linked</id>
+                        <dependencies>
+                            <dependency>
+                                <artifactId>two</artifactId>
+                            </dependency>
+                        </dependencies>
+                    </profile>
+                </profiles>""");
+        writeModule("one", "root");
+        TestUtility.writePom(directory.resolve("two"), """
+                <groupId>org.example</groupId>
+                <artifactId>two</artifactId>
+                <version>1.0</version>""");
+        assertThat(MavenModuleGraph.read(directory).getModules())
+                .extracting(MavenModuleGraph.Module::id)
+                .containsExactly("org.example:root", "org.example:one");
+        assertThat(MavenModuleGraph.read(directory, List.of("all,-linked")).getModules())
+                .extracting(MavenModuleGraph.Module::id)
+                .containsExactly("org.example:root", "org.example:one", "org.example:two");
+        assertThat(MavenModuleGraph.read(directory, List.of("all", "linked")).getModules())
+                .extracting(MavenModuleGraph.Module::id)
+                .containsExactly("org.example:two", "org.example:root", "org.example:one");
+    }
+
+    @Test
+    void largeReactor() throws Exception {
+        final int size = 500;
+        final StringBuilder modules = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            modules.append("<module>module").append(i).append("</module>");
+            TestUtility.writePom(directory.resolve("module" + i), """
+                    <parent>
+                        <groupId>org.example</groupId>
+                        <artifactId>root</artifactId>
+                        <version>1.0</version>
+                    </parent>
+                    <artifactId>module%d</artifactId>
+                    <dependencies>
+                        <dependency>
+                            <groupId>${project.groupId}</groupId>
+                            <artifactId>module%d</artifactId>
+                            <version>${project.version}</version>
+                        </dependency>
+                    </dependencies>""".formatted(i, (i + 1) % size == 0 ? size : i + 1));
+        }
+        TestUtility.writePom(directory, """
+                <groupId>org.example</groupId>
+                <artifactId>root</artifactId>
+                <version>1.0</version>
+                <modules>%s</modules>""".formatted(modules));
+        final List<MavenModuleGraph.Module> graph = assertTimeout(Duration.ofSeconds(1),
+                () -> MavenModuleGraph.read(directory).getModules());
+        assertThat(graph).hasSize(size + 1);
+        assertThat(graph.get(1).id()).isEqualTo("org.example:module" + (size - 1));
+        assertThat(graph.get(size).id()).isEqualTo("org.example:module0");
+    }
+
+    @Test
+    void cycle() throws Exception {
+        TestUtility.writePom(directory, """
+                <groupId>org.example</groupId>
+                <artifactId>root</artifactId>
+                <version>1.0</version>
+                <modules>
+                    <module>one</module>
+                    <module>two</module>
+                </modules>""");
+        writeModule("one", "two");
+        writeModule("two", "one");
+        assertThatThrownBy(() -> MavenModuleGraph.read(directory))
+                .isInstanceOf(GradleException.class)
+                .hasMessage("Maven modules have a cycle of dependencies: [org.example:one, org.example:two]");
+    }
+
+    @Test
+    void missingModule() throws Exception {
+        TestUtility.writePom(directory, """
+                <groupId>org.example</groupId>
+                <artifactId>root</artifactId>
+                <version>1.0</version>
+                <modules>
+                    <module>missing</module>
+                </modules>""");
+        assertThatThrownBy(() -> MavenModuleGraph.read(directory))
+                .isInstanceOf(GradleException.class)
+                .hasMessageStartingWith("Maven project ")
+                .hasMessageEndingWith(" does not exist");
+    }
+
+    @Test
+    void notProject() throws Exception {
+        Files.writeString(directory.resolve("pom.xml"), "<settings/>");
+        assertThatThrownBy(() -> MavenModuleGraph.read(directory))
+                .isInstanceOf(GradleException.class)
+                .hasMessageEndingWith(" is not a Maven project");
+    }
+
+    private void writeModule(final String name, final String dependency) throws Exception {
+        TestUtility.writePom(directory.resolve(name), """
+                <groupId>org.example</groupId>
+                <artifactId>%s</artifactId>
+                <version>1.0</version>
+                <dependencies>
+                    <dependency>
+                        <groupId>org.example</groupId>
+                        <artifactId>%s</artifactId>
+                    </dependency>
+                </dependencies>""".formatted(name, dependency));
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MavenOptionsCatalogTest {
+
+    public static List<File> getSupportedOptions() throws Exception {
+        final URL resource = MavenOptionsCatalogTest.class.getResource("/fixtures/descriptor");
+        try (Stream<Path> paths = Files.list(Path.of(requireNonNull(resource).toURI()))) {
+            return paths.map(Path::toFile)
+                    .filter(File::isDirectory)
+                    .toList();
+        }
+    }
+
+    @ParameterizedTest(name = "getSupportedOptions({0})")
+    @MethodSource
+    void getSupportedOptions(File directory) throws Exception {
+        final List<String> expected;
+        try (Stream<String> lines = Files.lines(directory.toPath().resolve("options.txt"), UTF_8)) {
+            expected = lines.filter(line -> !line.isBlank())
+                    .toList();
+        }
+        assertThat(MavenOptionsCatalog.getSupportedOptions(directory.getName()))
+                .hasValueSatisfying(options -> assertThat(options).containsExactlyInAnyOrderElementsOf(expected));
+    }
+
+    @Test
+    void getVersions() throws Exception {
+        assertThat(MavenOptionsCatalog.getVersions())
+                .containsExactlyInAnyOrderElementsOf(getSupportedOptions().stream()
+                        .map(File::getName)
+                        .toList());
+    }
+
+    @Test
+    void unknownVersion() {
+        assertThat(MavenOptionsCatalog.getSupportedOptions(null)).isEmpty();
+        assertThat(MavenOptionsCatalog.getSupportedOptions("2.2.1")).isEmpty();
+        assertThat(MavenOptionsCatalog.getSupportedOptions("")).isEmpty();
+    }
+}
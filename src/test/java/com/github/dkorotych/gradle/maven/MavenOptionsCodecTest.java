@@ -0,0 +1,83 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.beans.PropertyDescriptor;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.github.dkorotych.gradle.maven.MavenOptionsToCommandLineAdapterTest.createOptionName;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MavenOptionsCodecTest {
+    private final MavenOptionsCodec codec = MavenOptionsCodec.getInstance();
+
+    @ParameterizedTest
+    @CsvSource({
+            "offline, --offline",
+            "alsoMake, --also-make",
+            "alsoMakeDependents, --also-make-dependents",
+            "noTransferProgress, --no-transfer-progress"
+    })
+    void toOption(String property, String expected) {
+        assertThat(MavenOptionsCodec.toOption(property)).isEqualTo(expected);
+    }
+
+    @Test
+    void cached() {
+        assertThat(MavenOptionsCodec.getInstance()).isSameAs(codec);
+    }
+
+    @Test
+    void properties() throws Exception {
+        final List<String> expected = TestUtility.getPropertyDescriptors(DefaultMavenOptions.class)
+                .filter(descriptor -> descriptor.getReadMethod() != null)
+                .map(PropertyDescriptor::getName)
+                .sorted()
+                .toList();
+        assertThat(codec.getProperties())
+                .extracting(MavenOptionsCodec.Property::name)
+                .containsExactlyElementsOf(expected);
+        assertThat(TestUtility.getPropertyDescriptors(DefaultMavenOptions.class))
+                .allSatisfy(descriptor -> assertThat(codec.getProperties())
+                        .extracting(MavenOptionsCodec.Property::option)
+                        .contains(createOptionName(descriptor)));
+    }
+
+    @Test
+    void select() {
+        assertThat(codec.select(null)).isSameAs(codec.getProperties());
+        assertThat(codec.select(Set.of("--quiet", "--offline", "--unknown")))
+                .extracting(MavenOptionsCodec.Property::option)
+                .containsExactly("--offline", "--quiet");
+    }
+
+    @Test
+    void encode() {
+        final MavenOptions options = new DefaultMavenOptions();
+        options.setOffline(true);
+        options.setThreads("2C");
+        options.setProjects(new String[]{"core", null, "api"});
+        options.setDefine(Map.of("skipTests", "true"));
+        assertThat(MavenOptionsCodec.encode(options, codec.getProperties()))
+                .containsExactly("-DskipTests=true", "--offline", "--projects", "core,api", "--threads", "2C");
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MavenOptionsSnapshotTest {
+
+    @Test
+    void equalOptions() {
+        final MavenOptionsSnapshot snapshot = MavenOptionsSnapshot.of(createOptions());
+        assertThat(MavenOptionsSnapshot.of(createOptions()))
+                .isEqualTo(snapshot)
+                .hasSameHashCodeAs(snapshot)
+                .hasToString(snapshot.toString());
+    }
+
+    @Test
+    void differentOptions() {
+        final MavenOptions options = createOptions();
+        final MavenOptionsSnapshot snapshot = MavenOptionsSnapshot.of(options);
+        options.setProjects(new String[]{"core"});
+        assertThat(MavenOptionsSnapshot.of(options)).isNotEqualTo(snapshot);
+        options.setProjects(new String[]{"core", "api"});
+        options.setOffline(false);
+        assertThat(MavenOptionsSnapshot.of(options)).isNotEqualTo(snapshot);
+    }
+
+    @Test
+    void copyOfMutableValues() {
+        final MavenOptions options = createOptions();
+        final Map<String, String> define = new HashMap<>(options.getDefine());
+        options.setDefine(define);
+        final MavenOptionsSnapshot snapshot = MavenOptionsSnapshot.of(options);
+        define.put("skipTests", "false");
+        assertThat(MavenOptionsSnapshot.of(createOptions())).isEqualTo(snapshot);
+    }
+
+    @Test
+    void nullOptions() {
+        assertThatThrownBy(() -> MavenOptionsSnapshot.of(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Maven options should be not null");
+    }
+
+    private static MavenOptions createOptions() {
+        final MavenOptions options = new DefaultMavenOptions();
+        options.setOffline(true);
+        options.setThreads("2C");
+        options.setFile(new File("pom.xml"));
+        options.setProjects(new String[]{"core", "api"});
+        options.setDefine(Map.of("skipTests", "true"));
+        return options;
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MavenPomCacheTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    void cached() throws Exception {
+        final MavenPomCache cache = new MavenPomCache();
+        final Path file = TestUtility.writePom(directory, "<artifactId>first</artifactId>");
+        final MavenPom first = cache.read(file);
+        assertThat(cache.read(file)).isSameAs(first);
+        assertThat(new MavenPomCache().read(file)).isNotSameAs(first);
+        TestUtility.writePom(directory, "<artifactId>second</artifactId>");
+        assertThat(cache.read(file).artifactId()).isEqualTo("second");
+    }
+}
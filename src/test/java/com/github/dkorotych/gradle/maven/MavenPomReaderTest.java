@@ -0,0 +1,180 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.gradle.api.GradleException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MavenPomReaderTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    void read() throws Exception {
+        final Path file = TestUtility.writePom(directory, """
+                <parent>
+                    <groupId>org.example</groupId>
+                    <artifactId>parent</artifactId>
+                    <version>1.0</version>
+                </parent>
+                <artifactId>core</artifactId>
+                <packaging>bundle</packaging>
+                <properties>
+                    <api.version>2.0</api.version>
+                </properties>
+                <modules>
+                    <module>nested</module>
+                </modules>
+                <dependencyManagement>
+                    <dependencies>
+                        <dependency>
+                            <groupId>org.example</groupId>
+                            <artifactId>managed</artifactId>
+                        </dependency>
+                    </dependencies>
+                </dependencyManagement>
+                <dependencies>
+                    <dependency>
+                        <groupId>org.example</groupId>
+                        <artifactId>api</artifactId>
+                        <version>${api.version}</version>
+                        <exclusions>
+                            <exclusion>
+                                <groupId>org.example</groupId>
+                                <artifactId>excluded</artifactId>
+                            </exclusion>
+                        </exclusions>
+                    </dependency>
+                </dependencies>
+                <build>
+                    <plugins>
+                        <plugin>
+                            <artifactId>maven-compiler-plugin</artifactId>
+                            <dependencies>
+                                <dependency>
+                                    <groupId>org.example</groupId>
+                                    <artifactId>plugin-dependency</artifactId>
+                                </dependency>
+                            </dependencies>
+                        </plugin>
+                    </plugins>
+                </build>
+                <profiles>
+                    <profile>
+                        <id>extra</id>
+                        <activation>
+                            <activeByDefault>true</activeByDefault>
+                        </activation>
+                        <modules>
+                            <module>extra</module>
+                        </modules>
+                        <dependencies>
+                            <dependency>
+                                <artifactId>extra-api</artifactId>
+                            </dependency>
+                        </dependencies>
+                        <properties>
+                            <api.version>3.0</api.version>
+                        </properties>
+                    </profile>
+                </profiles>""");
+        final MavenPom pom = MavenPomReader.read(file);
+        assertThat(pom.file()).isEqualTo(file);
+        assertThat(pom.groupId()).isNull();
+        assertThat(pom.artifactId()).isEqualTo("core");
+        assertThat(pom.version()).isNull();
+        assertThat(pom.packaging()).isEqualTo("bundle");
+        assertThat(pom.parent()).isEqualTo(new MavenPom.Parent("org.example", "parent", "1.0", "../pom.xml"));
+        assertThat(pom.modules()).containsExactly("nested");
+        assertThat(pom.dependencies()).containsExactly(new MavenPom.Dependency("org.example", "api"));
+        assertThat(pom.properties()).isEqualTo(Map.of("api.version", "2.0"));
+        assertThat(pom.profiles()).containsExactly(new MavenPom.Profile("extra", true, List.of("extra"),
+                List.of(new MavenPom.Dependency(null, "extra-api")), Map.of("api.version", "3.0")));
+    }
+
+    @Test
+    void activate() throws Exception {
+        final MavenPom pom = MavenPomReader.read(TestUtility.writePom(directory, """
+                <groupId>org.example</groupId>
+                <artifactId>root</artifactId>
+                <version>1.0</version>
+                <modules>
+                    <module>core</module>
+                </modules>
+                <profiles>
+                    <profile>
+                        <id>default</id>
+                        <activation>
+                            <activeByDefault>true</activeByDefault>
+                        </activation>
+                        <modules>
+                            <module>default</module>
+                        </modules>
+                    </profile>
+                    <profile>
+                        <id>extra</id>
+                        <modules>
+                            <module>core</module>
+                            <module>extra</module>
+                        </modules>
+                    </profile>
+                </profiles>"""));
+        assertThat(pom.activate(Set.of(), Set.of()).modules()).containsExactly("core", "default");
+        assertThat(pom.activate(Set.of("extra"), Set.of()).modules()).containsExactly("core", "extra");
+        assertThat(pom.activate(Set.of("extra", "default"), Set.of()).modules())
+                .containsExactly("core", "default", "extra");
+        assertThat(pom.activate(Set.of("extra"), Set.of("extra")).modules()).containsExactly("core", "default");
+        assertThat(pom.activate(Set.of(), Set.of("default")).modules()).containsExactly("core");
+        assertThat(pom.activate(Set.of(), Set.of()).profiles()).isEmpty();
+    }
+
+    @Test
+    void noArtifactId() throws Exception {
+        final Path file = TestUtility.writePom(directory, "<groupId>org.example</groupId>");
+        assertThatThrownBy(() -> MavenPomReader.read(file))
+                .isInstanceOf(GradleException.class)
+                .hasMessage("Maven project " + file + " has no artifactId");
+    }
+
+    @Test
+    void invalid() throws Exception {
+        final Path file = Files.writeString(directory.resolve("pom.xml"), "<project>");
+        assertThatThrownBy(() -> MavenPomReader.read(file))
+                .isInstanceOf(GradleException.class)
+                .hasMessage("Can't read Maven project " + file);
+    }
+
+    @Test
+    void externalEntity() throws Exception {
+        final Path secret = Files.writeString(directory.resolve("secret.txt"), "secret");
+        final Path file = Files.writeString(directory.resolve("pom.xml"), """
+                <?xml version="1.0"?>
+                <!DOCTYPE project [<!ENTITY secret SYSTEM "%s">]>
+                <project><artifactId>&secret;</artifactId></project>""".formatted(secret.toUri()));
+        assertThatThrownBy(() -> MavenPomReader.read(file))
+                .isInstanceOf(GradleException.class);
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.gradle.api.GradleException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MavenProcessWatchdogTest {
+    @Test
+    void environment() {
+        try (MavenProcessWatchdog watchdog = MavenProcessWatchdog.start(null)) {
+            final String marker = watchdog.getEnvironment(null).get(MavenProcessWatchdog.MAVEN_OPTS);
+            assertThat(marker).startsWith("-Dgradle-maven-exec.watchdog=");
+            assertThat(watchdog.getEnvironment(" ")).isEqualTo(Map.of(MavenProcessWatchdog.MAVEN_OPTS, marker));
+            assertThat(watchdog.getEnvironment("-Xmx1g"))
+                    .isEqualTo(Map.of(MavenProcessWatchdog.MAVEN_OPTS, "-Xmx1g " + marker));
+        }
+    }
+
+    @Test
+    void jvmArguments() {
+        try (MavenProcessWatchdog watchdog = MavenProcessWatchdog.start(null)) {
+            final String marker = watchdog.getEnvironment(null).get(MavenProcessWatchdog.MAVEN_OPTS);
+            assertThat(watchdog.getJvmArguments(List.of("-Xmx1g", "-classpath", "boot")))
+                    .containsExactly(marker, "-Xmx1g", "-classpath", "boot");
+        }
+    }
+
+    @Test
+    void noTimeout() {
+        try (MavenProcessWatchdog watchdog = MavenProcessWatchdog.start(Duration.ZERO)) {
+            assertThat(watchdog.run(() -> "result")).isEqualTo("result");
+            assertThat(watchdog.isTimedOut()).isFalse();
+        }
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void timeout() throws Exception {
+        final List<ProcessHandle> processes = new ArrayList<>();
+        try (MavenProcessWatchdog watchdog = MavenProcessWatchdog.start(Duration.ofSeconds(1))) {
+            assertThatThrownBy(() -> watchdog.run(() -> {
+                final Process process = start(watchdog, processes);
+                try {
+                    return process.waitFor();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }))
+                    .isInstanceOf(GradleException.class)
+                    .hasMessage("Maven execution did not finish in PT1S");
+            assertThat(watchdog.isTimedOut()).isTrue();
+        }
+        assertStopped(processes);
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void failure() throws Exception {
+        final List<ProcessHandle> processes = new ArrayList<>();
+        try (MavenProcessWatchdog watchdog = MavenProcessWatchdog.start(null)) {
+            assertThatThrownBy(() -> watchdog.run(() -> {
+                start(watchdog, processes);
+                throw new GradleException("Build cancelled");
+            }))
+                    .isInstanceOf(GradleException.class)
+                    .hasMessage("Build cancelled");
+            assertThat(watchdog.isTimedOut()).isFalse();
+        }
+        assertStopped(processes);
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void foreignProcess() throws Exception {
+        final List<ProcessHandle> processes = new ArrayList<>();
+        final List<Process> foreign = new ArrayList<>();
+        try {
+            try (MavenProcessWatchdog watchdog = MavenProcessWatchdog.start(null)) {
+                assertThatThrownBy(() -> watchdog.run(() -> {
+                    try {
+                        foreign.add(new ProcessBuilder("sh", "-c", "sleep 300", "-Dgradle-maven-exec.watchdog=other")
+                                .start());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    start(watchdog, processes);
+                    throw new GradleException("Build cancelled");
+                }))
+                        .isInstanceOf(GradleException.class);
+            }
+            assertStopped(processes);
+            assertThat(foreign).singleElement().satisfies(process -> assertThat(process.isAlive()).isTrue());
+        } finally {
+            foreign.forEach(Process::destroyForcibly);
+        }
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void watchedProcess() throws Exception {
+        final Process process = new ProcessBuilder("sh", "-c", "sleep 300").start();
+        try (MavenProcessWatchdog watchdog = MavenProcessWatchdog.start(null)) {
+            watchdog.watch(process.toHandle());
+            assertThatThrownBy(() -> watchdog.run(() -> {
+                throw new GradleException("Build cancelled");
+            }))
+                    .isInstanceOf(GradleException.class);
+        }
+        assertStopped(List.of(process.toHandle()));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void unrecognizedProcess() throws Exception {
+        final List<ProcessHandle> processes = new ArrayList<>();
+        try (MavenProcessWatchdog watchdog = MavenProcessWatchdog.start(Duration.ofSeconds(1))) {
+            assertThatThrownBy(() -> watchdog.run(() -> {
+                try {
+                    final Process process = new ProcessBuilder("sh", "-c", "sleep 300").start();
+                    processes.add(process.toHandle());
+                    return process.waitFor();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }))
+                    .isInstanceOf(GradleException.class)
+                    .hasMessage("Maven execution did not finish in PT1S");
+        }
+        assertStopped(processes);
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void interrupted() throws Exception {
+        final List<ProcessHandle> processes = new ArrayList<>();
+        final Thread thread = Thread.currentThread();
+        try (MavenProcessWatchdog watchdog = MavenProcessWatchdog.start(null)) {
+            assertThatThrownBy(() -> watchdog.run(() -> {
+                final Process process = start(watchdog, processes);
+                CompletableFuture.runAsync(thread::interrupt);
+                try {
+                    // reading of the output ignores interrupts, only the stopped process unblocks it
+                    return process.getInputStream().read();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }))
+                    .isInstanceOf(GradleException.class)
+                    .hasMessage("Maven execution is interrupted");
+        } finally {
+            Thread.interrupted();
+        }
+        assertStopped(processes);
+    }
+
+    private static Process start(final MavenProcessWatchdog watchdog, final List<ProcessHandle> processes) {
+        final Process process;
+        try {
+            process = new ProcessBuilder("sh", "-c", "sleep 300 & sleep 301",
+                    watchdog.getEnvironment(null).get(MavenProcessWatchdog.MAVEN_OPTS))
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        while (process.children().count() < 2) {
+            Thread.onSpinWait();
+        }
+        processes.add(process.toHandle());
+        process.descendants().forEach(processes::add);
+        return process;
+    }
+
+    private static void assertStopped(final List<ProcessHandle> processes) throws Exception {
+        assertThat(processes).isNotEmpty();
+        for (ProcessHandle process : processes) {
+            process.onExit().get(MavenProcessWatchdog.KILL_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        }
+    }
+}
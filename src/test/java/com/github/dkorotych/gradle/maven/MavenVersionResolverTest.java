@@ -0,0 +1,78 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MavenVersionResolverTest {
+    @TempDir
+    Path mavenHome;
+
+    static void createCoreLibrary(Path mavenHome, String fileVersion, String version) throws IOException {
+        final Path lib = Files.createDirectories(mavenHome.resolve("lib"));
+        try (OutputStream stream = Files.newOutputStream(lib.resolve("maven-core-" + fileVersion + ".jar"));
+             ZipOutputStream zip = new ZipOutputStream(stream)) {
+            zip.putNextEntry(new ZipEntry("org/apache/maven/DefaultMaven.class"));
+            zip.closeEntry();
+            if (version != null) {
+                zip.putNextEntry(new ZipEntry("META-INF/maven/org.apache.maven/maven-core/pom.properties"));
+                zip.write(("groupId=org.apache.maven\nartifactId=maven-core\nversion=" + version + '\n')
+                        .getBytes(UTF_8));
+                zip.closeEntry();
+            }
+        }
+    }
+
+    @Test
+    void fromPomProperties() throws IOException {
+        createCoreLibrary(mavenHome, "3.9.9", "3.9.9-custom");
+        assertThat(MavenVersionResolver.resolve(mavenHome)).contains("3.9.9-custom");
+    }
+
+    @Test
+    void fromFileName() throws IOException {
+        createCoreLibrary(mavenHome, "3.6.3", null);
+        assertThat(MavenVersionResolver.resolve(mavenHome)).contains("3.6.3");
+    }
+
+    @Test
+    void brokenLibrary() throws IOException {
+        final Path lib = Files.createDirectories(mavenHome.resolve("lib"));
+        Files.writeString(lib.resolve("maven-core-3.8.9.jar"), "not a zip");
+        assertThat(MavenVersionResolver.resolve(mavenHome)).contains("3.8.9");
+    }
+
+    @Test
+    void unknownLayout() throws IOException {
+        assertThat(MavenVersionResolver.resolve(null)).isEmpty();
+        assertThat(MavenVersionResolver.resolve(mavenHome)).isEmpty();
+        final Path lib = Files.createDirectories(mavenHome.resolve("lib"));
+        Files.writeString(lib.resolve("maven-core-api.jar"), "");
+        Files.writeString(lib.resolve("maven-embedder-3.9.9.jar"), "");
+        assertThat(MavenVersionResolver.resolve(mavenHome)).isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import com.github.dkorotych.gradle.maven.exec.MavenExecPlugin;
+import org.gradle.api.GradleException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MavenWorkerPoolTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    void defaultSettings() {
+        assertThat(MavenWorkerPool.Settings.of(Map.of()::get)).isEqualTo(MavenWorkerPool.Settings.DEFAULT);
+    }
+
+    @Test
+    void settingsFromProperties() {
+        final Map<String, Object> properties = Map.of(
+                MavenExecPlugin.POOL_SIZE_PROPERTY, "4",
+                MavenExecPlugin.POOL_IDLE_TIMEOUT_PROPERTY, " 0 ",
+                MavenExecPlugin.POOL_MAX_BUILDS_PROPERTY, 10);
+        assertThat(MavenWorkerPool.Settings.of(properties::get))
+                .isEqualTo(new MavenWorkerPool.Settings(4, Duration.ZERO, 10));
+    }
+
+    @Test
+    void incorrectSettings() {
+        assertThatThrownBy(() -> MavenWorkerPool.Settings.of(Map.of(MavenExecPlugin.POOL_SIZE_PROPERTY, "0")::get))
+                .isInstanceOf(GradleException.class)
+                .hasMessage("Maven worker pool size should be positive, but was 0");
+        assertThatThrownBy(() -> MavenWorkerPool.Settings.of(
+                Map.of(MavenExecPlugin.POOL_MAX_BUILDS_PROPERTY, "many")::get))
+                .isInstanceOf(GradleException.class)
+                .hasMessage("Gradle property " + MavenExecPlugin.POOL_MAX_BUILDS_PROPERTY
+                        + " should be a number, but was many");
+        assertThatThrownBy(() -> new MavenWorkerPool.Settings(1, Duration.ofSeconds(-1), 0))
+                .isInstanceOf(GradleException.class)
+                .hasMessage("Maven worker idle timeout should not be negative, but was PT-1S");
+    }
+
+    @Test
+    void longStrings() throws Exception {
+        final String value = "-Dvalue=" + "\u00e9".repeat(70_000);
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(stream)) {
+            MavenPoolWorker.writeString(output, value);
+            MavenPoolWorker.writeString(output, "");
+        }
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(stream.toByteArray()))) {
+            assertThat(MavenPoolWorker.readString(input)).isEqualTo(value);
+            assertThat(MavenPoolWorker.readString(input)).isEmpty();
+        }
+    }
+
+    @Test
+    void notMavenInstallation() {
+        try (MavenWorkerPool pool = new MavenWorkerPool(new MavenWorkerPool.Settings(1, Duration.ZERO, 0))) {
+            final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            for (int i = 0; i < 2; i++) {
+                assertThatThrownBy(() -> pool.execute(directory, Map.of(), List.of("--version"), directory.toFile(),
+                        stream, stream))
+                        .isInstanceOf(GradleException.class)
+                        .hasMessage("Directory " + directory + " is not a Maven installation");
+            }
+        }
+    }
+
+    @Test
+    void closed() {
+        final MavenWorkerPool pool = new MavenWorkerPool(MavenWorkerPool.Settings.DEFAULT);
+        pool.close();
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        assertThatThrownBy(() -> pool.execute(directory, Map.of(), List.of("--version"), directory.toFile(),
+                stream, stream))
+                .isInstanceOf(GradleException.class)
+                .hasMessage("Maven worker pool is closed");
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.github.dkorotych.gradle.maven.TestUtility.createMavenInstallation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MavenWrapperDistributionResolverTest {
+    private static final String DISTRIBUTION_URL = "https://repo.maven.apache.org/maven2/org/apache/maven/"
+            + "apache-maven/3.9.9/apache-maven-3.9.9-bin.zip";
+
+    @TempDir
+    Path userHome;
+    @TempDir
+    Path projectDir;
+    private MavenWrapperDistributionResolver resolver;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        resolver = new MavenWrapperDistributionResolver(userHome, null);
+        final Path wrapper = Files.createDirectories(projectDir.resolve(".mvn").resolve("wrapper"));
+        Files.writeString(wrapper.resolve("maven-wrapper.properties"), "wrapperVersion=3.3.2\n"
+                + "distributionType=only-script\n"
+                + "distributionUrl=" + DISTRIBUTION_URL + "\n");
+    }
+
+    @Test
+    void scriptOnlyDistribution() throws IOException {
+        final Path distribution = createMavenInstallation(dists().resolve("apache-maven-3.9.9").resolve("3477a4f1"));
+        assertThat(resolver.resolve(projectDir)).contains(distribution);
+    }
+
+    @Test
+    void windowsScriptOnlyDistribution() throws IOException {
+        final Path distribution = createMavenInstallation(dists().resolve("apache-maven-3.9.9")
+                .resolve("977a63e90f436cd6ade95b4c0e10c20c"));
+        assertThat(resolver.resolve(projectDir)).contains(distribution);
+    }
+
+    @Test
+    void legacyDistribution() throws IOException {
+        final Path distribution = createMavenInstallation(dists().resolve("apache-maven-3.9.9-bin")
+                .resolve("8yucwv6yw2jfm9nh8ttv439cc")
+                .resolve("apache-maven-3.9.9"));
+        assertThat(resolver.resolve(projectDir)).contains(distribution);
+    }
+
+    @Test
+    void repositoryUrl() throws IOException {
+        final Path distribution = createMavenInstallation(dists().resolve("apache-maven-3.9.9").resolve("6e10f47a"));
+        createMavenInstallation(dists().resolve("apache-maven-3.9.9").resolve("3477a4f1"));
+        assertThat(new MavenWrapperDistributionResolver(userHome, "https://mirror.example.com/maven2/")
+                .resolve(projectDir)).contains(distribution);
+    }
+
+    @Test
+    void notDownloaded() throws IOException {
+        Files.createDirectories(dists().resolve("apache-maven-3.9.9").resolve("3477a4f1"));
+        assertThat(resolver.resolve(projectDir)).isEmpty();
+    }
+
+    @Test
+    void withoutWrapper(@TempDir Path directory) {
+        assertThat(resolver.resolve(directory)).isEmpty();
+        assertThat(resolver.resolve(null)).isEmpty();
+    }
+
+    private Path dists() {
+        return userHome.resolve("wrapper").resolve("dists");
+    }
+}
@@ -29,9 +29,11 @@ import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -70,6 +72,22 @@ public final class TestUtility {
         }
     }
 
+    public static Path createMavenInstallation(final Path mavenHome) throws IOException {
+        final Path bin = Files.createDirectories(mavenHome.resolve("bin"));
+        Files.writeString(bin.resolve("mvn"), "#!/bin/sh");
+        Files.writeString(bin.resolve("mvn.cmd"), "@echo off");
+        return mavenHome;
+    }
+
+    public static Path createDaemonInstallation(final Path mvndHome) throws IOException {
+        final Path bin = Files.createDirectories(mvndHome.resolve("bin"));
+        Files.writeString(bin.resolve("mvnd"), "#!/bin/sh");
+        Files.writeString(bin.resolve("mvnd.sh"), "#!/bin/sh");
+        Files.writeString(bin.resolve("mvnd.cmd"), "@echo off");
+        createMavenInstallation(mvndHome.resolve("mvn"));
+        return mvndHome;
+    }
+
     public static Stream<PropertyDescriptor> getPropertyDescriptors(Class<?> beanClass) throws IntrospectionException {
         final BeanInfo beanInfo;
         if (beanClass.isInterface()) {
@@ -168,4 +186,65 @@ public final class TestUtility {
     public static String randomAlphabetic(final int count) {
         return RandomStringUtils.insecure().nextAlphabetic(count);
     }
+
+    /**
+     * Create a Maven reactor: the root project {@code root} with the modules {@code api}, {@code core}, which depends
+     * on {@code api}, and {@code app}, which depends on {@code core}.
+     */
+    public static Path createReactor(final Path directory) throws IOException {
+        writePom(directory, """
+                <groupId>org.example</groupId>
+                <artifactId>root</artifactId>
+                <version>1.0</version>
+                <packaging>pom</packaging>
+                <modules>
+                    <module>app</module>
+                    <module>core</module>
+                    <module>api</module>
+                </modules>""");
+        writePom(directory.resolve("api"), parent() + "<artifactId>api</artifactId>");
+        writePom(directory.resolve("core"), parent() + """
+                <artifactId>core</artifactId>
+                <dependencies>
+                    <dependency>
+                        <groupId>${project.groupId}</groupId>
+                        <artifactId>api</artifactId>
+                        <version>${project.version}</version>
+                    </dependency>
+                    <dependency>
+                        <groupId>org.slf4j</groupId>
+                        <artifactId>slf4j-api</artifactId>
+                        <version>2.0.17</version>
+                    </dependency>
+                </dependencies>""");
+        writePom(directory.resolve("app"), parent() + """
+                <artifactId>app</artifactId>
+                <dependencies>
+                    <dependency>
+                        <groupId>org.example</groupId>
+                        <artifactId>core</artifactId>
+                        <version>1.0</version>
+                    </dependency>
+                </dependencies>""");
+        return directory;
+    }
+
+    public static Path writePom(final Path directory, final String content) throws IOException {
+        Files.createDirectories(directory);
+        return Files.writeString(directory.resolve("pom.xml"), """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                <modelVersion>4.0.0</modelVersion>
+                """ + content + "\n</project>\n");
+    }
+
+    private static String parent() {
+        return """
+                <parent>
+                    <groupId>org.example</groupId>
+                    <artifactId>root</artifactId>
+                    <version>1.0</version>
+                </parent>
+                """;
+    }
 }
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -139,6 +140,20 @@ abstract class AbstractMavenExecSpecTest<T extends MavenExecSpec> {
         assertThat(specification.getMavenDir()).isEqualTo(mavenDir);
     }
 
+    @Test
+    void defaultExecutionMode() {
+        assertThat(specification.getExecutionMode()).isEqualTo(MavenExecutionMode.FORK);
+    }
+
+    @ParameterizedTest
+    @EnumSource(MavenExecutionMode.class)
+    void executionMode(MavenExecutionMode mode) {
+        assertThat(specification.executionMode(mode)).isSameAs(specification);
+        assertThat(specification.getExecutionMode()).isEqualTo(mode);
+        specification.setExecutionMode(null);
+        assertThat(specification.getExecutionMode()).isEqualTo(MavenExecutionMode.FORK);
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void ignoreExitValue(boolean value) {
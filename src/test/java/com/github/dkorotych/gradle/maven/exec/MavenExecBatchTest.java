@@ -0,0 +1,118 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec;
+
+import com.github.dkorotych.gradle.maven.MavenOptionsSnapshot;
+import com.github.dkorotych.gradle.maven.TestUtility;
+import groovy.lang.Closure;
+import org.gradle.api.Project;
+import org.gradle.process.ExecResult;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MavenExecBatchTest {
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = ProjectBuilder.builder().build();
+    }
+
+    @Test
+    void nullSpecification() {
+        final MavenExecBatch batch = new MavenExecBatch(new MavenExecConvention(project), project.getLogger());
+        assertThatThrownBy(() -> batch.mavenexec(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Configure closure should not be null");
+    }
+
+    @Test
+    void notExecuted() {
+        final MavenExecBatch batch = new MavenExecBatch(new MavenExecConvention(project), project.getLogger());
+        final ExecResult result = batch.mavenexec(closure(specification -> specification.goals("validate")));
+        assertThatThrownBy(result::getExitValue)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Maven invocation is not executed yet");
+        assertThat(result).hasToString("{not executed}");
+    }
+
+    @Test
+    void compatible() {
+        final MavenExecSpecDelegate first = createSpecification("clean");
+        assertThat(isCompatible(first, createSpecification("install"))).isTrue();
+        assertThat(isCompatible(first, createSpecification("clean"))).isFalse();
+    }
+
+    @Test
+    void incompatible() {
+        final MavenExecSpecDelegate first = createSpecification("clean");
+        final MavenExecSpecDelegate workingDir = createSpecification("install");
+        workingDir.workingDir(project.file("module"));
+        assertThat(isCompatible(first, workingDir)).isFalse();
+        final MavenExecSpecDelegate options = createSpecification("install");
+        options.setQuiet(true);
+        assertThat(isCompatible(first, options)).isFalse();
+        final MavenExecSpecDelegate mavenDir = createSpecification("install");
+        mavenDir.setMavenDir(project.file("maven"));
+        assertThat(isCompatible(first, mavenDir)).isFalse();
+        final MavenExecSpecDelegate mode = createSpecification("install");
+        mode.setExecutionMode(MavenExecutionMode.EMBEDDED);
+        assertThat(isCompatible(first, mode)).isFalse();
+        final MavenExecSpecDelegate environment = createSpecification("install");
+        environment.environment(Map.of("MAVEN_OPTS", "-Xmx1g"));
+        assertThat(isCompatible(first, environment)).isFalse();
+        final MavenExecSpecDelegate output = createSpecification("install");
+        output.setStandardOutput(new ByteArrayOutputStream());
+        assertThat(isCompatible(first, output)).isFalse();
+        final MavenExecSpecDelegate timeout = createSpecification("install");
+        timeout.getTimeout().set(Duration.ofMinutes(1));
+        assertThat(isCompatible(first, timeout)).isFalse();
+    }
+
+    private MavenExecSpecDelegate createSpecification(String goal) {
+        final MavenExecSpecDelegate specification = new MavenExecSpecDelegate(
+                TestUtility.createExecSpec(project), project);
+        specification.workingDir(project.getProjectDir());
+        specification.setOffline(true);
+        specification.goals(goal);
+        return specification;
+    }
+
+    private static boolean isCompatible(MavenExecSpecDelegate first, MavenExecSpecDelegate invocation) {
+        final Set<String> goals = new LinkedHashSet<>(first.getGoals());
+        return MavenExecBatch.isCompatible(first, MavenOptionsSnapshot.of(first.getOptions()), goals, invocation);
+    }
+
+    private Closure<MavenExecSpec> closure(Consumer<MavenExecSpec> consumer) {
+        return new Closure<>(project) {
+            public Object doCall(MavenExecSpec it) {
+                consumer.accept(it);
+                return it;
+            }
+        };
+    }
+}
@@ -15,18 +15,23 @@
  */
 package com.github.dkorotych.gradle.maven.exec;
 
+import com.github.dkorotych.gradle.maven.IncorrectMavenInstallationDirectoryException;
 import com.github.dkorotych.gradle.maven.TestUtility;
 import groovy.lang.Closure;
 import org.gradle.api.GradleException;
 import org.gradle.api.Project;
+import org.gradle.process.ExecResult;
 import org.gradle.process.internal.ExecException;
 import org.gradle.testfixtures.ProjectBuilder;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+import java.util.List;
 import java.util.function.Consumer;
 
 import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -64,6 +69,56 @@ class MavenExecConventionTest {
         }));
     }
 
+    @Test
+    void mavenexecBatch() {
+        final MavenExecConvention convention = new MavenExecConvention(project);
+        final List<ExecResult> results = convention.mavenexecBatch(new Closure<MavenExecBatch>(project) {
+            public Object doCall(MavenExecBatch batch) {
+                for (String goal : List.of(VALIDATE, "initialize")) {
+                    batch.mavenexec(new Closure<MavenExecSpec>(project) {
+                        public Object doCall(MavenExecSpec it) {
+                            it.goals(goal).quiet(true);
+                            return it;
+                        }
+                    });
+                }
+                return batch;
+            }
+        });
+        assertThat(results)
+                .hasSize(2)
+                .extracting(ExecResult::getExitValue)
+                .containsOnly(0);
+    }
+
+    @Test
+    void mavenexecAsync() {
+        final MavenExecConvention convention = new MavenExecConvention(project);
+        final MavenExecHandle success = convention.mavenexecAsync(closure(specification -> {
+            specification.setGoals(singleton(VALIDATE));
+            specification.quiet(true);
+        }));
+        final MavenExecHandle failure = convention.mavenexecAsync(closure(specification -> specification.quiet(true)));
+        assertThatThrownBy(() -> convention.awaitAll(success, failure))
+                .isInstanceOf(ExecException.class)
+                .hasMessageEndingWith("finished with non-zero exit value 1");
+        assertThat(success.isDone()).isTrue();
+        assertThat(convention.awaitAll(List.of(success)))
+                .extracting(ExecResult::getExitValue)
+                .containsExactly(0);
+    }
+
+    @Test
+    void mavenexecAsyncResolvesOnCallingThread() {
+        final MavenExecConvention convention = new MavenExecConvention(project);
+        final File mavenDir = project.getLayout().getBuildDirectory().getAsFile().get();
+        assertThatThrownBy(() -> convention.mavenexecAsync(closure(specification -> {
+            specification.setMavenDir(mavenDir);
+            specification.setGoals(singleton(VALIDATE));
+        })))
+                .isInstanceOf(IncorrectMavenInstallationDirectoryException.class);
+    }
+
     @Test
     void error() {
         assertThatThrownBy(() -> execute(project, specification -> specification.quiet(true)))
@@ -99,12 +154,19 @@ class MavenExecConventionTest {
     }
 
     private void execute(Project project, Consumer<MavenExecSpec> consumer) {
-        final Closure<MavenExecSpec> closure = new Closure<MavenExecSpec>(project) {
+        new MavenExecConvention(project).mavenexec(closure(project, consumer));
+    }
+
+    private static Closure<MavenExecSpec> closure(Consumer<MavenExecSpec> consumer) {
+        return closure(project, consumer);
+    }
+
+    private static Closure<MavenExecSpec> closure(Project project, Consumer<MavenExecSpec> consumer) {
+        return new Closure<MavenExecSpec>(project) {
             public Object doCall(MavenExecSpec it) {
                 consumer.accept(it);
                 return it;
             }
         };
-        new MavenExecConvention(project).mavenexec(closure);
     }
 }
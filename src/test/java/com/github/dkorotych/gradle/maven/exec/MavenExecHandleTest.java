@@ -0,0 +1,125 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec;
+
+import org.gradle.api.GradleException;
+import org.gradle.process.ExecResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MavenExecHandleTest {
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void await() {
+        final MavenExecHandle handle = MavenExecHandle.submit(executor, () -> new MavenExecResult("Maven", 0));
+        assertThat(handle.await().getExitValue()).isZero();
+        assertThat(handle.isDone()).isTrue();
+        assertThat(handle.getResult()).isCompleted();
+        assertThat(handle.cancel()).isFalse();
+    }
+
+    @Test
+    void failure() {
+        final MavenExecHandle handle = MavenExecHandle.submit(executor, () -> {
+            throw new GradleException("Maven failed");
+        });
+        assertThatThrownBy(handle::await)
+                .isInstanceOf(GradleException.class)
+                .hasMessage("Maven failed");
+    }
+
+    @Test
+    void cancel() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final MavenExecHandle running = MavenExecHandle.submit(executor, () -> {
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return new MavenExecResult("Maven", 0);
+        });
+        final MavenExecHandle queued = MavenExecHandle.submit(executor, () -> {
+            throw new IllegalStateException("Cancelled invocation should not run");
+        });
+        started.await();
+        assertThat(queued.cancel()).isTrue();
+        assertThat(running.cancel()).isTrue();
+        assertThat(interrupted.getCount()).isZero();
+        assertThatThrownBy(running::await).isInstanceOf(CancellationException.class);
+        assertThatThrownBy(queued::await).isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    void cancelWaitsForInvocation() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicBoolean finished = new AtomicBoolean();
+        final MavenExecHandle handle = MavenExecHandle.submit(executor, () -> {
+            started.countDown();
+            // like the embedded Maven, the invocation ignores the interrupt
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            finished.set(true);
+            return new MavenExecResult("Maven", 0);
+        });
+        started.await();
+        assertThat(handle.cancel()).isTrue();
+        assertThat(finished).isTrue();
+        assertThatThrownBy(handle::await).isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    void awaitAll() {
+        final GradleException first = new GradleException("First");
+        final GradleException second = new GradleException("Second");
+        final List<MavenExecHandle> handles = List.of(
+                MavenExecHandle.submit(executor, () -> {
+                    throw first;
+                }),
+                MavenExecHandle.submit(executor, () -> new MavenExecResult("Maven", 0)),
+                MavenExecHandle.submit(executor, () -> {
+                    throw second;
+                }));
+        assertThatThrownBy(() -> MavenExecHandle.awaitAll(handles))
+                .isSameAs(first)
+                .hasSuppressedException(second);
+        assertThat(handles).allMatch(MavenExecHandle::isDone);
+        assertThat(MavenExecHandle.awaitAll(handles.subList(1, 2)))
+                .extracting(ExecResult::getExitValue)
+                .containsExactly(0);
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec;
+
+import com.github.dkorotych.gradle.maven.MavenCpuQuota;
+import org.gradle.api.GradleException;
+import org.gradle.api.Project;
+import org.gradle.api.services.BuildServiceRegistration;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MavenExecLimiterTest {
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = ProjectBuilder.builder().build();
+    }
+
+    @Test
+    void nullProject() {
+        assertThatThrownBy(() -> MavenExecLimiter.of(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Project should be not null");
+    }
+
+    @Test
+    void unlimited() {
+        final MavenExecLimiter limiter = MavenExecLimiter.of(project);
+        try (MavenExecLimiter.Permit first = limiter.acquire(() -> {
+            throw new IllegalStateException("Local repository should not be resolved");
+        }); MavenExecLimiter.Permit second = limiter.acquire(() -> Path.of("repository"))) {
+            assertThat(first).isSameAs(second);
+        }
+        assertThat(getRegistration().getMaxParallelUsages().isPresent()).isFalse();
+    }
+
+    @Test
+    void maxParallel() {
+        project.getExtensions().getExtraProperties().set(MavenExecPlugin.MAX_PARALLEL_PROPERTY, "3");
+        MavenExecLimiter.register(project);
+        assertThat(getRegistration().getMaxParallelUsages().get()).isEqualTo(3);
+    }
+
+    @Test
+    void rootProjectProperties() {
+        final Project subproject = ProjectBuilder.builder().withName("subproject").withParent(project).build();
+        project.getExtensions().getExtraProperties().set(MavenExecPlugin.MAX_PARALLEL_PROPERTY, "3");
+        subproject.getExtensions().getExtraProperties().set(MavenExecPlugin.MAX_PARALLEL_PROPERTY, "1");
+        MavenExecLimiter.register(subproject);
+        assertThat(getRegistration().getMaxParallelUsages().get()).isEqualTo(3);
+    }
+
+    @Test
+    void incorrectMaxParallel() {
+        project.getExtensions().getExtraProperties().set(MavenExecPlugin.MAX_PARALLEL_PROPERTY, "all");
+        assertThatThrownBy(() -> MavenExecLimiter.register(project))
+                .isInstanceOf(GradleException.class)
+                .hasMessage("Gradle property " + MavenExecPlugin.MAX_PARALLEL_PROPERTY
+                        + " should be a number, but was all");
+    }
+
+    @Test
+    void localRepository() throws Exception {
+        project.getExtensions().getExtraProperties().set(MavenExecPlugin.LOCAL_REPOSITORY_MAX_PARALLEL_PROPERTY, 1);
+        final MavenExecLimiter limiter = MavenExecLimiter.of(project);
+        final Path repository = Path.of("repository").toAbsolutePath();
+        final CompletableFuture<Void> waiting;
+        try (MavenExecLimiter.Permit ignored = limiter.acquire(() -> repository)) {
+            waiting = CompletableFuture.runAsync(() -> limiter.acquire(() -> repository).close());
+            limiter.acquire(() -> Path.of("other").toAbsolutePath()).close();
+            assertThat(waiting).isNotCompleted();
+            TimeUnit.MILLISECONDS.sleep(200);
+            assertThat(waiting).isNotCompleted();
+        }
+        assertThat(waiting).succeedsWithin(1, TimeUnit.MINUTES);
+    }
+
+    @Test
+    void autoThreads() {
+        final MavenExecLimiter limiter = MavenExecLimiter.of(project);
+        final int processors = MavenCpuQuota.availableProcessors();
+        assertThat(limiter.getRunning()).isZero();
+        assertThat(limiter.getAutoThreads()).isEqualTo(processors);
+        try (MavenExecLimiter.Permit first = limiter.start()) {
+            assertThat(limiter.getAutoThreads()).isEqualTo(processors);
+            try (MavenExecLimiter.Permit second = limiter.start()) {
+                assertThat(limiter.getRunning()).isEqualTo(2);
+                assertThat(limiter.getAutoThreads()).isEqualTo(Math.max(1, processors / 2));
+            }
+            assertThat(limiter.getRunning()).isOne();
+        }
+        assertThat(limiter.getRunning()).isZero();
+    }
+
+    @Test
+    void pluginRegistersService() {
+        project.getPlugins().apply("com.github.dkorotych.gradle-maven-exec");
+        assertThat(project.getGradle().getSharedServices().getRegistrations().findByName(MavenExecLimiter.NAME))
+                .isNotNull();
+    }
+
+    private BuildServiceRegistration<?, ?> getRegistration() {
+        return project.getGradle().getSharedServices().getRegistrations().getByName(MavenExecLimiter.NAME);
+    }
+}
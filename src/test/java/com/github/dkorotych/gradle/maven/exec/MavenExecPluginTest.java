@@ -28,5 +28,6 @@ class MavenExecPluginTest {
         project.getPlugins().apply("com.github.dkorotych.gradle-maven-exec");
 
         assertThat(project.getExtensions().getExtraProperties().get(MavenExec.class.getSimpleName())).isNotNull();
+        assertThat(project.getExtensions().findByName(MavenReactor.NAME)).isInstanceOf(MavenReactor.class);
     }
 }
@@ -0,0 +1,42 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec;
+
+import org.gradle.api.GradleException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MavenExecResultTest {
+
+    @Test
+    void normalExitValue() {
+        final MavenExecResult result = new MavenExecResult("Embedded Maven", 0);
+        assertThat(result.getExitValue()).isZero();
+        assertThat(result.assertNormalExitValue()).isSameAs(result);
+        assertThat(result.rethrowFailure()).isSameAs(result);
+    }
+
+    @Test
+    void nonZeroExitValue() {
+        final MavenExecResult result = new MavenExecResult("Embedded Maven", 1);
+        assertThat(result.getExitValue()).isOne();
+        assertThatThrownBy(result::assertNormalExitValue)
+                .isInstanceOf(GradleException.class)
+                .hasMessage("Embedded Maven finished with non-zero exit value 1");
+    }
+}
@@ -41,7 +41,8 @@ import static org.mockito.Mockito.spy;
 @SuppressWarnings("OverloadMethodsDeclarationOrder")
 class MavenExecSpecTest {
     private static final Supplier<List<PropertyDescriptor>> SPECIFICATION_DESCRIPTORS = MemoizedSupplier.of(() -> {
-        final List<String> skip = Arrays.asList("mavenDir", "goals", "options");
+        final List<String> skip = Arrays.asList("mavenDir", "goals", "options", "executionMode",
+                "timeout");
         try {
             return getPropertyDescriptors(MavenExecSpec.class)
                     .filter(((Predicate<PropertyDescriptor>) d -> skip.contains(d.getName())).negate())
@@ -0,0 +1,133 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec;
+
+import com.github.dkorotych.gradle.maven.TestUtility;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.tasks.TaskProvider;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MavenReactorTest {
+    @TempDir
+    private Path directory;
+    private Project project;
+    private MavenReactor reactor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        project = ProjectBuilder.builder()
+                .withProjectDir(directory.toFile())
+                .build();
+        TestUtility.createReactor(directory.resolve("maven"));
+        reactor = new MavenReactor(project);
+    }
+
+    @Test
+    void nullProject() {
+        assertThatThrownBy(() -> new MavenReactor(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Project should be not null");
+    }
+
+    @Test
+    void register() {
+        final Map<String, TaskProvider<MavenExec>> tasks = reactor.register("maven", "maven",
+                task -> task.goals("install"));
+        assertThat(tasks.keySet())
+                .containsExactly("org.example:root", "org.example:api", "org.example:core", "org.example:app");
+        assertThat(tasks.values())
+                .extracting(TaskProvider::getName)
+                .containsExactly("mavenRoot", "mavenApi", "mavenCore", "mavenApp");
+
+        final MavenExec root = tasks.get("org.example:root").get();
+        assertThat(root.getWorkingDir()).isEqualTo(directory.resolve("maven").toFile());
+        assertThat(root.getOptions().isNonRecursive()).isTrue();
+        assertThat(root.getOptions().getProjects()).isNull();
+        assertThat(root.getGoals()).containsExactly("install");
+
+        final MavenExec core = tasks.get("org.example:core").get();
+        assertThat(core.getOptions().isNonRecursive()).isFalse();
+        assertThat(core.getOptions().getProjects()).containsExactly("core");
+        assertThat(getDependencies(core)).isEqualTo(Set.of("mavenRoot", "mavenApi"));
+        assertThat(core.getOutputs().getFiles())
+                .containsExactly(directory.resolve("maven/core/target").toFile());
+        assertThat(core.getInputs().getFiles())
+                .contains(directory.resolve("maven/core/pom.xml").toFile(),
+                        directory.resolve("maven/pom.xml").toFile(),
+                        directory.resolve("maven/api/target").toFile(),
+                        directory.resolve("maven/target").toFile())
+                .doesNotContain(directory.resolve("maven/app/target").toFile());
+
+        final MavenExec app = tasks.get("org.example:app").get();
+        assertThat(app.getInputs().getFiles())
+                .contains(directory.resolve("maven/core/target").toFile(),
+                        directory.resolve("maven/api/target").toFile());
+
+        final Task aggregate = project.getTasks().getByName("maven");
+        assertThat(getDependencies(aggregate)).isEqualTo(Set.of("mavenRoot", "mavenApi", "mavenCore", "mavenApp"));
+    }
+
+    @Test
+    void profiles() {
+        final Map<String, TaskProvider<MavenExec>> tasks = reactor.register("ci", "maven", List.of("ci,!docs"),
+                task -> task.goals("verify"));
+        assertThat(tasks.get("org.example:api").get().getOptions().getActivateProfiles())
+                .containsExactly("ci,!docs");
+        assertThat(reactor.register("local", "maven", task -> {
+        }).get("org.example:api").get().getOptions().getActivateProfiles()).isNull();
+    }
+
+    @Test
+    void sameArtifactId() throws Exception {
+        final Path root = directory.resolve("same");
+        TestUtility.writePom(root, """
+                <groupId>org.example</groupId>
+                <artifactId>same-name</artifactId>
+                <version>1.0</version>
+                <modules>
+                    <module>other</module>
+                </modules>""");
+        TestUtility.writePom(root.resolve("other"), """
+                <groupId>org.example.other</groupId>
+                <artifactId>same.name</artifactId>
+                <version>1.0</version>""");
+        assertThat(reactor.register("build", root.toFile(), task -> {
+        }).values())
+                .extracting(TaskProvider::getName)
+                .containsExactly("buildSameName", "buildSameName2");
+    }
+
+    private static Set<String> getDependencies(final Task task) {
+        return task.getTaskDependencies()
+                .getDependencies(task)
+                .stream()
+                .map(Task::getName)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.exec;
+
+import com.github.dkorotych.gradle.maven.MavenDescriptor;
+import com.github.dkorotych.gradle.maven.MavenInstallationDiscovery;
+import com.github.dkorotych.gradle.maven.MavenWorkerPool;
+import com.github.dkorotych.gradle.maven.TestUtility;
+import com.github.dkorotych.gradle.maven.locator.MavenLocatorContext;
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MavenRegistryServiceTest {
+    private Project project;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        project = ProjectBuilder.builder().build();
+        TestUtility.prepareProject(true, project.getProjectDir());
+    }
+
+    @Test
+    void nullProject() {
+        assertThatThrownBy(() -> MavenRegistryService.of(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Project should be not null");
+    }
+
+    @Test
+    void sameServiceForBuild() {
+        final Project child = ProjectBuilder.builder()
+                .withParent(project)
+                .build();
+        assertThat(MavenRegistryService.of(child)).isSameAs(MavenRegistryService.of(project));
+        assertThat(MavenRegistryService.of(child).getPomCache())
+                .isSameAs(MavenRegistryService.of(project).getPomCache());
+    }
+
+    @Test
+    void sameDescriptorForInstallation() {
+        final MavenRegistryService registry = MavenRegistryService.of(project);
+        final Path mavenHome = project.getProjectDir().toPath();
+        final Project child = ProjectBuilder.builder()
+                .withParent(project)
+                .build();
+        final MavenDescriptor descriptor = registry.getDescriptor(mavenHome, project);
+        assertThat(registry.getDescriptor(mavenHome, child)).isSameAs(descriptor);
+        assertThat(registry.getDescriptor(null, project)).isNotSameAs(descriptor);
+    }
+
+    @Test
+    void differentDescriptorsForInstallations() throws Exception {
+        final MavenRegistryService registry = MavenRegistryService.of(project);
+        final File otherDir = Files.createTempDirectory(null).toFile();
+        TestUtility.prepareProject(true, otherDir);
+        final MavenDescriptor descriptor = registry.getDescriptor(project.getProjectDir().toPath(), project);
+        assertThat(registry.getDescriptor(otherDir.toPath(), project)).isNotSameAs(descriptor);
+    }
+
+    @Test
+    void sameDiscoveryForBuild() {
+        final Project child = ProjectBuilder.builder()
+                .withParent(project)
+                .build();
+        assertThat(MavenRegistryService.of(child).getDiscovery())
+                .isSameAs(MavenRegistryService.of(project).getDiscovery());
+    }
+
+    @Test
+    void prewarm(@TempDir Path mavenHome) throws Exception {
+        TestUtility.createMavenInstallation(mavenHome);
+        Files.writeString(Files.createDirectories(mavenHome.resolve("lib")).resolve("maven-core-3.9.9.jar"), "");
+        final MavenRegistryService registry = MavenRegistryService.of(project);
+        final MavenLocatorContext context = new MavenLocatorContext(new MavenInstallationDiscovery(),
+                mavenHome.toFile(), List.of());
+        registry.prewarm(context, project.getProjectDir(), project).get(1, TimeUnit.MINUTES);
+        final MavenDescriptor descriptor = registry.getDescriptor(mavenHome, project);
+        assertThat(descriptor.getVersion(ExecOperationsInstanceHolder.getExecOperations(project),
+                project.getProjectDir())).isEqualTo("3.9.9");
+    }
+
+    @Test
+    void prewarmWithoutMaven(@TempDir Path directory) {
+        final MavenRegistryService registry = MavenRegistryService.of(project);
+        final MavenLocatorContext context = new MavenLocatorContext(new MavenInstallationDiscovery(),
+                directory.toFile(), List.of());
+        assertThat(registry.prewarm(context, project.getProjectDir(), project)).succeedsWithin(1, TimeUnit.MINUTES);
+        registry.close();
+    }
+
+    @Test
+    void sameWorkerPoolForBuild() {
+        final MavenRegistryService registry = MavenRegistryService.of(project);
+        final MavenWorkerPool pool = registry.getWorkerPool(MavenWorkerPool.Settings.DEFAULT);
+        assertThat(registry.getWorkerPool(new MavenWorkerPool.Settings(1, Duration.ZERO, 0))).isSameAs(pool);
+        assertThat(pool.getSettings()).isEqualTo(MavenWorkerPool.Settings.DEFAULT);
+        registry.close();
+        assertThat(registry.getWorkerPool(MavenWorkerPool.Settings.DEFAULT)).isNotSameAs(pool);
+    }
+
+    @Test
+    void pluginRegistersService() {
+        project.getPlugins().apply("com.github.dkorotych.gradle-maven-exec");
+        assertThat(project.getGradle().getSharedServices().getRegistrations().findByName(MavenRegistryService.NAME))
+                .isNotNull();
+    }
+}
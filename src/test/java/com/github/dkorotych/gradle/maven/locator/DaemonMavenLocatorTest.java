@@ -0,0 +1,84 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.locator;
+
+import com.github.dkorotych.gradle.maven.MavenInstallationDiscovery;
+import com.github.dkorotych.gradle.maven.exec.MavenExecutionMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.dkorotych.gradle.maven.TestUtility.createDaemonInstallation;
+import static com.github.dkorotych.gradle.maven.TestUtility.createMavenInstallation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DaemonMavenLocatorTest {
+    @TempDir
+    Path directory;
+    private final DaemonMavenLocator locator = new DaemonMavenLocator();
+
+    @Test
+    void mvndHome() throws Exception {
+        final Path mvndHome = createDaemonInstallation(directory.resolve("mvnd"));
+        assertThat(locator.locate(context(Map.of("MVND_HOME", mvndHome.toString()), Map.of(),
+                MavenExecutionMode.DAEMON)))
+                .contains(mvndHome);
+    }
+
+    @Test
+    void path() throws Exception {
+        final Path mvndHome = createDaemonInstallation(directory.resolve("mvnd"));
+        assertThat(locator.locate(context(Map.of("PATH", mvndHome.resolve("bin").toString()), Map.of(),
+                MavenExecutionMode.DAEMON)))
+                .contains(mvndHome.toRealPath());
+    }
+
+    @Test
+    void sdkman() throws Exception {
+        final Path mvndHome = createDaemonInstallation(directory.resolve("candidates")
+                .resolve("mvnd")
+                .resolve("current"));
+        assertThat(locator.locate(context(Map.of("SDKMAN_DIR", directory.toString()), Map.of(),
+                MavenExecutionMode.DAEMON)))
+                .contains(mvndHome);
+    }
+
+    @Test
+    void notDaemonMode() throws Exception {
+        final Path mvndHome = createDaemonInstallation(directory.resolve("mvnd"));
+        assertThat(locator.locate(context(Map.of("MVND_HOME", mvndHome.toString()), Map.of(),
+                MavenExecutionMode.FORK)))
+                .isEmpty();
+    }
+
+    @Test
+    void notDaemonInstallation() throws Exception {
+        final Path mavenHome = createMavenInstallation(directory.resolve("maven"));
+        assertThat(locator.locate(context(Map.of("MVND_HOME", mavenHome.toString()), Map.of(),
+                MavenExecutionMode.DAEMON)))
+                .isEmpty();
+    }
+
+    private static MavenLocatorContext context(final Map<String, String> environment,
+                                               final Map<String, String> properties,
+                                               final MavenExecutionMode executionMode) {
+        return new MavenLocatorContext(new MavenInstallationDiscovery(), null, List.of(), environment::get,
+                properties::get, executionMode);
+    }
+}
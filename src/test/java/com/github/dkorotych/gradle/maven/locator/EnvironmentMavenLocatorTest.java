@@ -0,0 +1,61 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.locator;
+
+import com.github.dkorotych.gradle.maven.MavenInstallationDiscovery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.dkorotych.gradle.maven.TestUtility.createMavenInstallation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnvironmentMavenLocatorTest {
+    @TempDir
+    Path first;
+    @TempDir
+    Path second;
+    private final EnvironmentMavenLocator locator = new EnvironmentMavenLocator();
+
+    @Test
+    void systemProperty() throws Exception {
+        createMavenInstallation(first);
+        createMavenInstallation(second);
+        assertThat(locator.locate(context(Map.of("MAVEN_HOME", second.toString()),
+                Map.of("maven.home", first.toString())))).contains(first);
+    }
+
+    @Test
+    void environment() throws Exception {
+        createMavenInstallation(second);
+        assertThat(locator.locate(context(Map.of("MAVEN_HOME", first.toString(), "M2_HOME", second.toString()),
+                Map.of("maven.home", " ")))).contains(second);
+    }
+
+    @Test
+    void notSet() {
+        assertThat(locator.locate(context(Map.of(), Map.of()))).isEmpty();
+    }
+
+    private static MavenLocatorContext context(final Map<String, String> environment,
+                                               final Map<String, String> properties) {
+        return new MavenLocatorContext(new MavenInstallationDiscovery(), null, List.of(), environment::get,
+                properties::get);
+    }
+}
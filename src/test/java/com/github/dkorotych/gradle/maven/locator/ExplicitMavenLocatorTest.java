@@ -0,0 +1,60 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.locator;
+
+import com.github.dkorotych.gradle.maven.IncorrectMavenInstallationDirectoryException;
+import com.github.dkorotych.gradle.maven.MavenInstallationDiscovery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.github.dkorotych.gradle.maven.TestUtility.createMavenInstallation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExplicitMavenLocatorTest {
+    @TempDir
+    Path directory;
+    private final ExplicitMavenLocator locator = new ExplicitMavenLocator();
+
+    @Test
+    void locate() throws Exception {
+        final Path mavenHome = createMavenInstallation(directory);
+        assertThat(locator.locate(context(mavenHome.toFile()))).contains(mavenHome);
+        assertThat(locator.locate(context(mavenHome.resolve("bin").toFile()))).contains(mavenHome);
+        assertThat(locator.locate(context(mavenHome.resolve("bin").resolve("mvn").toFile()))).contains(mavenHome);
+    }
+
+    @Test
+    void notSet() {
+        assertThat(locator.locate(context(null))).isEmpty();
+    }
+
+    @Test
+    void incorrect() {
+        assertThatThrownBy(() -> locator.locate(context(directory.toFile())))
+                .isInstanceOf(IncorrectMavenInstallationDirectoryException.class)
+                .hasMessageEndingWith("which is not a correct Maven installation directory");
+    }
+
+    private static MavenLocatorContext context(final File mavenDir) {
+        return new MavenLocatorContext(new MavenInstallationDiscovery(), mavenDir, List.of(), name -> null,
+                name -> null);
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.locator;
+
+import com.github.dkorotych.gradle.maven.MavenInstallationDiscovery;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MavenLocatorChainTest {
+    private final MavenLocatorContext context = new MavenLocatorContext(new MavenInstallationDiscovery(), null,
+            List.of(), name -> null, name -> null);
+
+    @Test
+    void defaults() {
+        assertThat(MavenLocatorChain.defaults().getLocators())
+                .extracting(MavenLocator::getName)
+                .startsWith("ExplicitMavenLocator", "DaemonMavenLocator", "WorkingDirectoryMavenLocator",
+                        "EnvironmentMavenLocator", "WrapperMavenLocator", "PathMavenLocator", "SdkmanMavenLocator");
+    }
+
+    @Test
+    void firstFound() {
+        final List<String> calls = new ArrayList<>();
+        final MavenLocatorChain chain = new MavenLocatorChain(List.of(
+                locator("third", 3, Path.of("third"), calls),
+                locator("second", 2, Path.of("second"), calls),
+                locator("first", 1, null, calls)));
+        assertThat(chain.locate(context)).contains(Path.of("second"));
+        assertThat(calls).containsExactly("first", "second");
+    }
+
+    @Test
+    void notFound() {
+        final List<String> calls = new ArrayList<>();
+        final MavenLocatorChain chain = new MavenLocatorChain(List.of(
+                locator("first", 1, null, calls),
+                locator("second", 2, null, calls)));
+        assertThat(chain.locate(context)).isEmpty();
+        assertThat(calls).containsExactly("first", "second");
+    }
+
+    @Test
+    void defaultOrder() {
+        final MavenLocator locator = context -> Optional.empty();
+        final List<MavenLocator> locators = new MavenLocatorChain(List.of(locator, new SdkmanMavenLocator()))
+                .getLocators();
+        assertThat(locators.get(0)).isInstanceOf(SdkmanMavenLocator.class);
+        assertThat(locators.get(1)).isSameAs(locator);
+    }
+
+    private static MavenLocator locator(final String name, final int order, final Path result,
+                                        final List<String> calls) {
+        return new MavenLocator() {
+            @Override
+            public Optional<Path> locate(final MavenLocatorContext context) {
+                calls.add(name);
+                return Optional.ofNullable(result);
+            }
+
+            @Override
+            public int getOrder() {
+                return order;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.locator;
+
+import com.github.dkorotych.gradle.maven.MavenInstallationDiscovery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.github.dkorotych.gradle.maven.TestUtility.createMavenInstallation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathMavenLocatorTest {
+    @TempDir
+    Path mavenHome;
+    @TempDir
+    Path directory;
+    private final PathMavenLocator locator = new PathMavenLocator();
+
+    @Test
+    void locate() throws Exception {
+        createMavenInstallation(mavenHome);
+        assertThat(locator.locate(context(directory + File.pathSeparator + mavenHome.resolve("bin"))))
+                .contains(mavenHome.toRealPath());
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void symbolicLink() throws Exception {
+        createMavenInstallation(mavenHome);
+        Files.createSymbolicLink(directory.resolve("mvn"), mavenHome.resolve("bin").resolve("mvn"));
+        assertThat(locator.locate(context(directory.toString()))).contains(mavenHome.toRealPath());
+    }
+
+    @Test
+    void notFound() {
+        assertThat(locator.locate(context(directory.toString()))).isEmpty();
+        assertThat(locator.locate(context(null))).isEmpty();
+    }
+
+    private static MavenLocatorContext context(final String path) {
+        return new MavenLocatorContext(new MavenInstallationDiscovery(), null, List.of(),
+                name -> "PATH".equals(name) ? path : null, name -> null);
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.locator;
+
+import com.github.dkorotych.gradle.maven.MavenInstallationDiscovery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.dkorotych.gradle.maven.TestUtility.createMavenInstallation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SdkmanMavenLocatorTest {
+    @TempDir
+    Path directory;
+    private final SdkmanMavenLocator locator = new SdkmanMavenLocator();
+
+    @Test
+    void sdkmanDirectory() throws Exception {
+        final Path mavenHome = createMavenInstallation(candidate(directory));
+        assertThat(locator.locate(context(Map.of("SDKMAN_DIR", directory.toString()), Map.of())))
+                .contains(mavenHome);
+    }
+
+    @Test
+    void userHome() throws Exception {
+        final Path mavenHome = createMavenInstallation(candidate(directory.resolve(".sdkman")));
+        assertThat(locator.locate(context(Map.of(), Map.of("user.home", directory.toString()))))
+                .contains(mavenHome);
+    }
+
+    @Test
+    void notInstalled() {
+        assertThat(locator.locate(context(Map.of("SDKMAN_DIR", directory.toString()), Map.of()))).isEmpty();
+        assertThat(locator.locate(context(Map.of(), Map.of()))).isEmpty();
+    }
+
+    private static Path candidate(final Path sdkman) {
+        return sdkman.resolve("candidates")
+                .resolve("maven")
+                .resolve("current");
+    }
+
+    private static MavenLocatorContext context(final Map<String, String> environment,
+                                               final Map<String, String> properties) {
+        return new MavenLocatorContext(new MavenInstallationDiscovery(), null, List.of(), environment::get,
+                properties::get);
+    }
+}
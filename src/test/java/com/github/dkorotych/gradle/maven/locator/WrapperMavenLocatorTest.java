@@ -0,0 +1,59 @@
+/**
+ * Copyright 2026 Dmitry Korotych
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dkorotych.gradle.maven.locator;
+
+import com.github.dkorotych.gradle.maven.MavenInstallationDiscovery;
+import com.github.dkorotych.gradle.maven.TestUtility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WrapperMavenLocatorTest {
+    @TempDir
+    Path empty;
+    @TempDir
+    Path project;
+    private final WrapperMavenLocator locator = new WrapperMavenLocator();
+
+    @Test
+    void locate() throws Exception {
+        TestUtility.prepareProject(true, project.toFile());
+        assertThat(locator.locate(context(empty.toFile(), empty.resolve("build").toFile(), project.toFile())))
+                .contains(project);
+    }
+
+    @Test
+    void skipWorkingDirectory() throws Exception {
+        TestUtility.prepareProject(true, project.toFile());
+        assertThat(locator.locate(context(project.toFile(), empty.toFile()))).isEmpty();
+    }
+
+    @Test
+    void notFound() throws Exception {
+        TestUtility.prepareProject(false, project.toFile());
+        assertThat(locator.locate(context(empty.toFile(), project.toFile()))).isEmpty();
+    }
+
+    private static MavenLocatorContext context(final File... directories) {
+        return new MavenLocatorContext(new MavenInstallationDiscovery(), null, List.of(directories), name -> null,
+                name -> null);
+    }
+}